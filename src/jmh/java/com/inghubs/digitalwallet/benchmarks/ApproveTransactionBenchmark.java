@@ -0,0 +1,68 @@
+package com.inghubs.digitalwallet.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.inghubs.digitalwallet.dtos.requests.*;
+import com.inghubs.digitalwallet.dtos.responses.ApproveTransactionResponse;
+import com.inghubs.digitalwallet.services.*;
+import com.inghubs.digitalwallet.utilities.enums.*;
+import com.inghubs.digitalwallet.utilities.security.CustomUserDetails;
+
+/**
+ * Approval of a pending deposit. Each invocation needs a fresh PENDING
+ * transaction, which is created outside the measured region; the approval
+ * itself is a few database round trips, so Level.Invocation overhead is noise.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApproveTransactionBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private WalletService walletService;
+    private TransactionService transactionService;
+    private CustomUserDetails employee;
+    private UUID walletId;
+    private UUID pendingTransactionId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        walletService = context.getBean(WalletService.class);
+        transactionService = context.getBean(TransactionService.class);
+        employee = BenchmarkApplication.employee();
+        walletId = BenchmarkApplication.createWallet(context).getId();
+    }
+
+    @Setup(Level.Invocation)
+    public void createPendingTransaction() {
+        pendingTransactionId = walletService.DepositWallet(DepositWalletRequest.builder()
+                .walletId(walletId)
+                .amount(Currency.TRY.toMinorUnits(10_000L))
+                .source("Benchmark Source")
+                .oppositePartyType(OppositePartyType.IBAN)
+                .build())
+                .getTransaction()
+                .getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ApproveTransactionResponse approveTransaction() {
+        return transactionService.ApproveTransaction(ApproveTransactionRequest.builder()
+                .transactionId(pendingTransactionId)
+                .status(TransactionStatus.APPROVED)
+                .build(), employee);
+    }
+}
@@ -0,0 +1,61 @@
+package com.inghubs.digitalwallet.benchmarks;
+
+import java.util.UUID;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.inghubs.digitalwallet.DigitalWalletApplication;
+import com.inghubs.digitalwallet.entities.*;
+import com.inghubs.digitalwallet.repositories.*;
+import com.inghubs.digitalwallet.utilities.enums.*;
+import com.inghubs.digitalwallet.utilities.security.CustomUserDetails;
+
+/**
+ * Boots the application on a random port against a private embedded H2
+ * database so service benchmarks measure the same beans production uses.
+ */
+final class BenchmarkApplication {
+
+    static final UUID SEEDED_CUSTOMER_ID = UUID.fromString("9ff06c7d-0790-4de5-b5a5-f0584aa4255f");
+    static final long OPENING_BALANCE = 1_000_000_000_000L;
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String... extraProperties) {
+        return new SpringApplicationBuilder(DigitalWalletApplication.class)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "logging.level.root=WARN",
+                        // Per-operation INFO lines would otherwise be echoed through the JMH parent and cost CPU time.
+                        "logging.level.com.inghubs.digitalwallet=WARN",
+                        "wallet.reconciliation.interval=86400000")
+                .properties(extraProperties)
+                .run();
+    }
+
+    static Wallet createWallet(ConfigurableApplicationContext context) {
+        Customer customer = context.getBean(CustomerRepository.class).findById(SEEDED_CUSTOMER_ID).orElseThrow();
+        return context.getBean(WalletRepository.class).save(Wallet.builder()
+                .customer(customer)
+                .walletName("Benchmark Wallet")
+                .currency(Currency.TRY)
+                .isActiveShopping(true)
+                .isActiveWithdraw(true)
+                .balance(OPENING_BALANCE)
+                .usableBalance(OPENING_BALANCE)
+                .build());
+    }
+
+    static CustomUserDetails employee() {
+        return CustomUserDetails.builder()
+                .id(UUID.randomUUID())
+                .customerId(SEEDED_CUSTOMER_ID)
+                .username("benchmark")
+                .role(Role.EMPLOYEE)
+                .build();
+    }
+}
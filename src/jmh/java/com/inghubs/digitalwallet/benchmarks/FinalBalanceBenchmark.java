@@ -0,0 +1,91 @@
+package com.inghubs.digitalwallet.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.inghubs.digitalwallet.engine.WalletBalances;
+import com.inghubs.digitalwallet.entities.*;
+import com.inghubs.digitalwallet.repositories.*;
+import com.inghubs.digitalwallet.utilities.enums.*;
+
+/**
+ * Cost of producing a wallet's final balance as the number of pending
+ * transactions grows. The incremental variant reads the tracked pending delta;
+ * the rescan variant is the old calculateFinalBalance, which summed every
+ * pending transaction on each balance update.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FinalBalanceBenchmark {
+
+    @Param({ "0", "100", "10000" })
+    private int pendingTransactions;
+
+    private ConfigurableApplicationContext context;
+    private WalletRepository walletRepository;
+    private TransactionRepository transactionRepository;
+    private UUID walletId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        walletRepository = context.getBean(WalletRepository.class);
+        transactionRepository = context.getBean(TransactionRepository.class);
+
+        Wallet wallet = BenchmarkApplication.createWallet(context);
+        walletId = wallet.getId();
+
+        List<Transaction> pending = new ArrayList<>(pendingTransactions);
+        long pendingDelta = 0L;
+        for (int i = 0; i < pendingTransactions; i++) {
+            TransactionType type = i % 2 == 0 ? TransactionType.DEPOSIT : TransactionType.WITHDRAW;
+            long amount = 150_000L + i;
+            pendingDelta += type == TransactionType.DEPOSIT ? amount : -amount;
+            pending.add(Transaction.builder()
+                    .wallet(wallet)
+                    .amount(amount)
+                    .type(type)
+                    .status(TransactionStatus.PENDING)
+                    .oppositeParty("Benchmark Party")
+                    .oppositePartyType(OppositePartyType.IBAN)
+                    .build());
+        }
+        transactionRepository.saveAll(pending);
+
+        wallet.setPendingDelta(pendingDelta);
+        wallet.setBalance(Math.addExact(wallet.getUsableBalance(), pendingDelta));
+        walletRepository.save(wallet);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long incrementalFinalBalance() {
+        Wallet wallet = walletRepository.findById(walletId).orElseThrow();
+        return WalletBalances.of(wallet).balance();
+    }
+
+    @Benchmark
+    public long rescanFinalBalance() {
+        Wallet wallet = walletRepository.findById(walletId).orElseThrow();
+        long finalBalance = wallet.getUsableBalance();
+        for (Transaction transaction : transactionRepository.findByWalletIdAndStatus(walletId,
+                TransactionStatus.PENDING)) {
+            finalBalance += transaction.getType() == TransactionType.DEPOSIT ? transaction.getAmount()
+                    : -transaction.getAmount();
+        }
+        return finalBalance;
+    }
+}
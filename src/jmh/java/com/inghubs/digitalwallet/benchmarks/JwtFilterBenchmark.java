@@ -0,0 +1,66 @@
+package com.inghubs.digitalwallet.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.inghubs.digitalwallet.utilities.security.*;
+
+/**
+ * One pass of the JWT filter for an authenticated request. LOOKUP loads the
+ * user from the database every time, CACHED goes through the principal cache
+ * and CLAIMS builds the principal from the token without any lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final String SEEDED_USERNAME = "Customer1User";
+
+    @Param({ "LOOKUP", "CACHED", "CLAIMS" })
+    public String principalSource;
+
+    private ConfigurableApplicationContext context;
+    private JwtFilter jwtFilter;
+    private String authorizationHeader;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(
+                "spring.cache.type=" + (principalSource.equals("LOOKUP") ? "none" : "caffeine"),
+                "jwt.stateless-principal=" + principalSource.equals("CLAIMS"));
+        // JwtFilter is both a component and a bean of the security config; take the one in the filter chain.
+        jwtFilter = context.getBean("authenticationJwtTokenFilter", JwtFilter.class);
+
+        CustomUserDetails userDetails = (CustomUserDetails) context.getBean(CustomUserDetailsService.class)
+                .loadUserByUsername(SEEDED_USERNAME);
+        authorizationHeader = "Bearer " + context.getBean(JwtUtility.class).generateToken(userDetails);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Authentication filterRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/wallet/list");
+        request.addHeader("Authorization", authorizationHeader);
+
+        jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
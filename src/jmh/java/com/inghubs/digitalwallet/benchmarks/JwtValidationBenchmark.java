@@ -0,0 +1,78 @@
+package com.inghubs.digitalwallet.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.inghubs.digitalwallet.utilities.enums.Role;
+import com.inghubs.digitalwallet.utilities.security.*;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Token handling cost per request in the JWT filter. doubleParse is the old
+ * path, which built a parser and verified the signature once to validate and
+ * again to read the subject. parseAndValidate verifies once with the shared
+ * parser; cachedParseAndValidate adds the verified-token cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtValidationBenchmark {
+
+    private static final String SECRET = "super_secret_key_for_jwt_signing_purposes";
+
+    private SecretKey key;
+    private JwtUtility uncachedJwtUtility;
+    private JwtUtility cachedJwtUtility;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        uncachedJwtUtility = jwtUtility(0);
+        cachedJwtUtility = jwtUtility(1_000);
+        token = uncachedJwtUtility.generateToken(CustomUserDetails.builder()
+                .id(UUID.randomUUID())
+                .customerId(BenchmarkApplication.SEEDED_CUSTOMER_ID)
+                .username("benchmark")
+                .role(Role.CUSTOMER)
+                .build());
+    }
+
+    @Benchmark
+    public String doubleParse() {
+        Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public Claims parseAndValidate() {
+        return uncachedJwtUtility.parseAndValidate(token);
+    }
+
+    @Benchmark
+    public Claims cachedParseAndValidate() {
+        return cachedJwtUtility.parseAndValidate(token);
+    }
+
+    private static JwtUtility jwtUtility(long verifiedCacheMaximumSize) {
+        JwtUtility jwtUtility = new JwtUtility();
+        ReflectionTestUtils.setField(jwtUtility, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtility, "jwtExpirationMs", 3_600_000);
+        ReflectionTestUtils.setField(jwtUtility, "keyVersion", "1");
+        ReflectionTestUtils.setField(jwtUtility, "verifiedCacheMaximumSize", verifiedCacheMaximumSize);
+        jwtUtility.init();
+        return jwtUtility;
+    }
+}
@@ -0,0 +1,92 @@
+package com.inghubs.digitalwallet.benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.inghubs.digitalwallet.engine.WalletBalances;
+import com.inghubs.digitalwallet.entities.Wallet;
+import com.inghubs.digitalwallet.utilities.enums.BalanceOperation;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyArithmeticBenchmark {
+
+    @Param({ "100", "10000" })
+    private int operations;
+
+    private long[] minorAmounts;
+    private Double[] boxedAmounts;
+    private BalanceOperation[] balanceOperations;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        minorAmounts = new long[operations];
+        boxedAmounts = new Double[operations];
+        balanceOperations = new BalanceOperation[operations];
+
+        for (int i = 0; i < operations; i++) {
+            long minor = random.nextLong(1, 100_000);
+            minorAmounts[i] = minor;
+            boxedAmounts[i] = minor / 100.0;
+            balanceOperations[i] = i % 2 == 0 ? BalanceOperation.COMPLETE_APPROVED_DEPOSIT
+                    : BalanceOperation.COMPLETE_APPROVED_WITHDRAW;
+        }
+    }
+
+    @Benchmark
+    public Double boxedDoubleBalanceUpdates() {
+        Double usableBalance = 0.0;
+        Double balance = 0.0;
+        for (int i = 0; i < operations; i++) {
+            Double amount = boxedAmounts[i];
+            if (balanceOperations[i] == BalanceOperation.COMPLETE_APPROVED_DEPOSIT) {
+                usableBalance = usableBalance + amount;
+            } else {
+                usableBalance = usableBalance - amount;
+            }
+            balance = usableBalance + 0.0;
+        }
+        return balance;
+    }
+
+    @Benchmark
+    public long primitiveMinorUnitBalanceUpdates() {
+        long usableBalance = 0L;
+        long balance = 0L;
+        for (int i = 0; i < operations; i++) {
+            long amount = minorAmounts[i];
+            if (balanceOperations[i] == BalanceOperation.COMPLETE_APPROVED_DEPOSIT) {
+                usableBalance = Math.addExact(usableBalance, amount);
+            } else {
+                usableBalance = Math.subtractExact(usableBalance, amount);
+            }
+            balance = Math.addExact(usableBalance, 0L);
+        }
+        return balance;
+    }
+
+    @Benchmark
+    public long walletBalancesApply() {
+        WalletBalances balances = new WalletBalances(0L, 0L, 0L);
+        for (int i = 0; i < operations; i++) {
+            balances = balances.apply(balanceOperations[i], minorAmounts[i], false);
+        }
+        return balances.balance();
+    }
+
+    @Benchmark
+    public long walletApplyInPlace() {
+        Wallet wallet = new Wallet();
+        for (int i = 0; i < operations; i++) {
+            WalletBalances.applyTo(wallet, balanceOperations[i], minorAmounts[i], false);
+        }
+        return wallet.getBalance();
+    }
+}
@@ -0,0 +1,90 @@
+package com.inghubs.digitalwallet.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.inghubs.digitalwallet.dtos.requests.TransferWalletRequest;
+import com.inghubs.digitalwallet.dtos.responses.TransferWalletResponse;
+import com.inghubs.digitalwallet.services.WalletService;
+import com.inghubs.digitalwallet.utilities.security.CustomUserDetails;
+
+/**
+ * Many threads transferring in both directions at once. {@code onePair} sends
+ * every thread through the same two wallets, half of them A to B and half
+ * B to A, which deadlocks without ordered locking. {@code manyPairs} spreads
+ * the same traffic over a pool of wallets for comparison. Each fork starts
+ * cold and, on a machine with few cores, the JIT competes with the 16 workers
+ * for CPU, so throughput keeps climbing for about 20 seconds; the warmup is
+ * long enough to cover that, otherwise whichever benchmark warms up slower
+ * looks slower.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 8, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@Threads(16)
+public class TransferContentionBenchmark {
+
+    private static final int POOL_SIZE = 64;
+
+    private ConfigurableApplicationContext context;
+    private WalletService walletService;
+    private CustomUserDetails employee;
+    private UUID[] walletIds;
+    private final AtomicInteger threadCounter = new AtomicInteger();
+
+    @State(Scope.Thread)
+    public static class Direction {
+
+        private boolean reversed;
+
+        @Setup(Level.Trial)
+        public void setUp(TransferContentionBenchmark benchmark) {
+            reversed = benchmark.threadCounter.getAndIncrement() % 2 == 1;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        walletService = context.getBean(WalletService.class);
+        employee = BenchmarkApplication.employee();
+        walletIds = new UUID[POOL_SIZE];
+        for (int i = 0; i < POOL_SIZE; i++) {
+            walletIds[i] = BenchmarkApplication.createWallet(context).getId();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TransferWalletResponse onePair(Direction direction) {
+        return direction.reversed ? this.transfer(walletIds[1], walletIds[0]) : this.transfer(walletIds[0], walletIds[1]);
+    }
+
+    @Benchmark
+    public TransferWalletResponse manyPairs() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int source = random.nextInt(POOL_SIZE);
+        int destination = (source + 1 + random.nextInt(POOL_SIZE - 1)) % POOL_SIZE;
+        return this.transfer(walletIds[source], walletIds[destination]);
+    }
+
+    private TransferWalletResponse transfer(UUID sourceWalletId, UUID destinationWalletId) {
+        return walletService.TransferWallet(TransferWalletRequest.builder()
+                .sourceWalletId(sourceWalletId)
+                .destinationWalletId(destinationWalletId)
+                .amount(1L)
+                .build(), employee);
+    }
+}
@@ -0,0 +1,99 @@
+package com.inghubs.digitalwallet.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.inghubs.digitalwallet.utilities.identifiers.UuidV7Generator;
+
+/**
+ * Insert throughput into a table keyed by a UUID primary key that already
+ * holds {@code existingRows} rows, with random v4 keys vs. time-ordered v7
+ * keys. The table lives in a file-backed H2 database so page splits and cache
+ * misses on the primary key index show up as they would on disk. Filling
+ * 10M rows takes several minutes per trial and is not measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UuidInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    public enum KeyVersion {
+        V4(UUID::randomUUID),
+        V7(UuidV7Generator::nextUuid);
+
+        private final Supplier<UUID> generator;
+
+        KeyVersion(Supplier<UUID> generator) {
+            this.generator = generator;
+        }
+    }
+
+    @Param({ "V4", "V7" })
+    private KeyVersion keyVersion;
+
+    @Param({ "10000000" })
+    private int existingRows;
+
+    private Path directory;
+    private Connection connection;
+    private PreparedStatement insert;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        directory = Files.createTempDirectory("uuid-insert-benchmark");
+        connection = DriverManager.getConnection(
+                "jdbc:h2:file:" + directory.resolve("keys") + ";CACHE_SIZE=65536", "sa", "");
+        connection.setAutoCommit(false);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE transaction_key (id UUID PRIMARY KEY, amount BIGINT NOT NULL)");
+        }
+
+        insert = connection.prepareStatement("INSERT INTO transaction_key (id, amount) VALUES (?, ?)");
+        for (int inserted = 0; inserted < existingRows; inserted += BATCH_SIZE) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, SQLException {
+        insert.close();
+        connection.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /** One JDBC batch of {@value #BATCH_SIZE} rows and a commit, as a batch deposit would send. */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, keyVersion.generator.get());
+            insert.setLong(2, i);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+}
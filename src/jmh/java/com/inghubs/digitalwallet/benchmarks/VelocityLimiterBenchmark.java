@@ -0,0 +1,53 @@
+package com.inghubs.digitalwallet.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.inghubs.digitalwallet.utilities.enums.Currency;
+import com.inghubs.digitalwallet.utilities.velocity.VelocityLimiter;
+import com.inghubs.digitalwallet.utilities.velocity.VelocityWindow;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VelocityLimiterBenchmark {
+
+    private static final int WALLETS = 10_000;
+
+    private VelocityLimiter limiter;
+    private UUID[] walletIds;
+
+    @Setup
+    public void setUp() {
+        // Limits high enough that every withdrawal is recorded, so each call does the full check and record.
+        limiter = new VelocityLimiter(Long.MAX_VALUE / 1_000, Long.MAX_VALUE / 1_000, Long.MAX_VALUE / 1_000,
+                null, null);
+        walletIds = new UUID[WALLETS];
+        for (int i = 0; i < WALLETS; i++) {
+            walletIds[i] = UUID.randomUUID();
+        }
+    }
+
+    @Benchmark
+    public VelocityWindow oneWallet() {
+        return limiter.tryRecord(walletIds[0], Currency.TRY, 1L);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public VelocityWindow oneWalletEightThreads() {
+        return limiter.tryRecord(walletIds[0], Currency.TRY, 1L);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public VelocityWindow manyWalletsEightThreads() {
+        return limiter.tryRecord(walletIds[ThreadLocalRandom.current().nextInt(WALLETS)], Currency.TRY, 1L);
+    }
+}
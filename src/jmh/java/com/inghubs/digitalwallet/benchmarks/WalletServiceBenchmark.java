@@ -0,0 +1,64 @@
+package com.inghubs.digitalwallet.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.inghubs.digitalwallet.dtos.requests.*;
+import com.inghubs.digitalwallet.dtos.responses.*;
+import com.inghubs.digitalwallet.services.WalletService;
+import com.inghubs.digitalwallet.utilities.enums.OppositePartyType;
+import com.inghubs.digitalwallet.utilities.security.CustomUserDetails;
+
+/**
+ * Deposit and withdraw hot paths below the approval threshold, so every call
+ * settles immediately. Throughput gives ops/s and sample time gives p99.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WalletServiceBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private WalletService walletService;
+    private CustomUserDetails employee;
+    private UUID walletId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        walletService = context.getBean(WalletService.class);
+        employee = BenchmarkApplication.employee();
+        walletId = BenchmarkApplication.createWallet(context).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public DepositWalletResponse depositWallet() {
+        return walletService.DepositWallet(DepositWalletRequest.builder()
+                .walletId(walletId)
+                .amount(1_000L)
+                .source("Benchmark Source")
+                .oppositePartyType(OppositePartyType.IBAN)
+                .build());
+    }
+
+    @Benchmark
+    public WithdrawWalletResponse withdrawWallet() {
+        return walletService.WithdrawWallet(WithdrawWalletRequest.builder()
+                .walletId(walletId)
+                .amount(1_000L)
+                .destination("Benchmark Destination")
+                .oppositePartyType(OppositePartyType.IBAN)
+                .build(), employee);
+    }
+}
@@ -0,0 +1,29 @@
+package com.inghubs.digitalwallet.approval;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.inghubs.digitalwallet.utilities.enums.*;
+
+/**
+ * Flat, immutable view of a pending transaction and its wallet, read in one
+ * query so rules can be evaluated off the persistence context and in parallel.
+ * {@code usableBalance} and {@code recentAmount} are adjusted as earlier
+ * transactions of the same wallet are decided in the same run.
+ */
+public record ApprovalCandidate(UUID transactionId, UUID walletId, UUID customerId, Currency currency,
+        TransactionType type, long amount, String oppositeParty, OppositePartyType oppositePartyType,
+        Instant createdAt, long usableBalance, long recentAmount) {
+
+    public ApprovalCandidate(UUID transactionId, UUID walletId, UUID customerId, Currency currency,
+            TransactionType type, long amount, String oppositeParty, OppositePartyType oppositePartyType,
+            Instant createdAt, long usableBalance) {
+        this(transactionId, walletId, customerId, currency, type, amount, oppositeParty, oppositePartyType,
+                createdAt, usableBalance, 0L);
+    }
+
+    public ApprovalCandidate withBalances(long usableBalance, long recentAmount) {
+        return new ApprovalCandidate(transactionId, walletId, customerId, currency, type, amount, oppositeParty,
+                oppositePartyType, createdAt, usableBalance, recentAmount);
+    }
+}
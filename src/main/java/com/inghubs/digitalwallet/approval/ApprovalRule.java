@@ -0,0 +1,16 @@
+package com.inghubs.digitalwallet.approval;
+
+import com.inghubs.digitalwallet.utilities.enums.ApprovalDecision;
+
+/**
+ * A single auto-approval rule. Rules are Spring beans evaluated in
+ * {@link org.springframework.core.annotation.Order} order; the first one that
+ * does not abstain decides. Implementations must be stateless and cheap, since
+ * they run on many threads for every pending transaction.
+ */
+public interface ApprovalRule {
+
+    String getName();
+
+    ApprovalDecision evaluate(ApprovalCandidate candidate);
+}
@@ -0,0 +1,237 @@
+package com.inghubs.digitalwallet.approval;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.inghubs.digitalwallet.engine.BalanceEngine;
+import com.inghubs.digitalwallet.repositories.TransactionRepository;
+import com.inghubs.digitalwallet.repositories.TransactionRepository.RecentAmountView;
+import com.inghubs.digitalwallet.services.ResolutionGuard;
+import com.inghubs.digitalwallet.services.TransactionService;
+import com.inghubs.digitalwallet.utilities.enums.*;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Walks the pending queue in batches and lets the {@link ApprovalRule}s decide
+ * each transaction. Wallets are evaluated in parallel; the transactions of one
+ * wallet are evaluated in queue order against balances that reflect the
+ * decisions already taken in the run. Approvals and denials go through the
+ * bulk resolution path, so they take the wallet locks and emit the same
+ * events as an employee's decision. Evaluation reads balances without the
+ * locks, so each approval is evaluated again under its wallet's lock and
+ * stays pending if a change that landed in between overturns it. Held and
+ * undecided transactions stay pending for a human.
+ */
+@Component
+@ConditionalOnProperty(name = "wallet.auto-approval.enabled", havingValue = "true")
+public class AutoApprovalEngine {
+
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionService transactionService;
+    private final List<ApprovalRule> rules;
+    private final List<Timer> ruleTimers;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final Duration velocityWindow;
+
+    @Autowired(required = false)
+    private BalanceEngine balanceEngine;
+
+    private static final Logger logger = LoggerFactory.getLogger(AutoApprovalEngine.class);
+
+    public AutoApprovalEngine(TransactionRepository transactionRepository, TransactionService transactionService,
+            List<ApprovalRule> rules, MeterRegistry meterRegistry,
+            @Value("${wallet.auto-approval.batch-size}") int batchSize,
+            @Value("${wallet.auto-approval.velocity-window}") long velocityWindowMs) {
+        this.transactionRepository = transactionRepository;
+        this.transactionService = transactionService;
+        this.rules = List.copyOf(rules);
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.velocityWindow = Duration.ofMillis(velocityWindowMs);
+        this.ruleTimers = this.rules.stream()
+                .map(rule -> Timer.builder("wallet.approval.rule.latency")
+                        .description("Time to evaluate one auto-approval rule against one pending transaction")
+                        .tag("rule", rule.getName())
+                        .register(meterRegistry))
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${wallet.auto-approval.interval}", initialDelayString = "${wallet.auto-approval.interval}")
+    public synchronized void run() {
+        try {
+            Instant createdAt = Instant.EPOCH;
+            UUID id = MIN_ID;
+            int approved = 0;
+            int denied = 0;
+
+            List<ApprovalCandidate> candidates;
+            do {
+                candidates = transactionRepository.findApprovalCandidates(TransactionStatus.PENDING, createdAt, id,
+                        Limit.of(batchSize));
+                if (candidates.isEmpty()) {
+                    break;
+                }
+
+                Map<ApprovalDecision, List<ApprovalCandidate>> decisions = this.EvaluateBatch(candidates);
+                approved += this.Resolve(decisions.get(ApprovalDecision.APPROVE), TransactionStatus.APPROVED);
+                denied += this.Resolve(decisions.get(ApprovalDecision.DENY), TransactionStatus.DENIED);
+
+                createdAt = candidates.getLast().createdAt();
+                id = candidates.getLast().transactionId();
+            } while (candidates.size() == batchSize);
+
+            logger.info("Auto-approval run approved {} and denied {} pending transaction(s).", approved, denied);
+        } catch (RuntimeException e) {
+            logger.error("Auto-approval run failed, undecided transactions stay pending.", e);
+        }
+    }
+
+    private Map<ApprovalDecision, List<ApprovalCandidate>> EvaluateBatch(List<ApprovalCandidate> candidates) {
+        Map<UUID, List<ApprovalCandidate>> candidatesByWallet = candidates.stream()
+                .collect(Collectors.groupingBy(ApprovalCandidate::walletId, LinkedHashMap::new, Collectors.toList()));
+
+        Map<UUID, Map<TransactionType, Long>> recentAmounts = new HashMap<>();
+        for (RecentAmountView view : transactionRepository.sumAmountByWalletResolvedSince(candidatesByWallet.keySet(),
+                TransactionStatus.APPROVED, Instant.now().minus(velocityWindow))) {
+            recentAmounts.computeIfAbsent(view.getWalletId(), walletId -> new EnumMap<>(TransactionType.class))
+                    .put(view.getType(), view.getAmount());
+        }
+
+        return candidatesByWallet.values().parallelStream()
+                .flatMap(walletCandidates -> this.EvaluateWallet(walletCandidates,
+                        recentAmounts.getOrDefault(walletCandidates.getFirst().walletId(), Map.of())).stream())
+                .collect(Collectors.groupingBy(RuleOutcome::decision,
+                        Collectors.mapping(RuleOutcome::candidate, Collectors.toList())));
+    }
+
+    private List<RuleOutcome> EvaluateWallet(List<ApprovalCandidate> candidates,
+            Map<TransactionType, Long> recentAmountsByType) {
+        Map<TransactionType, Long> recentAmounts = new EnumMap<>(TransactionType.class);
+        recentAmounts.putAll(recentAmountsByType);
+        long usableBalance = candidates.getFirst().usableBalance();
+        if (balanceEngine != null) {
+            // The candidate query reads the persisted row, which lags the engine by up to one flush.
+            usableBalance = balanceEngine.usableBalance(candidates.getFirst().walletId(), usableBalance);
+        }
+
+        List<RuleOutcome> outcomes = new ArrayList<>();
+        for (ApprovalCandidate pending : candidates) {
+            ApprovalCandidate candidate = pending.withBalances(usableBalance,
+                    recentAmounts.getOrDefault(pending.type(), 0L));
+            RuleOutcome outcome = this.Evaluate(candidate);
+            if (outcome == null) {
+                continue;
+            }
+
+            outcomes.add(outcome);
+            if (outcome.decision() == ApprovalDecision.APPROVE) {
+                usableBalance += candidate.type() == TransactionType.DEPOSIT ? candidate.amount() : -candidate.amount();
+                recentAmounts.merge(candidate.type(), candidate.amount(), Long::sum);
+            }
+        }
+        return outcomes;
+    }
+
+    private RuleOutcome Evaluate(ApprovalCandidate candidate) {
+        for (int i = 0; i < rules.size(); i++) {
+            ApprovalRule rule = rules.get(i);
+            long start = System.nanoTime();
+            ApprovalDecision decision = rule.evaluate(candidate);
+            ruleTimers.get(i).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            if (decision != ApprovalDecision.ABSTAIN) {
+                meterRegistry.counter("wallet.approval.decisions", "rule", rule.getName(), "decision", decision.name())
+                        .increment();
+                logger.debug("Rule {} decided {} for transaction ID {}.", rule.getName(), decision,
+                        candidate.transactionId());
+                return new RuleOutcome(candidate, decision);
+            }
+        }
+        return null;
+    }
+
+    private int Resolve(List<ApprovalCandidate> candidates, TransactionStatus status) {
+        if (candidates == null || candidates.isEmpty()) {
+            return 0;
+        }
+        List<UUID> transactionIds = candidates.stream().map(ApprovalCandidate::transactionId).toList();
+        // Denying needs no funds, so only approvals are checked again under the lock.
+        ResolutionGuard guard = status == TransactionStatus.APPROVED ? this.ApprovalGuard(candidates) : null;
+        return transactionService.ResolvePendingTransactions(transactionIds, status, guard)
+                .getAppliedCount();
+    }
+
+    /**
+     * Evaluates each approval again under its wallet's lock, with the usable
+     * balance the wallet has then and the approved amounts re-read from the
+     * database, plus the approvals of the same wallet let through before it.
+     * Rule metrics are not recorded again.
+     */
+    private ResolutionGuard ApprovalGuard(List<ApprovalCandidate> candidates) {
+        Map<UUID, ApprovalCandidate> candidatesById = candidates.stream()
+                .collect(Collectors.toMap(ApprovalCandidate::transactionId, candidate -> candidate));
+        // Resolution chunks hold whole wallets, so a wallet's amounts are read once, under its lock.
+        Map<UUID, Map<TransactionType, Long>> recentAmounts = new HashMap<>();
+
+        return (transaction, usableBalance) -> {
+            ApprovalCandidate candidate = candidatesById.get(transaction.getId());
+            Map<TransactionType, Long> walletAmounts = recentAmounts.computeIfAbsent(candidate.walletId(),
+                    this::RecentAmounts);
+            ApprovalDecision decision = this.Decide(candidate.withBalances(usableBalance,
+                    walletAmounts.getOrDefault(candidate.type(), 0L)));
+            if (decision != ApprovalDecision.APPROVE) {
+                logger.info("Approval of transaction ID {} was overturned under the wallet lock ({}), leaving it pending.",
+                        candidate.transactionId(), decision);
+                return "Auto-approval no longer holds (" + decision + ").";
+            }
+
+            walletAmounts.merge(candidate.type(), candidate.amount(), Long::sum);
+            return null;
+        };
+    }
+
+    private Map<TransactionType, Long> RecentAmounts(UUID walletId) {
+        Map<TransactionType, Long> amounts = new EnumMap<>(TransactionType.class);
+        for (RecentAmountView view : transactionRepository.sumAmountByWalletResolvedSince(List.of(walletId),
+                TransactionStatus.APPROVED, Instant.now().minus(velocityWindow))) {
+            amounts.put(view.getType(), view.getAmount());
+        }
+        return amounts;
+    }
+
+    private ApprovalDecision Decide(ApprovalCandidate candidate) {
+        for (ApprovalRule rule : rules) {
+            ApprovalDecision decision = rule.evaluate(candidate);
+            if (decision != ApprovalDecision.ABSTAIN) {
+                return decision;
+            }
+        }
+        return ApprovalDecision.ABSTAIN;
+    }
+
+    private record RuleOutcome(ApprovalCandidate candidate, ApprovalDecision decision) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.inghubs.digitalwallet.approval;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import com.inghubs.digitalwallet.utilities.enums.ApprovalDecision;
+import com.inghubs.digitalwallet.utilities.enums.TransactionType;
+
+/**
+ * Rule that returns a fixed decision when its predicate matches and abstains
+ * otherwise. The factory methods copy their configuration into immutable sets
+ * and maps once, so evaluation is a lookup or a comparison. Configured amounts
+ * are in major units of the candidate's currency, like the velocity limits.
+ */
+public class PredicateApprovalRule implements ApprovalRule {
+
+    private final String name;
+    private final ApprovalDecision decision;
+    private final Predicate<ApprovalCandidate> predicate;
+
+    public PredicateApprovalRule(String name, ApprovalDecision decision, Predicate<ApprovalCandidate> predicate) {
+        this.name = name;
+        this.decision = decision;
+        this.predicate = predicate;
+    }
+
+    public static PredicateApprovalRule insufficientFunds() {
+        return new PredicateApprovalRule("insufficient-funds", ApprovalDecision.DENY,
+                candidate -> candidate.type() == TransactionType.WITHDRAW
+                        && candidate.amount() > candidate.usableBalance());
+    }
+
+    public static PredicateApprovalRule velocity(long maxAmount) {
+        if (maxAmount <= 0) {
+            return new PredicateApprovalRule("velocity", ApprovalDecision.HOLD, candidate -> false);
+        }
+        return new PredicateApprovalRule("velocity", ApprovalDecision.HOLD,
+                candidate -> candidate.type() == TransactionType.WITHDRAW
+                        && candidate.recentAmount() + candidate.amount()
+                                > candidate.currency().toMinorUnits(maxAmount));
+    }
+
+    public static PredicateApprovalRule trustedParties(Set<String> oppositeParties) {
+        Set<String> trusted = Set.copyOf(oppositeParties);
+        return new PredicateApprovalRule("trusted-party", ApprovalDecision.APPROVE,
+                candidate -> candidate.oppositeParty() != null && trusted.contains(candidate.oppositeParty()));
+    }
+
+    public static PredicateApprovalRule customerLimits(Map<UUID, Long> limits) {
+        Map<UUID, Long> customerLimits = Map.copyOf(limits);
+        return new PredicateApprovalRule("customer-limit", ApprovalDecision.APPROVE, candidate -> {
+            Long limit = customerLimits.get(candidate.customerId());
+            return limit != null && candidate.amount() <= candidate.currency().toMinorUnits(limit);
+        });
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public ApprovalDecision evaluate(ApprovalCandidate candidate) {
+        return predicate.test(candidate) ? decision : ApprovalDecision.ABSTAIN;
+    }
+}
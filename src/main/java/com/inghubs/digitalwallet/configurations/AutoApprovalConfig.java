@@ -0,0 +1,59 @@
+package com.inghubs.digitalwallet.configurations;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+
+import com.inghubs.digitalwallet.approval.ApprovalRule;
+import com.inghubs.digitalwallet.approval.PredicateApprovalRule;
+
+/**
+ * Built-in auto-approval rules. Rules that deny or hold run before rules that
+ * approve, so an allow-list never lets an overdrawing or too-fast withdrawal
+ * through. Further rules can be added as {@link ApprovalRule} beans.
+ */
+@Configuration
+@ConditionalOnProperty(name = "wallet.auto-approval.enabled", havingValue = "true")
+public class AutoApprovalConfig {
+
+    @Bean
+    @Order(100)
+    public ApprovalRule insufficientFundsRule() {
+        return PredicateApprovalRule.insufficientFunds();
+    }
+
+    @Bean
+    @Order(200)
+    public ApprovalRule velocityRule(@Value("${wallet.auto-approval.velocity-max-amount}") long maxAmount) {
+        return PredicateApprovalRule.velocity(maxAmount);
+    }
+
+    @Bean
+    @Order(300)
+    public ApprovalRule trustedPartyRule(@Value("${wallet.auto-approval.trusted-parties:}") List<String> parties) {
+        return PredicateApprovalRule.trustedParties(new HashSet<>(parties));
+    }
+
+    @Bean
+    @Order(400)
+    public ApprovalRule customerLimitRule(@Value("${wallet.auto-approval.customer-limits:}") List<String> entries) {
+        Map<UUID, Long> limits = new HashMap<>();
+        for (String entry : entries) {
+            int separator = entry.indexOf(':');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Customer limit must be customerId:amount, got: " + entry);
+            }
+            limits.put(UUID.fromString(entry.substring(0, separator).trim()),
+                    Long.parseLong(entry.substring(separator + 1).trim()));
+        }
+        return PredicateApprovalRule.customerLimits(limits);
+    }
+}
@@ -0,0 +1,49 @@
+package com.inghubs.digitalwallet.configurations;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.event.AbstractAuthenticationFailureEvent;
+
+import com.inghubs.digitalwallet.repositories.OutboxEventRepository;
+import com.inghubs.digitalwallet.repositories.TransactionRepository;
+import com.inghubs.digitalwallet.utilities.enums.TransactionStatus;
+import com.inghubs.digitalwallet.utilities.metrics.WalletMetrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@Configuration
+public class MetricsConfig {
+
+    private final WalletMetrics walletMetrics;
+
+    public MetricsConfig(WalletMetrics walletMetrics) {
+        this.walletMetrics = walletMetrics;
+    }
+
+    /**
+     * Pending-transaction backlog, counted on the status index whenever the
+     * registry is scraped.
+     */
+    @Bean
+    public MeterBinder pendingTransactionsMetrics(TransactionRepository transactionRepository) {
+        return registry -> Gauge.builder("wallet.transactions.pending", transactionRepository,
+                repository -> repository.countByStatus(TransactionStatus.PENDING))
+                .description("Transactions waiting for approval")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder outboxBacklogMetrics(OutboxEventRepository outboxEventRepository) {
+        return registry -> Gauge.builder("wallet.outbox.backlog", outboxEventRepository,
+                OutboxEventRepository::countByPublishedAtIsNull)
+                .description("Outbox events not yet handed to the sinks")
+                .register(registry);
+    }
+
+    @EventListener
+    public void onAuthenticationFailure(AbstractAuthenticationFailureEvent event) {
+        walletMetrics.authenticationFailed("bad_credentials");
+    }
+}
@@ -1,9 +1,12 @@
 package com.inghubs.digitalwallet.configurations;
 
+import jakarta.servlet.DispatcherType;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
@@ -11,6 +14,8 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import com.inghubs.digitalwallet.utilities.enums.Role;
+import com.inghubs.digitalwallet.utilities.security.CustomUserDetails;
 import com.inghubs.digitalwallet.utilities.security.CustomUserDetailsService;
 import com.inghubs.digitalwallet.utilities.security.EntryPoint;
 import com.inghubs.digitalwallet.utilities.security.JwtFilter;
@@ -44,7 +49,14 @@ public class WebSecurityConfig {
                 .sessionManagement(
                         sessionManagement -> sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorizeRequests -> authorizeRequests
-                        .requestMatchers("/swagger-ui/**", "/v3/api-docs*/**", "/h2-console/**", "/actuator/**", "/api/auth/**", "/").permitAll()                                                                                     
+                        // Async dispatches (SSE, streamed export) belong to a request that was already authorized,
+                        // and error dispatches render a status (e.g. 403) that security itself has decided.
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+                        .requestMatchers("/swagger-ui/**", "/v3/api-docs*/**", "/h2-console/**", "/actuator/health/**", "/actuator/prometheus", "/api/auth/**", "/").permitAll()
+                        // The remaining actuator endpoints can read or evict internal state, e.g. DELETE /actuator/caches.
+                        .requestMatchers("/actuator/**").access((authentication, context) -> new AuthorizationDecision(
+                                authentication.get().getPrincipal() instanceof CustomUserDetails userDetails
+                                        && userDetails.getRole() == Role.EMPLOYEE))
                         .anyRequest().authenticated());
 
         http.addFilterBefore(authenticationJwtTokenFilter(), UsernamePasswordAuthenticationFilter.class);
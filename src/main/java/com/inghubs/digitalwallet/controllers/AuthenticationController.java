@@ -30,6 +30,6 @@ public class AuthenticationController {
                         request.getPassword()));
                         
         CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
-        return jwtUtils.generateToken(userDetails.getUsername());
+        return jwtUtils.generateToken(userDetails);
     }
 }
@@ -0,0 +1,34 @@
+package com.inghubs.digitalwallet.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import com.inghubs.digitalwallet.dtos.responses.ReloadThresholdsResponse;
+import com.inghubs.digitalwallet.services.ThresholdService;
+import com.inghubs.digitalwallet.utilities.security.CustomUserDetails;
+
+import io.swagger.v3.oas.annotations.*;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/api/threshold")
+@Tag(name = "Threshold API", description = "Operations related to pending-approval thresholds")
+public class ThresholdController {
+
+    @Autowired
+    private ThresholdService thresholdService;
+
+    @Operation(summary = "Reload thresholds", description = "Reloads threshold policies and customer tiers into the in-memory snapshot.")
+    @ApiResponse(responseCode = "200", description = "Thresholds reloaded successfully.")
+    @ApiResponse(responseCode = "403", description = "This customer is not authorized to perform this action.")
+    @PostMapping("/reload")
+    public ResponseEntity<ReloadThresholdsResponse> reloadThresholds(Authentication authentication) {
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+
+        ReloadThresholdsResponse response = thresholdService.ReloadThresholds(userDetails);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -2,10 +2,13 @@ package com.inghubs.digitalwallet.controllers;
 
 import java.util.UUID;
 
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.security.core.Authentication;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.inghubs.digitalwallet.dtos.requests.*;
 import com.inghubs.digitalwallet.dtos.responses.*;
@@ -25,30 +28,56 @@ public class TransactionController {
     @Autowired
     private TransactionService transactionService;
 
-    @Operation(summary = "List transactions for a wallet", description = "Lists all transactions for a specific wallet.")
+    @Operation(summary = "List transactions for a wallet", description = "Lists transactions for a specific wallet, newest first, one page at a time.")
     @ApiResponse(responseCode = "200", description = "Transactions retrieved successfully.")
+    @ApiResponse(responseCode = "400", description = "Validation failed.")
     @ApiResponse(responseCode = "403", description = "This customer is not authorized to perform this action.")
     @ApiResponse(responseCode = "404", description = "Wallet not found.")
     @GetMapping("/{walletId}")
-    public ResponseEntity<ListTransactionsResponse> listTransactions(@PathVariable UUID walletId, Authentication authentication) {
+    public ResponseEntity<ListTransactionsResponse> listTransactions(@PathVariable UUID walletId, @Valid @ParameterObject ListTransactionsRequest request, Authentication authentication) {
 
         CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
 
-        ListTransactionsResponse response = transactionService.ListTransactions(walletId, userDetails);
+        ListTransactionsResponse response = transactionService.ListTransactions(walletId, request, userDetails);
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "List all transactions", description = "Lists all transactions.")
+    @Operation(summary = "List all transactions", description = "Lists transactions across all wallets, newest first, one page at a time.")
     @ApiResponse(responseCode = "200", description = "Transactions retrieved successfully.")
+    @ApiResponse(responseCode = "400", description = "Validation failed.")
     @ApiResponse(responseCode = "403", description = "This customer is not authorized to perform this action.")
     @GetMapping
-    public ResponseEntity<ListTransactionsResponse> listAllTransactions(Authentication authentication) {
+    public ResponseEntity<ListTransactionsResponse> listAllTransactions(@Valid @ParameterObject ListTransactionsRequest request, Authentication authentication) {
         CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
 
-        ListTransactionsResponse response = transactionService.ListTransactions(userDetails);
+        ListTransactionsResponse response = transactionService.ListTransactions(request, userDetails);
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "List pending transactions", description = "Lists the pending-approval work queue, oldest first, one page at a time.")
+    @ApiResponse(responseCode = "200", description = "Pending transactions retrieved successfully.")
+    @ApiResponse(responseCode = "400", description = "Validation failed.")
+    @ApiResponse(responseCode = "403", description = "This customer is not authorized to perform this action.")
+    @GetMapping("/pending")
+    public ResponseEntity<ListTransactionsResponse> listPendingTransactions(@Valid @ParameterObject ListPendingTransactionsRequest request, Authentication authentication) {
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+
+        ListTransactionsResponse response = transactionService.ListPendingTransactions(request, userDetails);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Export all transactions", description = "Streams every transaction as newline-delimited JSON in creation order.")
+    @ApiResponse(responseCode = "200", description = "Transactions exported successfully.")
+    @ApiResponse(responseCode = "403", description = "This customer is not authorized to perform this action.")
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(Authentication authentication) {
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+
+        StreamingResponseBody response = transactionService.ExportTransactions(userDetails);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transactions.ndjson\"")
+                .body(response);
+    }
 
     @Operation(summary = "Approve a transaction", description = "Approves a specific transaction.")
     @ApiResponse(responseCode = "200", description = "Transaction approved successfully.")
@@ -62,4 +91,16 @@ public class TransactionController {
         ApproveTransactionResponse response = transactionService.ApproveTransaction(request, userDetails);
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "Approve transactions in bulk", description = "Approves or denies many pending transactions at once, grouped by wallet.")
+    @ApiResponse(responseCode = "200", description = "Bulk approval processed; rejected items are reported per item.")
+    @ApiResponse(responseCode = "400", description = "Validation failed.")
+    @ApiResponse(responseCode = "403", description = "This customer is not authorized to approve/reject transactions.")
+    @PostMapping("/approve/bulk")
+    public ResponseEntity<BulkApproveTransactionResponse> bulkApproveTransactions(@Valid @RequestBody BulkApproveTransactionRequest request, Authentication authentication) {
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+
+        BulkApproveTransactionResponse response = transactionService.BulkApproveTransactions(request, userDetails);
+        return ResponseEntity.ok(response);
+    }
 }
@@ -8,13 +8,17 @@ import jakarta.validation.Valid;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.inghubs.digitalwallet.dtos.requests.*;
 import com.inghubs.digitalwallet.dtos.responses.*;
+import com.inghubs.digitalwallet.services.IdempotencyService;
 import com.inghubs.digitalwallet.services.WalletService;
+import com.inghubs.digitalwallet.services.WalletStreamService;
 import com.inghubs.digitalwallet.utilities.security.CustomUserDetails;
 
 @RestController
@@ -22,9 +26,15 @@ import com.inghubs.digitalwallet.utilities.security.CustomUserDetails;
 @Tag(name = "Wallet API", description = "Operations related to wallets")
 public class WalletController {
 
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     @Autowired
     private WalletService walletService;
-    
+    @Autowired
+    private IdempotencyService idempotencyService;
+    @Autowired
+    private WalletStreamService walletStreamService;
+
     @Operation(summary = "Create a new wallet for a customer", description = "Creates a new wallet for a specific customer.")
     @ApiResponse(responseCode = "200", description = "Wallet created successfully.")
     @ApiResponse(responseCode = "403", description = "This customer is not authorized to perform this action.")
@@ -49,15 +59,33 @@ public class WalletController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Stream balance changes of a customer's wallets", description = "Server-Sent Events stream: a snapshot of the wallets first, then BALANCE_CHANGED and TRANSACTION_STATUS_CHANGED events as they are committed. Pass walletId to follow a single wallet.")
+    @ApiResponse(responseCode = "200", description = "Stream opened.")
+    @ApiResponse(responseCode = "403", description = "This customer is not authorized to perform this action.")
+    @ApiResponse(responseCode = "404", description = "Customer or wallet not found.")
+    @GetMapping(path = "/{customerId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamWallets(@PathVariable UUID customerId, @RequestParam(required = false) UUID walletId,
+            Authentication authentication) {
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+
+        return walletStreamService.Subscribe(customerId, walletId, userDetails);
+    }
+
     @Operation(summary = "Deposit money into a customer's wallet", description = "Deposits money into a customer's wallet.")
     @ApiResponse(responseCode = "200", description = "Money deposited successfully")
     @ApiResponse(responseCode = "202", description = "Money deposit request has been accepted for processing.")
     @ApiResponse(responseCode = "400", description = "Validation failed.")
     @ApiResponse(responseCode = "403", description = "This customer is not authorized to perform this action.")
     @ApiResponse(responseCode = "404", description = "No wallet found for the customer.")
+    @ApiResponse(responseCode = "409", description = "A request with the same idempotency key is still in progress.")
     @PostMapping("/deposit")
-    public ResponseEntity<DepositWalletResponse> depositWallet(@Valid @RequestBody DepositWalletRequest request) {
-        DepositWalletResponse response = walletService.DepositWallet(request);
+    public ResponseEntity<DepositWalletResponse> depositWallet(@Valid @RequestBody DepositWalletRequest request,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            Authentication authentication) {
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+
+        DepositWalletResponse response = idempotencyService.Execute(idempotencyKey, "DEPOSIT", request, userDetails,
+                DepositWalletResponse.class, () -> walletService.DepositWallet(request));
         if (response.getIsPendingTransaction()) {
             return ResponseEntity.accepted().body(response);
         }
@@ -70,14 +98,50 @@ public class WalletController {
     @ApiResponse(responseCode = "400", description = "Validation failed.")
     @ApiResponse(responseCode = "403", description = "This customer is not authorized to perform this action.")
     @ApiResponse(responseCode = "404", description = "No wallet found for the customer.")
+    @ApiResponse(responseCode = "409", description = "A request with the same idempotency key is still in progress.")
     @PostMapping("/withdraw")
-    public ResponseEntity<WithdrawWalletResponse> withdrawWallet(@Valid @RequestBody WithdrawWalletRequest request, Authentication authentication) {
+    public ResponseEntity<WithdrawWalletResponse> withdrawWallet(@Valid @RequestBody WithdrawWalletRequest request,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            Authentication authentication) {
         CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
 
-        WithdrawWalletResponse response = walletService.WithdrawWallet(request, userDetails);
+        WithdrawWalletResponse response = idempotencyService.Execute(idempotencyKey, "WITHDRAW", request, userDetails,
+                WithdrawWalletResponse.class, () -> walletService.WithdrawWallet(request, userDetails));
         if (response.getIsPendingTransaction()) {
             return ResponseEntity.accepted().body(response);
         }
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "Transfer money between two wallets", description = "Debits the source wallet and credits the destination wallet in one transaction, recording a linked withdrawal and deposit. Both legs and the source wallet are returned.")
+    @ApiResponse(responseCode = "200", description = "Money transferred successfully")
+    @ApiResponse(responseCode = "400", description = "Validation failed.")
+    @ApiResponse(responseCode = "403", description = "This customer is not authorized to transfer from the source wallet.")
+    @ApiResponse(responseCode = "404", description = "Source or destination wallet not found.")
+    @ApiResponse(responseCode = "409", description = "A request with the same idempotency key is still in progress.")
+    @PostMapping("/transfer")
+    public ResponseEntity<TransferWalletResponse> transferWallet(@Valid @RequestBody TransferWalletRequest request,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            Authentication authentication) {
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+
+        TransferWalletResponse response = idempotencyService.Execute(idempotencyKey, "TRANSFER", request, userDetails,
+                TransferWalletResponse.class, () -> walletService.TransferWallet(request, userDetails));
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Deposit into and withdraw from many wallets at once", description = "Validates every operation up front, applies the valid ones in a single transaction and reports a result per operation.")
+    @ApiResponse(responseCode = "200", description = "Batch processed; see the per-operation results.")
+    @ApiResponse(responseCode = "400", description = "Validation failed.")
+    @ApiResponse(responseCode = "409", description = "A request with the same idempotency key is still in progress.")
+    @PostMapping("/batch")
+    public ResponseEntity<BatchWalletResponse> batchWallet(@Valid @RequestBody BatchWalletRequest request,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            Authentication authentication) {
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+
+        BatchWalletResponse response = idempotencyService.Execute(idempotencyKey, "BATCH", request, userDetails,
+                BatchWalletResponse.class, () -> walletService.BatchWallet(request, userDetails));
+        return ResponseEntity.ok(response);
+    }
 }
\ No newline at end of file
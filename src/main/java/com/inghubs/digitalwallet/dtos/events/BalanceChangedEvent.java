@@ -0,0 +1,27 @@
+package com.inghubs.digitalwallet.dtos.events;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.inghubs.digitalwallet.utilities.enums.*;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BalanceChangedEvent {
+
+    private UUID walletId;
+    private UUID transactionId;
+    private BalanceOperation operation;
+    private Currency currency;
+    private long amount;
+    private long balance;
+    private long usableBalance;
+    private Instant occurredAt;
+}
@@ -0,0 +1,29 @@
+package com.inghubs.digitalwallet.dtos.events;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.inghubs.digitalwallet.utilities.enums.*;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A transaction was created ({@code previousStatus} is null) or resolved.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransactionStatusChangedEvent {
+
+    private UUID transactionId;
+    private UUID walletId;
+    private TransactionType type;
+    private long amount;
+    private TransactionStatus previousStatus;
+    private TransactionStatus status;
+    private Instant occurredAt;
+}
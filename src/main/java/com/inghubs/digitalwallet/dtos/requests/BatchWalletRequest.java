@@ -0,0 +1,25 @@
+package com.inghubs.digitalwallet.dtos.requests;
+
+import java.util.List;
+
+import com.inghubs.digitalwallet.utilities.constants.WalletConstants;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@Builder
+public class BatchWalletRequest {
+
+    @Valid
+    @Size(max = WalletConstants.MAX_BATCH_SIZE, message = "Too many deposits in one batch.")
+    private List<DepositWalletRequest> deposits;
+
+    @Valid
+    @Size(max = WalletConstants.MAX_BATCH_SIZE, message = "Too many withdrawals in one batch.")
+    private List<WithdrawWalletRequest> withdrawals;
+}
@@ -0,0 +1,28 @@
+package com.inghubs.digitalwallet.dtos.requests;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.inghubs.digitalwallet.utilities.constants.WalletConstants;
+import com.inghubs.digitalwallet.utilities.enums.TransactionStatus;
+import com.inghubs.digitalwallet.utilities.validators.EnumValue;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@Builder
+public class BulkApproveTransactionRequest {
+
+    @NotEmpty(message = "Transaction IDs cannot be empty.")
+    @Size(max = WalletConstants.MAX_BULK_APPROVAL_SIZE, message = "Too many transactions in one bulk approval.")
+    private List<@NotNull(message = "Transaction ID cannot be null.") UUID> transactionIds;
+
+    @EnumValue(enumClass = TransactionStatus.class, message = "Invalid transaction status.")
+    private TransactionStatus status;
+}
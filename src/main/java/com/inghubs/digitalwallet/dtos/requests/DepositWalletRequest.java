@@ -20,9 +20,8 @@ public class DepositWalletRequest {
     @NotNull(message = "Transaction ID cannot be null.")
     private UUID walletId;
 
-    @NotNull(message = "Amount cannot be null.")
     @Positive(message = "Amount must be positive.")
-    private Double amount;
+    private long amount;
 
     @EnumValue(enumClass = OppositePartyType.class, message = "Invalid opposite party type.")
     private OppositePartyType oppositePartyType;
@@ -0,0 +1,23 @@
+package com.inghubs.digitalwallet.dtos.requests;
+
+import com.inghubs.digitalwallet.utilities.constants.WalletConstants;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ListPendingTransactionsRequest {
+
+    private String cursor;
+
+    @Min(value = 1, message = "Limit must be at least 1.")
+    @Max(value = WalletConstants.MAX_PAGE_SIZE, message = "Limit cannot exceed " + WalletConstants.MAX_PAGE_SIZE + ".")
+    private Integer limit;
+}
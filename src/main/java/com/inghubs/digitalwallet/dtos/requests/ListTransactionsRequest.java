@@ -0,0 +1,46 @@
+package com.inghubs.digitalwallet.dtos.requests;
+
+import java.time.Instant;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.inghubs.digitalwallet.utilities.constants.WalletConstants;
+import com.inghubs.digitalwallet.utilities.enums.TransactionStatus;
+import com.inghubs.digitalwallet.utilities.enums.TransactionType;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ListTransactionsRequest {
+
+    private TransactionStatus status;
+
+    private TransactionType type;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Instant from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Instant to;
+
+    @PositiveOrZero(message = "Minimum amount cannot be negative.")
+    private Long minAmount;
+
+    @PositiveOrZero(message = "Maximum amount cannot be negative.")
+    private Long maxAmount;
+
+    private String cursor;
+
+    @Min(value = 1, message = "Limit must be at least 1.")
+    @Max(value = WalletConstants.MAX_PAGE_SIZE, message = "Limit cannot exceed " + WalletConstants.MAX_PAGE_SIZE + ".")
+    private Integer limit;
+}
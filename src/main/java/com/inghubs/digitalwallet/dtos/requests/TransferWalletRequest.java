@@ -0,0 +1,24 @@
+package com.inghubs.digitalwallet.dtos.requests;
+
+import java.util.UUID;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@Builder
+public class TransferWalletRequest {
+
+    @NotNull(message = "Source wallet ID cannot be null.")
+    private UUID sourceWalletId;
+
+    @NotNull(message = "Destination wallet ID cannot be null.")
+    private UUID destinationWalletId;
+
+    @Positive(message = "Amount must be positive.")
+    private long amount;
+}
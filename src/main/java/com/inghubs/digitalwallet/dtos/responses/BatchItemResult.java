@@ -0,0 +1,21 @@
+package com.inghubs.digitalwallet.dtos.responses;
+
+import java.util.UUID;
+
+import com.inghubs.digitalwallet.entities.Transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@Builder
+public class BatchItemResult {
+
+    private int index;
+    private UUID walletId;
+    private Transaction transaction;
+    private Boolean isPendingTransaction;
+    private String error;
+}
@@ -0,0 +1,18 @@
+package com.inghubs.digitalwallet.dtos.responses;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@Builder
+public class BatchWalletResponse {
+
+    private List<BatchItemResult> deposits;
+    private List<BatchItemResult> withdrawals;
+    private int appliedCount;
+    private int rejectedCount;
+}
@@ -0,0 +1,21 @@
+package com.inghubs.digitalwallet.dtos.responses;
+
+import java.util.UUID;
+
+import com.inghubs.digitalwallet.utilities.enums.TransactionStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@Builder
+public class BulkApprovalItemResult {
+
+    private int index;
+    private UUID transactionId;
+    private UUID walletId;
+    private TransactionStatus status;
+    private String error;
+}
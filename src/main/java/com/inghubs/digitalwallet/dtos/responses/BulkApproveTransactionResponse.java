@@ -0,0 +1,17 @@
+package com.inghubs.digitalwallet.dtos.responses;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@Builder
+public class BulkApproveTransactionResponse {
+
+    private List<BulkApprovalItemResult> results;
+    private int appliedCount;
+    private int rejectedCount;
+}
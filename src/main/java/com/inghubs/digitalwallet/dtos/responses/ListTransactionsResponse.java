@@ -12,6 +12,7 @@ import lombok.Data;
 @AllArgsConstructor
 @Builder
 public class ListTransactionsResponse {
-    
+
     private List<Transaction> transactions;
+    private String nextCursor;
 }
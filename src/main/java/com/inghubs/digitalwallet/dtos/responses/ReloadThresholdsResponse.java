@@ -0,0 +1,17 @@
+package com.inghubs.digitalwallet.dtos.responses;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@Builder
+public class ReloadThresholdsResponse {
+
+    private int policyCount;
+    private int tierAssignmentCount;
+    private Instant loadedAt;
+}
@@ -0,0 +1,23 @@
+package com.inghubs.digitalwallet.dtos.responses;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.inghubs.digitalwallet.utilities.enums.*;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TransactionExportRow {
+
+    private UUID id;
+    private UUID walletId;
+    private long amount;
+    private TransactionType type;
+    private TransactionStatus status;
+    private OppositePartyType oppositePartyType;
+    private String oppositeParty;
+    private Instant createdAt;
+}
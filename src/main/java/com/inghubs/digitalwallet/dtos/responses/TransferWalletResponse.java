@@ -0,0 +1,20 @@
+package com.inghubs.digitalwallet.dtos.responses;
+
+import java.util.UUID;
+
+import com.inghubs.digitalwallet.entities.*;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@Builder
+public class TransferWalletResponse {
+
+    private UUID transferId;
+    private Transaction withdrawal;
+    private Transaction deposit;
+    private Wallet sourceWallet;
+}
@@ -0,0 +1,296 @@
+package com.inghubs.digitalwallet.engine;
+
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.inghubs.digitalwallet.entities.Transaction;
+import com.inghubs.digitalwallet.entities.Wallet;
+import com.inghubs.digitalwallet.repositories.TransactionRepository;
+import com.inghubs.digitalwallet.repositories.WalletRepository;
+import com.inghubs.digitalwallet.utilities.enums.BalanceOperation;
+import com.inghubs.digitalwallet.utilities.enums.TransactionStatus;
+import com.inghubs.digitalwallet.utilities.exceptions.NotFoundException;
+
+import jakarta.annotation.PostConstruct;
+
+@Component
+@ConditionalOnProperty(name = "wallet.balance-engine.enabled", havingValue = "true")
+public class BalanceEngine {
+
+    @Autowired
+    private WalletRepository walletRepository;
+    @Autowired
+    private BalanceJournal journal;
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Value("${wallet.balance-engine.shards}")
+    private int shardCount;
+
+    private ConcurrentHashMap<UUID, AtomicReference<WalletBalances>>[] shards;
+    private final Set<UUID> dirtyWallets = ConcurrentHashMap.newKeySet();
+    // Shared by appliers, exclusive while sealing, so a sealed segment never holds an entry whose wallet is not drained.
+    private final ReadWriteLock journalLock = new ReentrantReadWriteLock();
+    private final Object stagedChangesKey = new Object();
+
+    private static final int STATUS_QUERY_CHUNK_SIZE = 1_000;
+
+    private static final Logger logger = LoggerFactory.getLogger(BalanceEngine.class);
+
+    @PostConstruct
+    @SuppressWarnings("unchecked")
+    public void init() {
+        int size = Integer.highestOneBit(Math.max(1, shardCount - 1) << 1);
+        shards = new ConcurrentHashMap[size];
+        for (int i = 0; i < size; i++) {
+            shards[i] = new ConcurrentHashMap<>();
+        }
+        this.recover();
+    }
+
+    /**
+     * Applies the balance change of the given transaction, which must already
+     * carry its id and the status it reaches with this change. Callers hold the
+     * wallet's lock. Inside a database transaction the change is journaled at
+     * once but published to readers only after that transaction commits;
+     * recovery replays an entry only if its transaction reached that status, so
+     * neither a rollback nor a crash before the commit leaves an uncommitted
+     * balance behind. Outside a database transaction it is published at once.
+     */
+    public WalletBalances apply(Transaction transaction, BalanceOperation operation, boolean settlesPending) {
+        UUID walletId = transaction.getWallet().getId();
+        long amount = transaction.getAmount();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            journalLock.readLock().lock();
+            try {
+                WalletBalances updated = this.publish(walletId, operation, amount, settlesPending);
+                journal.append(walletId, updated, transaction.getId(), transaction.getStatus());
+                return updated;
+            } finally {
+                journalLock.readLock().unlock();
+            }
+        }
+
+        StagedChanges staged = this.stagedChanges();
+        WalletBalances current = staged.projected.get(walletId);
+        if (current == null) {
+            current = this.slot(walletId).get();
+        }
+        WalletBalances updated = current.apply(operation, amount, settlesPending);
+        journal.append(walletId, updated, transaction.getId(), transaction.getStatus());
+        staged.projected.put(walletId, updated);
+        staged.changes.add(new StagedChange(walletId, operation, amount, settlesPending));
+        return updated;
+    }
+
+    private WalletBalances publish(UUID walletId, BalanceOperation operation, long amount, boolean settlesPending) {
+        AtomicReference<WalletBalances> slot = this.slot(walletId);
+
+        WalletBalances current;
+        WalletBalances updated;
+        do {
+            current = slot.get();
+            updated = current.apply(operation, amount, settlesPending);
+        } while (!slot.compareAndSet(current, updated));
+        dirtyWallets.add(walletId);
+        return updated;
+    }
+
+    /**
+     * Returns the changes staged by the current database transaction, binding
+     * a new set on first use. The journal's read lock is held until the
+     * transaction completes, so a checkpoint cannot seal and delete an entry of
+     * this transaction before its wallets are published and marked dirty.
+     */
+    private StagedChanges stagedChanges() {
+        StagedChanges staged = (StagedChanges) TransactionSynchronizationManager.getResource(stagedChangesKey);
+        if (staged == null) {
+            journalLock.readLock().lock();
+            staged = new StagedChanges();
+            TransactionSynchronizationManager.bindResource(stagedChangesKey, staged);
+            TransactionSynchronizationManager.registerSynchronization(staged);
+        }
+        return staged;
+    }
+
+    public boolean isTracked(UUID walletId) {
+        return shard(walletId).containsKey(walletId);
+    }
+
+    public Wallet overlay(Wallet wallet) {
+        if (wallet == null) {
+            return null;
+        }
+        AtomicReference<WalletBalances> slot = shard(wallet.getId()).get(wallet.getId());
+        return slot == null ? wallet : slot.get().copyTo(wallet);
+    }
+
+    /**
+     * Returns a detached copy of the wallet carrying the balances the engine
+     * holds for it, including changes staged by the current database
+     * transaction. The managed entity is left as it is, so it is not written
+     * back by the commit.
+     */
+    public Wallet project(Wallet wallet) {
+        StagedChanges staged = (StagedChanges) TransactionSynchronizationManager.getResource(stagedChangesKey);
+        WalletBalances balances = staged == null ? null : staged.projected.get(wallet.getId());
+        if (balances == null) {
+            AtomicReference<WalletBalances> slot = shard(wallet.getId()).get(wallet.getId());
+            if (slot == null) {
+                return wallet;
+            }
+            balances = slot.get();
+        }
+        return balances.copyTo(Wallet.builder()
+                .id(wallet.getId())
+                .customer(wallet.getCustomer())
+                .walletName(wallet.getWalletName())
+                .currency(wallet.getCurrency())
+                .isActiveShopping(wallet.getIsActiveShopping())
+                .isActiveWithdraw(wallet.getIsActiveWithdraw())
+                .version(wallet.getVersion())
+                .build());
+    }
+
+    /**
+     * Returns the wallet's usable balance as the engine holds it, or the given
+     * persisted value when the wallet is not tracked. Inside a database
+     * transaction that changed the wallet, the value includes those changes.
+     */
+    public long usableBalance(UUID walletId, long persistedUsableBalance) {
+        StagedChanges staged = (StagedChanges) TransactionSynchronizationManager.getResource(stagedChangesKey);
+        if (staged != null && staged.projected.containsKey(walletId)) {
+            return staged.projected.get(walletId).usableBalance();
+        }
+        AtomicReference<WalletBalances> slot = shard(walletId).get(walletId);
+        return slot == null ? persistedUsableBalance : slot.get().usableBalance();
+    }
+
+    Optional<WalletBalances> snapshot(UUID walletId) {
+        AtomicReference<WalletBalances> slot = shard(walletId).get(walletId);
+        return slot == null ? Optional.empty() : Optional.of(slot.get());
+    }
+
+    /**
+     * Seals the current journal segment and drains the dirty wallets as one
+     * step. Every entry in the returned segments belongs to a returned wallet,
+     * so the segments may be deleted once those wallets are persisted.
+     */
+    JournalCheckpoint checkpoint() {
+        journalLock.writeLock().lock();
+        try {
+            List<Path> sealedSegments = journal.rotate();
+            Set<UUID> drained = new HashSet<>(dirtyWallets);
+            dirtyWallets.removeAll(drained);
+            return new JournalCheckpoint(sealedSegments, drained);
+        } finally {
+            journalLock.writeLock().unlock();
+        }
+    }
+
+    void markDirty(Collection<UUID> walletIds) {
+        dirtyWallets.addAll(walletIds);
+    }
+
+    private AtomicReference<WalletBalances> slot(UUID walletId) {
+        return shard(walletId).computeIfAbsent(walletId, id -> {
+            Wallet wallet = walletRepository.findById(id)
+                    .orElseThrow(() -> new NotFoundException("Wallet not found."));
+            return new AtomicReference<>(WalletBalances.of(wallet));
+        });
+    }
+
+    private ConcurrentHashMap<UUID, AtomicReference<WalletBalances>> shard(UUID walletId) {
+        int hash = walletId.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & (shards.length - 1)];
+    }
+
+    private void recover() {
+        List<Path> segments = journal.sealedSegments();
+        if (segments.isEmpty()) {
+            return;
+        }
+
+        List<JournalEntry> entries = journal.read(segments);
+        Map<UUID, TransactionStatus> statuses = this.transactionStatuses(entries);
+        Map<UUID, WalletBalances> latest = new HashMap<>();
+        int skipped = 0;
+        for (JournalEntry entry : entries) {
+            if (entry.transactionId() != null && statuses.get(entry.transactionId()) != entry.status()) {
+                // Either its commit never happened, or a later status change of the same
+                // transaction was journaled after it and supersedes it.
+                skipped++;
+                continue;
+            }
+            // A retried unit of work journals the same revision again; the later entry wins.
+            latest.merge(entry.walletId(), entry.balances(),
+                    (existing, candidate) -> candidate.revision() >= existing.revision() ? candidate : existing);
+        }
+        logger.info("Recovering {} wallet balance(s) from {} journal segment(s), skipping {} stale entries.",
+                latest.size(), segments.size(), skipped);
+
+        List<Wallet> wallets = new ArrayList<>();
+        for (Wallet wallet : walletRepository.findAllById(latest.keySet())) {
+            wallets.add(latest.get(wallet.getId()).copyTo(wallet));
+        }
+        walletRepository.saveAll(wallets);
+        journal.delete(segments);
+    }
+
+    private Map<UUID, TransactionStatus> transactionStatuses(List<JournalEntry> entries) {
+        List<UUID> transactionIds = entries.stream()
+                .map(JournalEntry::transactionId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        Map<UUID, TransactionStatus> statuses = new HashMap<>();
+        for (int from = 0; from < transactionIds.size(); from += STATUS_QUERY_CHUNK_SIZE) {
+            List<UUID> slice = transactionIds.subList(from,
+                    Math.min(from + STATUS_QUERY_CHUNK_SIZE, transactionIds.size()));
+            transactionRepository.findStatusesByIdIn(slice)
+                    .forEach(view -> statuses.put(view.getId(), view.getStatus()));
+        }
+        return statuses;
+    }
+
+    /**
+     * Balance changes of one database transaction, in the order they were
+     * made, and the balances they lead to. Published to the shared map only
+     * after the commit; dropped otherwise.
+     */
+    private final class StagedChanges implements TransactionSynchronization {
+
+        private final Map<UUID, WalletBalances> projected = new HashMap<>();
+        private final List<StagedChange> changes = new ArrayList<>();
+
+        @Override
+        public void afterCommit() {
+            for (StagedChange change : changes) {
+                publish(change.walletId(), change.operation(), change.amount(), change.settlesPending());
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResource(stagedChangesKey);
+            journalLock.readLock().unlock();
+        }
+    }
+
+    private record StagedChange(UUID walletId, BalanceOperation operation, long amount, boolean settlesPending) {
+    }
+}
@@ -0,0 +1,170 @@
+package com.inghubs.digitalwallet.engine;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.inghubs.digitalwallet.utilities.enums.TransactionStatus;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+@Component
+@ConditionalOnProperty(name = "wallet.balance-engine.enabled", havingValue = "true")
+public class BalanceJournal {
+
+    private static final String SEGMENT_PREFIX = "balance-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    @Value("${wallet.balance-engine.journal-directory}")
+    private Path directory;
+    @Value("${wallet.balance-engine.journal-sync}")
+    private boolean sync;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private FileChannel channel;
+    private volatile long segmentNumber;
+
+    private static final Logger logger = LoggerFactory.getLogger(BalanceJournal.class);
+
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(directory);
+        segmentNumber = segments().stream()
+                .mapToLong(BalanceJournal::segmentNumberOf)
+                .max()
+                .orElse(0L);
+        openNextSegment();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            channel.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends the wallet's balances after a change made for the given
+     * transaction. The transaction id and the status it reaches with this
+     * change let recovery skip entries whose transaction never committed.
+     */
+    public void append(UUID walletId, WalletBalances balances, UUID transactionId, TransactionStatus status) {
+        byte[] line = (walletId + ";" + balances.revision() + ";" + balances.usableBalance() + ";"
+                + balances.pendingDelta() + ";" + transactionId + ";" + status + "\n")
+                .getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(line);
+
+        lock.lock();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (sync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append to balance journal.", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<Path> rotate() {
+        lock.lock();
+        try {
+            channel.close();
+            openNextSegment();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not rotate balance journal.", e);
+        } finally {
+            lock.unlock();
+        }
+        return sealedSegments();
+    }
+
+    public List<Path> sealedSegments() {
+        long current = segmentNumber;
+        return segments().stream()
+                .filter(segment -> segmentNumberOf(segment) < current)
+                .toList();
+    }
+
+    /**
+     * Reads the entries of the given segments in the order they were appended.
+     * Entries written before transactions were journaled carry no transaction.
+     */
+    public List<JournalEntry> read(List<Path> segments) {
+        List<JournalEntry> entries = new ArrayList<>();
+        for (Path segment : segments) {
+            try (Stream<String> lines = Files.lines(segment, StandardCharsets.UTF_8)) {
+                lines.forEach(line -> {
+                    String[] parts = line.split(";");
+                    if (parts.length != 6 && parts.length != 4) {
+                        logger.warn("Skipping torn balance journal entry in {}.", segment);
+                        return;
+                    }
+                    WalletBalances balances = new WalletBalances(Long.parseLong(parts[2]),
+                            Long.parseLong(parts[3]), Long.parseLong(parts[1]));
+                    entries.add(parts.length == 4
+                            ? new JournalEntry(UUID.fromString(parts[0]), balances, null, null)
+                            : new JournalEntry(UUID.fromString(parts[0]), balances, UUID.fromString(parts[4]),
+                                    TransactionStatus.valueOf(parts[5])));
+                });
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read balance journal segment " + segment + ".", e);
+            }
+        }
+        return entries;
+    }
+
+    public void delete(List<Path> segments) {
+        for (Path segment : segments) {
+            try {
+                Files.deleteIfExists(segment);
+            } catch (IOException e) {
+                logger.warn("Could not delete balance journal segment {}.", segment, e);
+            }
+        }
+    }
+
+    private void openNextSegment() throws IOException {
+        segmentNumber++;
+        channel = FileChannel.open(directory.resolve(SEGMENT_PREFIX + segmentNumber + SEGMENT_SUFFIX),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private List<Path> segments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted(Comparator.comparingLong(BalanceJournal::segmentNumberOf))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list balance journal segments.", e);
+        }
+    }
+
+    private static long segmentNumberOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
@@ -0,0 +1,59 @@
+package com.inghubs.digitalwallet.engine;
+
+import java.nio.file.Path;
+import java.util.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.inghubs.digitalwallet.entities.Wallet;
+import com.inghubs.digitalwallet.repositories.WalletRepository;
+
+import jakarta.annotation.PreDestroy;
+
+@Component
+@ConditionalOnProperty(name = "wallet.balance-engine.enabled", havingValue = "true")
+public class BalanceWriteBehind {
+
+    @Autowired
+    private BalanceEngine balanceEngine;
+    @Autowired
+    private BalanceJournal journal;
+    @Autowired
+    private WalletRepository walletRepository;
+
+    private static final Logger logger = LoggerFactory.getLogger(BalanceWriteBehind.class);
+
+    @Scheduled(fixedDelayString = "${wallet.balance-engine.flush-interval}")
+    public synchronized void flush() {
+        JournalCheckpoint checkpoint = balanceEngine.checkpoint();
+        List<Path> sealedSegments = checkpoint.sealedSegments();
+        Set<UUID> dirtyWallets = checkpoint.dirtyWallets();
+        if (dirtyWallets.isEmpty()) {
+            journal.delete(sealedSegments);
+            return;
+        }
+
+        try {
+            List<Wallet> wallets = new ArrayList<>();
+            for (Wallet wallet : walletRepository.findAllById(dirtyWallets)) {
+                balanceEngine.snapshot(wallet.getId()).ifPresent(balances -> wallets.add(balances.copyTo(wallet)));
+            }
+            walletRepository.saveAll(wallets);
+            journal.delete(sealedSegments);
+            logger.debug("Flushed balances of {} wallet(s).", wallets.size());
+        } catch (RuntimeException e) {
+            balanceEngine.markDirty(dirtyWallets);
+            logger.error("Could not flush balances of {} wallet(s), keeping journal segments.", dirtyWallets.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.flush();
+    }
+}
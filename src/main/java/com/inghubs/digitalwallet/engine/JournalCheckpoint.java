@@ -0,0 +1,9 @@
+package com.inghubs.digitalwallet.engine;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+record JournalCheckpoint(List<Path> sealedSegments, Set<UUID> dirtyWallets) {
+}
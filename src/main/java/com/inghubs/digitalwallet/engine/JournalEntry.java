@@ -0,0 +1,8 @@
+package com.inghubs.digitalwallet.engine;
+
+import java.util.UUID;
+
+import com.inghubs.digitalwallet.utilities.enums.TransactionStatus;
+
+public record JournalEntry(UUID walletId, WalletBalances balances, UUID transactionId, TransactionStatus status) {
+}
@@ -0,0 +1,80 @@
+package com.inghubs.digitalwallet.engine;
+
+import com.inghubs.digitalwallet.entities.Wallet;
+import com.inghubs.digitalwallet.utilities.enums.BalanceOperation;
+
+/**
+ * Immutable balance snapshot, as the balance engine publishes and journals it.
+ * The arithmetic lives in primitive static methods, so callers that already
+ * hold the wallet's lock can update the entity's fields in place with
+ * {@link #applyTo} and allocate nothing per balance change.
+ */
+public record WalletBalances(long usableBalance, long pendingDelta, long revision) {
+
+    public static WalletBalances of(Wallet wallet) {
+        return new WalletBalances(wallet.getUsableBalance(), wallet.getPendingDelta(), 0L);
+    }
+
+    public long balance() {
+        return Math.addExact(usableBalance, pendingDelta);
+    }
+
+    public WalletBalances apply(BalanceOperation operation, long amount, boolean settlesPending) {
+        return new WalletBalances(usableAfter(operation, usableBalance, amount),
+                pendingAfter(operation, pendingDelta, amount, settlesPending), revision + 1);
+    }
+
+    /**
+     * Applies the change to the wallet's balance fields in place. The caller
+     * must hold the wallet's lock.
+     */
+    public static Wallet applyTo(Wallet wallet, BalanceOperation operation, long amount, boolean settlesPending) {
+        long usable = wallet.getUsableBalance();
+        long pending = wallet.getPendingDelta();
+        switch (operation) {
+            case COMPLETE_PENDING_DEPOSIT, REVERT_PENDING_WITHDRAW -> pending = Math.addExact(pending, amount);
+            case COMPLETE_PENDING_WITHDRAW, REVERT_PENDING_DEPOSIT -> pending = Math.subtractExact(pending, amount);
+            case COMPLETE_APPROVED_DEPOSIT -> {
+                usable = Math.addExact(usable, amount);
+                if (settlesPending) {
+                    pending = Math.subtractExact(pending, amount);
+                }
+            }
+            case COMPLETE_APPROVED_WITHDRAW -> {
+                usable = Math.subtractExact(usable, amount);
+                if (settlesPending) {
+                    pending = Math.addExact(pending, amount);
+                }
+            }
+        }
+        wallet.setUsableBalance(usable);
+        wallet.setPendingDelta(pending);
+        wallet.setBalance(Math.addExact(usable, pending));
+        return wallet;
+    }
+
+    public static long usableAfter(BalanceOperation operation, long usableBalance, long amount) {
+        return switch (operation) {
+            case COMPLETE_APPROVED_DEPOSIT -> Math.addExact(usableBalance, amount);
+            case COMPLETE_APPROVED_WITHDRAW -> Math.subtractExact(usableBalance, amount);
+            default -> usableBalance;
+        };
+    }
+
+    public static long pendingAfter(BalanceOperation operation, long pendingDelta, long amount,
+            boolean settlesPending) {
+        return switch (operation) {
+            case COMPLETE_PENDING_DEPOSIT, REVERT_PENDING_WITHDRAW -> Math.addExact(pendingDelta, amount);
+            case COMPLETE_PENDING_WITHDRAW, REVERT_PENDING_DEPOSIT -> Math.subtractExact(pendingDelta, amount);
+            case COMPLETE_APPROVED_DEPOSIT -> settlesPending ? Math.subtractExact(pendingDelta, amount) : pendingDelta;
+            case COMPLETE_APPROVED_WITHDRAW -> settlesPending ? Math.addExact(pendingDelta, amount) : pendingDelta;
+        };
+    }
+
+    public Wallet copyTo(Wallet wallet) {
+        wallet.setUsableBalance(usableBalance);
+        wallet.setPendingDelta(pendingDelta);
+        wallet.setBalance(balance());
+        return wallet;
+    }
+}
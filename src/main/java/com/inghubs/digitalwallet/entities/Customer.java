@@ -2,6 +2,8 @@ package com.inghubs.digitalwallet.entities;
 
 import java.util.UUID;
 
+import com.inghubs.digitalwallet.utilities.enums.CustomerTier;
+
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -23,6 +25,9 @@ public class Customer {
 
     private String TCKN;
 
+    @Enumerated(EnumType.STRING)
+    private CustomerTier tier;
+
     @OneToOne(mappedBy = "customer")
     private User user;
 }
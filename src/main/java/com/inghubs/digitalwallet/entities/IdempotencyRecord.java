@@ -0,0 +1,60 @@
+package com.inghubs.digitalwallet.entities;
+
+import java.time.Instant;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * A claimed idempotency key. The row is inserted before the operation runs so
+ * the primary key decides which of two concurrent requests executes; the
+ * response is filled in by the operation's own database transaction, so it is
+ * stored exactly when the operation commits. {@code claimedAt} identifies the
+ * claim, so a request whose claim was taken over cannot complete it.
+ */
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_idempotency_expires", columnList = "expires_at")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class IdempotencyRecord implements Persistable<String> {
+
+    // Caller id (36), operation and a key of up to 255 characters, joined by ':'.
+    public static final int ID_LENGTH = 320;
+
+    @Id
+    @Column(length = ID_LENGTH)
+    private String id;
+
+    @Column(nullable = false)
+    private String requestHash;
+
+    @Lob
+    private String response;
+
+    @Column(nullable = false)
+    private Instant claimedAt;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    @Transient
+    @Builder.Default
+    private boolean isNew = true;
+
+    public boolean isCompleted() {
+        return response != null;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
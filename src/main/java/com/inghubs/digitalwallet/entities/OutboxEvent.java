@@ -0,0 +1,50 @@
+package com.inghubs.digitalwallet.entities;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import com.inghubs.digitalwallet.utilities.enums.OutboxEventType;
+import com.inghubs.digitalwallet.utilities.identifiers.UuidV7;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * A wallet event written in the same database transaction as the change it
+ * describes. The relay publishes unpublished rows in id order, which is
+ * creation order because ids are time-ordered, and stamps them afterwards.
+ */
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_outbox_published", columnList = "published_at, id")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class OutboxEvent {
+
+    @Id
+    @UuidV7
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID walletId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxEventType eventType;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    private Instant publishedAt;
+}
@@ -0,0 +1,41 @@
+package com.inghubs.digitalwallet.entities;
+
+import java.util.UUID;
+
+import com.inghubs.digitalwallet.utilities.enums.*;
+import com.inghubs.digitalwallet.utilities.identifiers.UuidV7;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.*;
+
+/**
+ * Amount, in minor units of the wallet currency, above which a deposit or
+ * withdrawal is created as PENDING. A null currency, tier or opposite party
+ * type matches any value; when several policies match, the one that names the
+ * most of them wins.
+ */
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class ThresholdPolicy {
+
+    @Id
+    @UuidV7
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    private Currency currency;
+
+    @Enumerated(EnumType.STRING)
+    private CustomerTier customerTier;
+
+    @Enumerated(EnumType.STRING)
+    private OppositePartyType oppositePartyType;
+
+    @PositiveOrZero
+    private long amountLimit;
+}
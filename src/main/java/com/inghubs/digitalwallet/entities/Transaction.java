@@ -1,15 +1,27 @@
 package com.inghubs.digitalwallet.entities;
 
+import java.time.Instant;
 import java.util.UUID;
 
+import org.hibernate.annotations.CreationTimestamp;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.inghubs.digitalwallet.utilities.enums.*;
+import com.inghubs.digitalwallet.utilities.identifiers.UuidV7;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Positive;
 import lombok.*;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_transaction_created", columnList = "created_at, id"),
+        @Index(name = "idx_transaction_wallet_created", columnList = "wallet_id, created_at, id"),
+        @Index(name = "idx_transaction_status_created", columnList = "status, created_at, id"),
+        @Index(name = "idx_transaction_wallet_status_created", columnList = "wallet_id, status, created_at, id"),
+        @Index(name = "idx_transaction_transfer", columnList = "transfer_id"),
+        @Index(name = "idx_transaction_wallet_status_resolved", columnList = "wallet_id, status, resolved_at")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -18,7 +30,7 @@ import lombok.*;
 public class Transaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -26,7 +38,7 @@ public class Transaction {
     private Wallet wallet;
 
     @Positive
-    private Double amount;
+    private long amount;
 
     @Enumerated(EnumType.STRING)
     private TransactionType type;
@@ -38,4 +50,14 @@ public class Transaction {
 
     @Enumerated(EnumType.STRING)
     private TransactionStatus status;
+
+    // Shared by the withdrawal and deposit legs of a wallet-to-wallet transfer; null otherwise.
+    private UUID transferId;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    // When the transaction left PENDING, or its creation time if it never was pending; null while pending.
+    private Instant resolvedAt;
 }
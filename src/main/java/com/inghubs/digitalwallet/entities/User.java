@@ -3,6 +3,7 @@ package com.inghubs.digitalwallet.entities;
 import java.util.UUID;
 
 import com.inghubs.digitalwallet.utilities.enums.*;
+import com.inghubs.digitalwallet.utilities.security.UserCacheInvalidator;
 
 import jakarta.persistence.*;
 import lombok.*;
@@ -14,6 +15,7 @@ import lombok.*;
 @Getter
 @Setter
 @Table(name = "USER_AUTH")
+@EntityListeners(UserCacheInvalidator.class)
 public class User {
 
     @Id
@@ -2,14 +2,17 @@ package com.inghubs.digitalwallet.entities;
 
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.inghubs.digitalwallet.utilities.enums.*;
+import com.inghubs.digitalwallet.utilities.identifiers.UuidV7;
 
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@NoArgsConstructor
+// Deserialize through the no-args constructor: @JsonIgnore fields are absent from stored responses.
+@NoArgsConstructor(onConstructor_ = @JsonCreator)
 @AllArgsConstructor
 @Builder
 @Getter
@@ -17,7 +20,7 @@ import lombok.*;
 public class Wallet {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -33,9 +36,14 @@ public class Wallet {
 
     private Boolean isActiveWithdraw;
 
-    @Builder.Default
-    private Double balance = 0.0;
+    private long balance;
 
-    @Builder.Default
-    private Double usableBalance = 0.0;
+    private long usableBalance;
+
+    @JsonIgnore
+    private long pendingDelta;
+
+    @Version
+    @JsonIgnore
+    private Long version;
 }
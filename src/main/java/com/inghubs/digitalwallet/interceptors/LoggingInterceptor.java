@@ -8,18 +8,26 @@ import org.springframework.web.servlet.HandlerInterceptor;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+/**
+ * Writes one summary line per request. The correlation ID is already in the
+ * MDC, set by {@link CorrelationIdFilter}.
+ */
 @Component
 public class LoggingInterceptor implements HandlerInterceptor {
+    private static final String START_TIME_ATTRIBUTE = LoggingInterceptor.class.getName() + ".startTime";
     private static final Logger logger = LoggerFactory.getLogger(LoggingInterceptor.class);
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-        logger.info("Incoming Request: Method = {}, URI = {}", request.getMethod(), request.getRequestURI());
+        request.setAttribute(START_TIME_ATTRIBUTE, System.nanoTime());
         return true; // Continue the request
     }
 
     @Override
     public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) throws Exception {
-        logger.info("Outgoing Response: Status = {}", response.getStatus());
+        Object startTime = request.getAttribute(START_TIME_ATTRIBUTE);
+        long durationMicros = startTime == null ? -1 : (System.nanoTime() - (long) startTime) / 1_000;
+        logger.info("{} {} {} {}us", request.getMethod(), request.getRequestURI(), response.getStatus(),
+                durationMicros);
     }
 }
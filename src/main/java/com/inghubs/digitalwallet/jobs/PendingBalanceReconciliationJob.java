@@ -0,0 +1,58 @@
+package com.inghubs.digitalwallet.jobs;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.inghubs.digitalwallet.engine.BalanceEngine;
+import com.inghubs.digitalwallet.entities.Wallet;
+import com.inghubs.digitalwallet.repositories.*;
+import com.inghubs.digitalwallet.repositories.TransactionRepository.PendingDeltaView;
+import com.inghubs.digitalwallet.utilities.enums.*;
+
+@Component
+public class PendingBalanceReconciliationJob {
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+    @Autowired
+    private WalletRepository walletRepository;
+    @Autowired(required = false)
+    private BalanceEngine balanceEngine;
+
+    private static final Logger logger = LoggerFactory.getLogger(PendingBalanceReconciliationJob.class);
+
+    @Scheduled(fixedDelayString = "${wallet.reconciliation.interval}", initialDelayString = "${wallet.reconciliation.interval}")
+    public void reconcile() {
+        logger.info("Reconciling pending balances against pending transactions");
+
+        Map<UUID, Long> recomputed = new HashMap<>();
+        for (PendingDeltaView view : transactionRepository.sumPendingDeltaByWallet(TransactionStatus.PENDING,
+                TransactionType.DEPOSIT)) {
+            recomputed.put(view.getWalletId(), view.getPendingDelta());
+        }
+
+        int driftCount = 0;
+        for (Wallet wallet : walletRepository.findAll()) {
+            if (balanceEngine != null) {
+                balanceEngine.overlay(wallet);
+            }
+            long expected = recomputed.getOrDefault(wallet.getId(), 0L);
+            long actual = wallet.getPendingDelta();
+
+            if (expected != actual) {
+                driftCount++;
+                logger.warn("Pending balance drift for wallet ID {}: tracked {}, recomputed {}, drift {}.",
+                        wallet.getId(), actual, expected, actual - expected);
+            }
+        }
+
+        logger.info("Pending balance reconciliation finished with {} drifted wallet(s).", driftCount);
+    }
+}
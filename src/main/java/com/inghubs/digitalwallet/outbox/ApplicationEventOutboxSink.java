@@ -0,0 +1,28 @@
+package com.inghubs.digitalwallet.outbox;
+
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.inghubs.digitalwallet.entities.OutboxEvent;
+
+/**
+ * In-process sink: republishes each relayed event as a Spring application
+ * event, so components in this instance can consume it with
+ * {@code @EventListener OutboxEvent}. Listeners run on the relay thread.
+ */
+@Component
+public class ApplicationEventOutboxSink implements OutboxSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ApplicationEventOutboxSink(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        events.forEach(eventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,74 @@
+package com.inghubs.digitalwallet.outbox;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.inghubs.digitalwallet.entities.OutboxEvent;
+
+import jakarta.annotation.PreDestroy;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Appends relayed events to a local NDJSON file, one line per event, and
+ * forces the batch to disk before the relay marks it published. Meant for
+ * local testing and as a reference for real broker sinks.
+ */
+@Component
+@ConditionalOnProperty(name = "wallet.outbox.file-sink.path")
+public class FileOutboxSink implements OutboxSink {
+
+    private final JsonMapper jsonMapper;
+    private final FileChannel channel;
+
+    public FileOutboxSink(JsonMapper jsonMapper, @Value("${wallet.outbox.file-sink.path}") Path path)
+            throws IOException {
+        this.jsonMapper = jsonMapper;
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> events) {
+        StringBuilder lines = new StringBuilder();
+        for (OutboxEvent event : events) {
+            Map<String, Object> line = new LinkedHashMap<>();
+            line.put("id", event.getId());
+            line.put("walletId", event.getWalletId());
+            line.put("type", event.getEventType());
+            line.put("createdAt", event.getCreatedAt());
+            line.put("payload", jsonMapper.readTree(event.getPayload()));
+            lines.append(jsonMapper.writeValueAsString(line)).append('\n');
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append " + events.size() + " outbox events.", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,88 @@
+package com.inghubs.digitalwallet.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inghubs.digitalwallet.entities.OutboxEvent;
+import com.inghubs.digitalwallet.repositories.OutboxEventRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Moves committed outbox events to the sinks in batches. Each batch is locked,
+ * handed to every sink and stamped as published in one database transaction,
+ * so a failed sink or a crash before commit leaves the batch to be delivered
+ * again. Batches are taken in id order, which keeps each wallet's events in
+ * the order they were written.
+ */
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration retention;
+    private final Counter publishedEvents;
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, List<OutboxSink> sinks,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${wallet.outbox.batch-size}") int batchSize,
+            @Value("${wallet.outbox.retention}") long retentionMs) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sinks = sinks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.retention = Duration.ofMillis(retentionMs);
+        this.publishedEvents = Counter.builder("wallet.outbox.published")
+                .description("Outbox events handed to the sinks")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${wallet.outbox.relay-interval}")
+    public synchronized void relay() {
+        try {
+            int published;
+            do {
+                published = transactionTemplate.execute(status -> this.PublishBatch());
+            } while (published == batchSize);
+        } catch (RuntimeException e) {
+            logger.error("Outbox relay failed, unpublished events will be retried.", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${wallet.outbox.purge-interval}", initialDelayString = "${wallet.outbox.purge-interval}")
+    public void purgePublished() {
+        int purged = outboxEventRepository.deletePublishedBefore(Instant.now().minus(retention));
+        logger.debug("Purged {} published outbox event(s).", purged);
+    }
+
+    private int PublishBatch() {
+        List<OutboxEvent> events = outboxEventRepository.lockUnpublished(Limit.of(batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        for (OutboxSink sink : sinks) {
+            sink.publish(events);
+        }
+
+        outboxEventRepository.markPublished(events.stream().map(OutboxEvent::getId).toList(), Instant.now());
+        publishedEvents.increment(events.size());
+        logger.debug("Relayed {} outbox event(s).", events.size());
+        return events.size();
+    }
+}
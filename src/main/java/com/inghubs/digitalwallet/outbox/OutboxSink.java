@@ -0,0 +1,16 @@
+package com.inghubs.digitalwallet.outbox;
+
+import java.util.List;
+
+import com.inghubs.digitalwallet.entities.OutboxEvent;
+
+/**
+ * Destination for relayed outbox events. Every sink bean receives each batch
+ * in id order. Delivery is at least once: if any sink throws, the batch stays
+ * unpublished and is offered again, to every sink, on the next relay run, so
+ * consumers should deduplicate by event id.
+ */
+public interface OutboxSink {
+
+    void publish(List<OutboxEvent> events);
+}
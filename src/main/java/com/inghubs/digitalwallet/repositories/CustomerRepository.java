@@ -1,11 +1,23 @@
 package com.inghubs.digitalwallet.repositories;
 
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.inghubs.digitalwallet.entities.Customer;
+import com.inghubs.digitalwallet.utilities.enums.CustomerTier;
+
+import java.util.List;
 import java.util.UUID;
 import org.springframework.data.repository.CrudRepository;
 
 @Repository
 public interface CustomerRepository extends CrudRepository<Customer, UUID> {
-    
+
+    @Query("SELECT c.id AS id, c.tier AS tier FROM Customer c WHERE c.tier IS NOT NULL AND c.tier <> :defaultTier")
+    List<CustomerTierView> findTierAssignments(@Param("defaultTier") CustomerTier defaultTier);
+
+    interface CustomerTierView {
+        UUID getId();
+        CustomerTier getTier();
+    }
 }
@@ -0,0 +1,36 @@
+package com.inghubs.digitalwallet.repositories;
+
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.inghubs.digitalwallet.entities.IdempotencyRecord;
+
+@Repository
+public interface IdempotencyRecordRepository extends CrudRepository<IdempotencyRecord, String> {
+
+    @Query("SELECT r.id FROM IdempotencyRecord r WHERE r.expiresAt > :now")
+    Stream<String> streamLiveIds(@Param("now") Instant now);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE IdempotencyRecord r SET r.response = :response "
+            + "WHERE r.id = :id AND r.claimedAt = :claimedAt AND r.response IS NULL")
+    int complete(@Param("id") String id, @Param("claimedAt") Instant claimedAt, @Param("response") String response);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id AND r.claimedAt = :claimedAt AND r.response IS NULL")
+    int release(@Param("id") String id, @Param("claimedAt") Instant claimedAt);
+}
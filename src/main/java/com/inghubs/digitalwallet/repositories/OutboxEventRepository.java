@@ -0,0 +1,39 @@
+package com.inghubs.digitalwallet.repositories;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.inghubs.digitalwallet.entities.OutboxEvent;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface OutboxEventRepository extends CrudRepository<OutboxEvent, UUID> {
+
+    // Row locks keep a second relay instance from publishing the same batch out of order.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM OutboxEvent e WHERE e.publishedAt IS NULL ORDER BY e.id")
+    List<OutboxEvent> lockUnpublished(Limit limit);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.publishedAt = :now WHERE e.id IN :ids")
+    int markPublished(@Param("ids") Collection<UUID> ids, @Param("now") Instant now);
+
+    long countByPublishedAtIsNull();
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt <= :cutoff")
+    int deletePublishedBefore(@Param("cutoff") Instant cutoff);
+}
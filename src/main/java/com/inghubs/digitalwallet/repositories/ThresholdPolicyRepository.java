@@ -0,0 +1,13 @@
+package com.inghubs.digitalwallet.repositories;
+
+import java.util.UUID;
+
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+import com.inghubs.digitalwallet.entities.ThresholdPolicy;
+
+@Repository
+public interface ThresholdPolicyRepository extends CrudRepository<ThresholdPolicy, UUID> {
+
+}
@@ -1,18 +1,149 @@
 package com.inghubs.digitalwallet.repositories;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
+import com.inghubs.digitalwallet.approval.ApprovalCandidate;
+import com.inghubs.digitalwallet.dtos.responses.TransactionExportRow;
 import com.inghubs.digitalwallet.entities.Transaction;
 import com.inghubs.digitalwallet.utilities.enums.TransactionStatus;
+import com.inghubs.digitalwallet.utilities.enums.TransactionType;
 
 @Repository
-public interface TransactionRepository extends CrudRepository<Transaction, UUID> {
-    
-    List<Transaction> findByWalletId(UUID walletId);
+public interface TransactionRepository extends CrudRepository<Transaction, UUID>, TransactionRepositoryCustom {
+
     List<Transaction> findByWalletIdAndStatus(UUID walletId, TransactionStatus status);
-    List<Transaction> findAll();
+    long countByStatus(TransactionStatus status);
+
+    /**
+     * First page of the work queue for a status, oldest first. Together with
+     * {@link #findByStatusAfter} this walks the (status, created_at, id) index
+     * without an offset, so every page costs the same however deep the queue is.
+     */
+    List<Transaction> findByStatusOrderByCreatedAtAscIdAsc(TransactionStatus status, Limit limit);
+
+    @Query("""
+            SELECT t FROM Transaction t
+            WHERE t.status = :status
+              AND (t.createdAt > :createdAt OR (t.createdAt = :createdAt AND t.id > :id))
+            ORDER BY t.createdAt, t.id
+            """)
+    List<Transaction> findByStatusAfter(@Param("status") TransactionStatus status,
+            @Param("createdAt") Instant createdAt, @Param("id") UUID id, Limit limit);
+
+    /**
+     * Pending transactions joined with the fields of their wallet the approval
+     * rules need, in queue order after the given position.
+     */
+    @Query("""
+            SELECT new com.inghubs.digitalwallet.approval.ApprovalCandidate(
+                   t.id, w.id, w.customer.id, w.currency, t.type, t.amount, t.oppositeParty, t.oppositePartyType,
+                   t.createdAt, w.usableBalance)
+            FROM Transaction t JOIN t.wallet w
+            WHERE t.status = :status
+              AND (t.createdAt > :createdAt OR (t.createdAt = :createdAt AND t.id > :id))
+            ORDER BY t.createdAt, t.id
+            """)
+    List<ApprovalCandidate> findApprovalCandidates(@Param("status") TransactionStatus status,
+            @Param("createdAt") Instant createdAt, @Param("id") UUID id, Limit limit);
+
+    /**
+     * Sums per wallet and type the transactions that reached the given status
+     * since the given instant, by resolution time rather than creation time,
+     * so a long-pending transaction counts when it is approved.
+     */
+    @Query("""
+            SELECT t.wallet.id AS walletId, t.type AS type, SUM(t.amount) AS amount
+            FROM Transaction t
+            WHERE t.wallet.id IN :walletIds AND t.status = :status AND t.resolvedAt >= :since
+            GROUP BY t.wallet.id, t.type
+            """)
+    List<RecentAmountView> sumAmountByWalletResolvedSince(@Param("walletIds") Collection<UUID> walletIds,
+            @Param("status") TransactionStatus status, @Param("since") Instant since);
+
+    /**
+     * Streams the transactions of one type created since the given instant,
+     * skipping one status; the caller must consume the stream inside a
+     * transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            SELECT t.wallet.id AS walletId, t.amount AS amount, t.createdAt AS createdAt
+            FROM Transaction t
+            WHERE t.type = :type AND t.status <> :excludedStatus AND t.createdAt >= :since
+            """)
+    Stream<RecentTransactionView> streamRecent(@Param("type") TransactionType type,
+            @Param("excludedStatus") TransactionStatus excludedStatus, @Param("since") Instant since);
+
+    List<Transaction> findByTransferId(UUID transferId);
+
+    @Query("SELECT t.id AS id, t.wallet.id AS walletId FROM Transaction t WHERE t.id IN :ids")
+    List<TransactionWalletView> findWalletIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT t.id AS id, t.status AS status FROM Transaction t WHERE t.id IN :ids")
+    List<TransactionStatusView> findStatusesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("""
+            SELECT t.wallet.id AS walletId,
+                   SUM(CASE WHEN t.type = :depositType THEN t.amount ELSE -t.amount END) AS pendingDelta
+            FROM Transaction t
+            WHERE t.status = :pendingStatus
+            GROUP BY t.wallet.id
+            """)
+    List<PendingDeltaView> sumPendingDeltaByWallet(@Param("pendingStatus") TransactionStatus pendingStatus,
+            @Param("depositType") TransactionType depositType);
+
+    /**
+     * Streams every transaction as a flat row in creation order. Rows are DTOs
+     * rather than entities so the persistence context does not grow with the
+     * export; the caller must consume the stream inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            SELECT new com.inghubs.digitalwallet.dtos.responses.TransactionExportRow(
+                   t.id, t.wallet.id, t.amount, t.type, t.status, t.oppositePartyType, t.oppositeParty, t.createdAt)
+            FROM Transaction t
+            ORDER BY t.createdAt, t.id
+            """)
+    Stream<TransactionExportRow> streamAllForExport();
+
+    interface PendingDeltaView {
+        UUID getWalletId();
+        Long getPendingDelta();
+    }
+
+    interface RecentAmountView {
+        UUID getWalletId();
+        TransactionType getType();
+        Long getAmount();
+    }
+
+    interface RecentTransactionView {
+        UUID getWalletId();
+        Long getAmount();
+        Instant getCreatedAt();
+    }
+
+    interface TransactionWalletView {
+        UUID getId();
+        UUID getWalletId();
+    }
+
+    interface TransactionStatusView {
+        UUID getId();
+        TransactionStatus getStatus();
+    }
 }
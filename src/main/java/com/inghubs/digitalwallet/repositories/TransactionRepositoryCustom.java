@@ -0,0 +1,17 @@
+package com.inghubs.digitalwallet.repositories;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.inghubs.digitalwallet.dtos.requests.ListTransactionsRequest;
+import com.inghubs.digitalwallet.entities.Transaction;
+import com.inghubs.digitalwallet.utilities.pagination.TransactionCursor;
+
+public interface TransactionRepositoryCustom {
+
+    /**
+     * Returns at most {@code limit} transactions matching the filter, newest
+     * first, strictly after {@code after}. A null wallet ID spans all wallets.
+     */
+    List<Transaction> findPage(UUID walletId, ListTransactionsRequest filter, TransactionCursor after, int limit);
+}
@@ -0,0 +1,67 @@
+package com.inghubs.digitalwallet.repositories;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.inghubs.digitalwallet.dtos.requests.ListTransactionsRequest;
+import com.inghubs.digitalwallet.entities.Transaction;
+import com.inghubs.digitalwallet.utilities.pagination.TransactionCursor;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+
+class TransactionRepositoryCustomImpl implements TransactionRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Transaction> findPage(UUID walletId, ListTransactionsRequest filter, TransactionCursor after,
+            int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Transaction> query = builder.createQuery(Transaction.class);
+        Root<Transaction> transaction = query.from(Transaction.class);
+        Path<Instant> createdAt = transaction.get("createdAt");
+        Path<UUID> id = transaction.get("id");
+        Path<Long> amount = transaction.get("amount");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (walletId != null) {
+            predicates.add(builder.equal(transaction.get("wallet").get("id"), walletId));
+        }
+        if (filter.getStatus() != null) {
+            predicates.add(builder.equal(transaction.get("status"), filter.getStatus()));
+        }
+        if (filter.getType() != null) {
+            predicates.add(builder.equal(transaction.get("type"), filter.getType()));
+        }
+        if (filter.getFrom() != null) {
+            predicates.add(builder.greaterThanOrEqualTo(createdAt, filter.getFrom()));
+        }
+        if (filter.getTo() != null) {
+            predicates.add(builder.lessThan(createdAt, filter.getTo()));
+        }
+        if (filter.getMinAmount() != null) {
+            predicates.add(builder.greaterThanOrEqualTo(amount, filter.getMinAmount()));
+        }
+        if (filter.getMaxAmount() != null) {
+            predicates.add(builder.lessThanOrEqualTo(amount, filter.getMaxAmount()));
+        }
+        if (after != null) {
+            predicates.add(builder.or(
+                    builder.lessThan(createdAt, after.createdAt()),
+                    builder.and(builder.equal(createdAt, after.createdAt()), builder.lessThan(id, after.id()))));
+        }
+
+        query.select(transaction)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(builder.desc(createdAt), builder.desc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
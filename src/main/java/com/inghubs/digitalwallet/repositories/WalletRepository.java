@@ -3,6 +3,7 @@ package com.inghubs.digitalwallet.repositories;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
@@ -12,4 +13,7 @@ import com.inghubs.digitalwallet.entities.Wallet;
 public interface WalletRepository extends CrudRepository<Wallet, UUID> {
     
     List<Wallet> findByCustomerId(UUID customerId);
+
+    @Query("SELECT w.id FROM Wallet w WHERE w.customer.id = :customerId")
+    List<UUID> findIdsByCustomerId(UUID customerId);
 }
@@ -0,0 +1,13 @@
+package com.inghubs.digitalwallet.services;
+
+import java.util.function.Supplier;
+
+import com.inghubs.digitalwallet.utilities.security.CustomUserDetails;
+
+public interface IdempotencyService {
+    <T> T Execute(String idempotencyKey, String operation, Object request, CustomUserDetails userDetails,
+            Class<T> responseType, Supplier<T> action);
+
+    // Stores the response of the idempotent request running on this thread, if any, in the caller's transaction.
+    <T> T RecordResponse(T response);
+}
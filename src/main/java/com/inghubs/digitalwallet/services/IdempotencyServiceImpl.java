@@ -0,0 +1,223 @@
+package com.inghubs.digitalwallet.services;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inghubs.digitalwallet.entities.IdempotencyRecord;
+import com.inghubs.digitalwallet.repositories.IdempotencyRecordRepository;
+import com.inghubs.digitalwallet.utilities.exceptions.*;
+import com.inghubs.digitalwallet.utilities.idempotency.KeyBloomFilter;
+import com.inghubs.digitalwallet.utilities.security.CustomUserDetails;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Deduplicates retried wallet operations by Idempotency-Key. Keys are scoped
+ * to the caller and operation. The bloom filter answers "never seen" from
+ * memory; anything else is settled by the primary key of the record table,
+ * which also stays correct across instances and restarts. Wallet operations
+ * store their response through {@link #RecordResponse} in the same database
+ * transaction as the balance change, so a key is never left claimed for an
+ * operation that committed; a claim whose request died before committing is
+ * taken over once its lease has run out.
+ */
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    public static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final JsonMapper jsonMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration ttl;
+    private final Duration claimLease;
+    private final long bloomExpectedKeys;
+    private final double bloomFalsePositiveRate;
+    private volatile KeyBloomFilter seenKeys;
+    private final ThreadLocal<IdempotencyRecord> inFlightClaim = new ThreadLocal<>();
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyServiceImpl.class);
+
+    public IdempotencyServiceImpl(IdempotencyRecordRepository idempotencyRecordRepository, JsonMapper jsonMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${wallet.idempotency.ttl}") long ttlMs,
+            @Value("${wallet.idempotency.claim-lease}") long claimLeaseMs,
+            @Value("${wallet.idempotency.bloom-expected-keys}") long bloomExpectedKeys,
+            @Value("${wallet.idempotency.bloom-false-positive-rate}") double bloomFalsePositiveRate) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.jsonMapper = jsonMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.ttl = Duration.ofMillis(ttlMs);
+        this.claimLease = Duration.ofMillis(claimLeaseMs);
+        this.bloomExpectedKeys = bloomExpectedKeys;
+        this.bloomFalsePositiveRate = bloomFalsePositiveRate;
+        this.seenKeys = new KeyBloomFilter(bloomExpectedKeys, bloomFalsePositiveRate);
+    }
+
+    @Override
+    public <T> T Execute(String idempotencyKey, String operation, Object request, CustomUserDetails userDetails,
+            Class<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BadRequestException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters.");
+        }
+
+        String recordId = userDetails.getId() + ":" + operation + ":" + idempotencyKey;
+        if (recordId.length() > IdempotencyRecord.ID_LENGTH) {
+            throw new IllegalStateException("Idempotency record id exceeds " + IdempotencyRecord.ID_LENGTH + " characters.");
+        }
+        String requestHash = this.hash(jsonMapper.writeValueAsBytes(request));
+
+        if (seenKeys.mightContain(recordId)) {
+            IdempotencyRecord existing = idempotencyRecordRepository.findById(recordId).orElse(null);
+            Instant now = Instant.now();
+            if (existing != null && !existing.isCompleted() && existing.getClaimedAt().plus(claimLease).isBefore(now)) {
+                // Its request stopped before committing, since the response commits with the operation.
+                logger.info("Taking over idempotency key {} after its claim lease ran out.", recordId);
+                idempotencyRecordRepository.release(existing.getId(), existing.getClaimedAt());
+            } else if (existing != null && existing.getExpiresAt().isAfter(now)) {
+                return this.Replay(existing, requestHash, responseType);
+            } else if (existing != null) {
+                idempotencyRecordRepository.delete(existing);
+            }
+        }
+
+        IdempotencyRecord claim = this.Claim(recordId, requestHash);
+        if (claim == null) {
+            IdempotencyRecord winner = idempotencyRecordRepository.findById(recordId)
+                    .orElseThrow(() -> new ConflictException("Idempotency-Key is being processed, retry later."));
+            return this.Replay(winner, requestHash, responseType);
+        }
+
+        T response;
+        inFlightClaim.set(claim);
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            if (!claim.isCompleted()) {
+                // The operation rolled back together with its response, so the client may retry it.
+                idempotencyRecordRepository.release(claim.getId(), claim.getClaimedAt());
+            }
+            throw e;
+        } finally {
+            inFlightClaim.remove();
+        }
+
+        if (!claim.isCompleted()) {
+            // The action did not run in a wallet unit of work, so its response is stored on its own.
+            this.Complete(claim, jsonMapper.writeValueAsString(response));
+        }
+        return response;
+    }
+
+    @Override
+    public <T> T RecordResponse(T response) {
+        IdempotencyRecord claim = inFlightClaim.get();
+        if (claim != null && !claim.isCompleted()) {
+            this.Complete(claim, jsonMapper.writeValueAsString(response));
+        }
+        return response;
+    }
+
+    private void Complete(IdempotencyRecord claim, String response) {
+        if (idempotencyRecordRepository.complete(claim.getId(), claim.getClaimedAt(), response) == 0) {
+            // Failing here rolls back the caller's operation, so only the request holding the key applies it.
+            throw new ConflictException("Idempotency-Key was taken over by another request, retry later.");
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            claim.setResponse(response);
+            return;
+        }
+        // An optimistic retry runs the unit of work again, so the claim only counts as completed once it commits.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                claim.setResponse(response);
+            }
+        });
+    }
+
+    private IdempotencyRecord Claim(String recordId, String requestHash) {
+        seenKeys.put(recordId);
+        // Compared for equality later, so kept at a precision every database stores exactly.
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        try {
+            return idempotencyRecordRepository.save(IdempotencyRecord.builder()
+                    .id(recordId)
+                    .requestHash(requestHash)
+                    .claimedAt(now)
+                    .expiresAt(now.plus(ttl))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Idempotency key {} was claimed concurrently.", recordId);
+            return null;
+        }
+    }
+
+    private <T> T Replay(IdempotencyRecord record, String requestHash, Class<T> responseType) {
+        if (!record.getRequestHash().equals(requestHash)) {
+            logger.warn("Idempotency key {} reused with a different request.", record.getId());
+            throw new BadRequestException("Idempotency-Key was already used for a different request.");
+        }
+        if (!record.isCompleted()) {
+            throw new ConflictException("Idempotency-Key is being processed, retry later.");
+        }
+
+        logger.debug("Replaying response for idempotency key {}.", record.getId());
+        return jsonMapper.readValue(record.getResponse(), responseType);
+    }
+
+    /**
+     * Drops expired records and rebuilds the bloom filter from the live ones,
+     * so expired keys stop producing false positives. A key claimed while the
+     * filter is rebuilt may be missing from it; the primary key still catches it.
+     */
+    @Scheduled(fixedDelayString = "${wallet.idempotency.purge-interval}", initialDelayString = "${wallet.idempotency.purge-interval}")
+    public void purgeExpired() {
+        int purged = idempotencyRecordRepository.deleteExpired(Instant.now());
+        this.rebuildBloomFilter();
+        logger.info("Purged {} expired idempotency record(s).", purged);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildBloomFilter() {
+        KeyBloomFilter rebuilt = new KeyBloomFilter(bloomExpectedKeys, bloomFalsePositiveRate);
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<String> ids = idempotencyRecordRepository.streamLiveIds(Instant.now())) {
+                ids.forEach(rebuilt::put);
+            }
+        });
+        this.seenKeys = rebuilt;
+    }
+
+    private String hash(byte[] body) {
+        try {
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+    }
+}
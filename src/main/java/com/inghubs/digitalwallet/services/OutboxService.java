@@ -0,0 +1,9 @@
+package com.inghubs.digitalwallet.services;
+
+import com.inghubs.digitalwallet.entities.Transaction;
+import com.inghubs.digitalwallet.utilities.enums.*;
+
+public interface OutboxService {
+    void RecordBalanceChanged(Transaction transaction, BalanceOperation operation, long balance, long usableBalance);
+    void RecordTransactionStatusChanged(Transaction transaction, TransactionStatus previousStatus);
+}
@@ -0,0 +1,69 @@
+package com.inghubs.digitalwallet.services;
+
+import java.time.Instant;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.inghubs.digitalwallet.dtos.events.*;
+import com.inghubs.digitalwallet.entities.*;
+import com.inghubs.digitalwallet.repositories.OutboxEventRepository;
+import com.inghubs.digitalwallet.utilities.enums.*;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Writes wallet events to the outbox table. Each method requires the caller's
+ * transaction, so an event commits or rolls back with the change it describes.
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class OutboxServiceImpl implements OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final JsonMapper jsonMapper;
+
+    public OutboxServiceImpl(OutboxEventRepository outboxEventRepository, JsonMapper jsonMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public void RecordBalanceChanged(Transaction transaction, BalanceOperation operation, long balance,
+            long usableBalance) {
+        Wallet wallet = transaction.getWallet();
+        this.Append(wallet, OutboxEventType.BALANCE_CHANGED, BalanceChangedEvent.builder()
+                .walletId(wallet.getId())
+                .transactionId(transaction.getId())
+                .operation(operation)
+                .currency(wallet.getCurrency())
+                .amount(transaction.getAmount())
+                .balance(balance)
+                .usableBalance(usableBalance)
+                .occurredAt(Instant.now())
+                .build());
+    }
+
+    @Override
+    public void RecordTransactionStatusChanged(Transaction transaction, TransactionStatus previousStatus) {
+        Wallet wallet = transaction.getWallet();
+        this.Append(wallet, OutboxEventType.TRANSACTION_STATUS_CHANGED, TransactionStatusChangedEvent.builder()
+                .transactionId(transaction.getId())
+                .walletId(wallet.getId())
+                .type(transaction.getType())
+                .amount(transaction.getAmount())
+                .previousStatus(previousStatus)
+                .status(transaction.getStatus())
+                .occurredAt(Instant.now())
+                .build());
+    }
+
+    private void Append(Wallet wallet, OutboxEventType eventType, Object event) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .walletId(wallet.getId())
+                .eventType(eventType)
+                .payload(jsonMapper.writeValueAsString(event))
+                .build());
+    }
+}
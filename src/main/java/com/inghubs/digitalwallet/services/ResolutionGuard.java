@@ -0,0 +1,18 @@
+package com.inghubs.digitalwallet.services;
+
+import com.inghubs.digitalwallet.entities.Transaction;
+
+/**
+ * Last check on a pending transaction before a bulk resolution applies it.
+ * It runs under the wallet's lock, inside the unit of work that resolves the
+ * transaction, with the usable balance the wallet has at that moment,
+ * including the earlier resolutions of the same chunk.
+ */
+@FunctionalInterface
+public interface ResolutionGuard {
+
+    /**
+     * Returns null to resolve the transaction, or the reason it stays pending.
+     */
+    String check(Transaction transaction, long usableBalance);
+}
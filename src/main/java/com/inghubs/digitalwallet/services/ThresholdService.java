@@ -0,0 +1,11 @@
+package com.inghubs.digitalwallet.services;
+
+import com.inghubs.digitalwallet.dtos.responses.ReloadThresholdsResponse;
+import com.inghubs.digitalwallet.entities.Wallet;
+import com.inghubs.digitalwallet.utilities.enums.OppositePartyType;
+import com.inghubs.digitalwallet.utilities.security.CustomUserDetails;
+
+public interface ThresholdService {
+    boolean RequiresApproval(Wallet wallet, OppositePartyType oppositePartyType, long amount);
+    ReloadThresholdsResponse ReloadThresholds(CustomUserDetails userDetails);
+}
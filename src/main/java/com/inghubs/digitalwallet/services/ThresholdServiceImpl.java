@@ -0,0 +1,82 @@
+package com.inghubs.digitalwallet.services;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.inghubs.digitalwallet.dtos.responses.ReloadThresholdsResponse;
+import com.inghubs.digitalwallet.entities.ThresholdPolicy;
+import com.inghubs.digitalwallet.entities.Wallet;
+import com.inghubs.digitalwallet.repositories.CustomerRepository;
+import com.inghubs.digitalwallet.repositories.ThresholdPolicyRepository;
+import com.inghubs.digitalwallet.utilities.enums.*;
+import com.inghubs.digitalwallet.utilities.security.CustomUserDetails;
+import com.inghubs.digitalwallet.utilities.thresholds.ThresholdSnapshot;
+
+/**
+ * Decides PENDING versus APPROVED from an in-memory snapshot of the threshold
+ * policies and customer tiers. A reload builds a complete new snapshot and
+ * then replaces the reference, so readers see either the old or the new
+ * policies and never a mix, and the deposit and withdraw paths never wait on
+ * or query the policy tables.
+ */
+@Service
+public class ThresholdServiceImpl implements ThresholdService {
+
+    private final ThresholdPolicyRepository thresholdPolicyRepository;
+    private final CustomerRepository customerRepository;
+    private volatile ThresholdSnapshot snapshot = ThresholdSnapshot.defaults();
+
+    private static final Logger logger = LoggerFactory.getLogger(ThresholdServiceImpl.class);
+
+    public ThresholdServiceImpl(ThresholdPolicyRepository thresholdPolicyRepository,
+            CustomerRepository customerRepository) {
+        this.thresholdPolicyRepository = thresholdPolicyRepository;
+        this.customerRepository = customerRepository;
+    }
+
+    @Override
+    public boolean RequiresApproval(Wallet wallet, OppositePartyType oppositePartyType, long amount) {
+        // The customer's id is held by the wallet's lazy reference, so reading it does not load the customer.
+        return amount > snapshot.amountLimit(wallet.getCustomer().getId(), wallet.getCurrency(), oppositePartyType);
+    }
+
+    @Override
+    public ReloadThresholdsResponse ReloadThresholds(CustomUserDetails userDetails) {
+        if (userDetails.getRole() != Role.EMPLOYEE) {
+            logger.warn("User with ID {} is not authorized to reload thresholds.", userDetails.getId());
+            throw new SecurityException("Not authorized to reload thresholds. Must be an employee.");
+        }
+
+        ThresholdSnapshot loaded = this.reload();
+        return ReloadThresholdsResponse.builder()
+                .policyCount(loaded.getPolicyCount())
+                .tierAssignmentCount(loaded.getTierAssignmentCount())
+                .loadedAt(loaded.getLoadedAt())
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized ThresholdSnapshot reload() {
+        List<ThresholdPolicy> policies = new ArrayList<>();
+        thresholdPolicyRepository.findAll().forEach(policies::add);
+
+        Map<UUID, CustomerTier> customerTiers = new HashMap<>();
+        customerRepository.findTierAssignments(CustomerTier.STANDARD)
+                .forEach(view -> customerTiers.put(view.getId(), view.getTier()));
+
+        ThresholdSnapshot loaded = ThresholdSnapshot.of(policies, customerTiers);
+        this.snapshot = loaded;
+        logger.info("Loaded {} threshold policies and {} customer tier assignment(s).", policies.size(),
+                customerTiers.size());
+        return loaded;
+    }
+}
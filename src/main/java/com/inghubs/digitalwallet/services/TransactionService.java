@@ -1,16 +1,33 @@
 package com.inghubs.digitalwallet.services;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
 import com.inghubs.digitalwallet.dtos.requests.ApproveTransactionRequest;
+import com.inghubs.digitalwallet.dtos.requests.BulkApproveTransactionRequest;
+import com.inghubs.digitalwallet.dtos.requests.ListPendingTransactionsRequest;
+import com.inghubs.digitalwallet.dtos.requests.ListTransactionsRequest;
 import com.inghubs.digitalwallet.dtos.responses.ApproveTransactionResponse;
+import com.inghubs.digitalwallet.dtos.responses.BulkApproveTransactionResponse;
 import com.inghubs.digitalwallet.dtos.responses.ListTransactionsResponse;
 import com.inghubs.digitalwallet.entities.Transaction;
+import com.inghubs.digitalwallet.entities.Wallet;
+import com.inghubs.digitalwallet.utilities.enums.TransactionStatus;
 import com.inghubs.digitalwallet.utilities.security.CustomUserDetails;
 
 public interface TransactionService {
     Transaction CreateTransaction(Transaction transaction);
+    List<Transaction> CreateTransactions(List<Transaction> transactions, Map<UUID, Wallet> wallets);
     ApproveTransactionResponse ApproveTransaction(ApproveTransactionRequest request, CustomUserDetails userDetails);
-    ListTransactionsResponse ListTransactions(UUID walletId, CustomUserDetails userDetails);
-    ListTransactionsResponse ListTransactions(CustomUserDetails userDetails);
+    BulkApproveTransactionResponse BulkApproveTransactions(BulkApproveTransactionRequest request, CustomUserDetails userDetails);
+    BulkApproveTransactionResponse ResolvePendingTransactions(List<UUID> transactionIds, TransactionStatus status);
+    BulkApproveTransactionResponse ResolvePendingTransactions(List<UUID> transactionIds, TransactionStatus status,
+            ResolutionGuard guard);
+    ListTransactionsResponse ListPendingTransactions(ListPendingTransactionsRequest request, CustomUserDetails userDetails);
+    ListTransactionsResponse ListTransactions(UUID walletId, ListTransactionsRequest request, CustomUserDetails userDetails);
+    ListTransactionsResponse ListTransactions(ListTransactionsRequest request, CustomUserDetails userDetails);
+    StreamingResponseBody ExportTransactions(CustomUserDetails userDetails);
 }
@@ -1,20 +1,44 @@
 package com.inghubs.digitalwallet.services;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.inghubs.digitalwallet.dtos.requests.*;
 import com.inghubs.digitalwallet.dtos.responses.*;
+import com.inghubs.digitalwallet.engine.*;
 import com.inghubs.digitalwallet.entities.*;
 import com.inghubs.digitalwallet.repositories.*;
+import com.inghubs.digitalwallet.utilities.concurrency.*;
+import com.inghubs.digitalwallet.utilities.constants.WalletConstants;
 import com.inghubs.digitalwallet.utilities.enums.*;
+import com.inghubs.digitalwallet.utilities.exceptions.BadRequestException;
 import com.inghubs.digitalwallet.utilities.exceptions.NotFoundException;
+import com.inghubs.digitalwallet.utilities.metrics.WalletMetrics;
+import com.inghubs.digitalwallet.utilities.pagination.TransactionCursor;
 import com.inghubs.digitalwallet.utilities.security.CustomUserDetails;
+import com.inghubs.digitalwallet.utilities.velocity.VelocityLimiter;
+
+import tools.jackson.databind.json.JsonMapper;
 
 @Service
 public class TransactionServiceImpl implements TransactionService {
@@ -23,33 +47,105 @@ public class TransactionServiceImpl implements TransactionService {
     private TransactionRepository transactionRepository;
     @Autowired
     private WalletRepository walletRepository;
+    @Autowired
+    private WalletLocks walletLocks;
+    @Autowired
+    private OptimisticRetryPolicy optimisticRetryPolicy;
+    @Autowired(required = false)
+    private BalanceEngine balanceEngine;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JsonMapper jsonMapper;
+    @Autowired
+    private WalletMetrics walletMetrics;
+    @Autowired
+    private OutboxService outboxService;
+    @Autowired
+    private VelocityLimiter velocityLimiter;
 
     private static final Logger logger = LoggerFactory.getLogger(TransactionServiceImpl.class);
 
+    /**
+     * Persists a new transaction and applies its balance change to the wallet
+     * it references. That wallet must be the entity the caller loaded in its
+     * current unit of work while holding the wallet's lock, so no second read
+     * is needed and the row is written once when the unit of work commits.
+     */
     @Override
     public Transaction CreateTransaction(Transaction transaction) {
-        logger.info("Creating transaction for walletId: {}", transaction.getWallet().getId());
+        Wallet wallet = transaction.getWallet();
+        logger.debug("Creating transaction for walletId: {}", wallet.getId());
 
-        if (!walletRepository.existsById(transaction.getWallet().getId())) {
-            logger.warn("Wallet with ID {} not found.", transaction.getWallet().getId());
-            throw new NotFoundException("Wallet not found.");
+        this.markResolvedIfSettled(transaction, Instant.now());
+        Transaction savedTransaction = transactionRepository.save(transaction);
+        logger.debug("Transaction created with ID: {}", savedTransaction.getId());
+        walletMetrics.transactionCreated(savedTransaction);
+        outboxService.RecordTransactionStatusChanged(savedTransaction, null);
+
+        String category = savedTransaction.getStatus() == TransactionStatus.PENDING ? "COMPLETE_PENDING"
+                : "COMPLETE_APPROVED";
+        BalanceOperation operation = getBalanceOperation(category, savedTransaction.getType());
+        logger.debug(operation.getLogMessage(), wallet.getId());
+
+        if (balanceEngine != null) {
+            WalletBalances balances = balanceEngine.apply(savedTransaction, operation, false);
+            outboxService.RecordBalanceChanged(savedTransaction, operation, balances.balance(),
+                    balances.usableBalance());
+        } else {
+            WalletBalances.applyTo(wallet, operation, savedTransaction.getAmount(), false);
+            walletRepository.save(wallet);
+            outboxService.RecordBalanceChanged(savedTransaction, operation, wallet.getBalance(),
+                    wallet.getUsableBalance());
         }
+        return savedTransaction;
+    }
 
-        Transaction savedTransaction = transactionRepository.save(transaction);
-        logger.info("Transaction created with ID: {}", savedTransaction.getId());
+    /**
+     * Persists a batch of new transactions and applies their balance changes
+     * to the given wallets in memory. The caller must hold the locks of every
+     * wallet and run inside a transaction that loaded them, so the wallet rows
+     * are written once per wallet when that transaction commits.
+     */
+    @Override
+    public List<Transaction> CreateTransactions(List<Transaction> transactions, Map<UUID, Wallet> wallets) {
+        logger.debug("Creating {} transactions across {} wallets", transactions.size(), wallets.size());
+
+        Instant now = Instant.now();
+        transactions.forEach(transaction -> this.markResolvedIfSettled(transaction, now));
+        List<Transaction> savedTransactions = new ArrayList<>();
+        transactionRepository.saveAll(transactions).forEach(savedTransactions::add);
+
+        for (Transaction transaction : savedTransactions) {
+            walletMetrics.transactionCreated(transaction);
+            outboxService.RecordTransactionStatusChanged(transaction, null);
+            String category = transaction.getStatus() == TransactionStatus.PENDING ? "COMPLETE_PENDING"
+                    : "COMPLETE_APPROVED";
+            BalanceOperation operation = getBalanceOperation(category, transaction.getType());
+            UUID walletId = transaction.getWallet().getId();
+
+            if (balanceEngine != null) {
+                WalletBalances balances = balanceEngine.apply(transaction, operation, false);
+                outboxService.RecordBalanceChanged(transaction, operation, balances.balance(),
+                        balances.usableBalance());
+            } else {
+                Wallet wallet = WalletBalances.applyTo(wallets.get(walletId), operation, transaction.getAmount(),
+                        false);
+                outboxService.RecordBalanceChanged(transaction, operation, wallet.getBalance(),
+                        wallet.getUsableBalance());
+            }
+        }
 
-        if (savedTransaction.getStatus() == TransactionStatus.APPROVED) {
-            this.CompleteTransaction(savedTransaction);
-        } else if (savedTransaction.getStatus() == TransactionStatus.PENDING) {
-            this.CompletePendingTransaction(savedTransaction);
+        if (balanceEngine == null) {
+            walletRepository.saveAll(wallets.values());
         }
-        return savedTransaction;
+        return savedTransactions;
     }
 
     @Override
     public ApproveTransactionResponse ApproveTransaction(ApproveTransactionRequest request,
             CustomUserDetails userDetails) {
-        logger.info("Approving transaction with transactionId: {}", request.getTransactionId());
+        logger.debug("Approving transaction with transactionId: {}", request.getTransactionId());
 
         if (userDetails.getRole() != Role.EMPLOYEE) {
             logger.warn("User with ID {} is not authorized to approve/reject transactions.", userDetails.getId());
@@ -69,34 +165,161 @@ public class TransactionServiceImpl implements TransactionService {
             throw new IllegalStateException("Only PENDING transactions can be approved or denied.");
         }
 
-        if (request.getStatus() == TransactionStatus.APPROVED) {
-            logger.info("Completing transaction with transactionId: {}", request.getTransactionId());
-            this.CompleteTransaction(transaction);
-        } else if (request.getStatus() == TransactionStatus.DENIED) {
-            this.RevertPendingTransaction(transaction);
-        } else if (request.getStatus() == TransactionStatus.PENDING) {
-            logger.info("Transaction with transactionId: {} remains in PENDING status.", request.getTransactionId());
+        if (request.getStatus() == TransactionStatus.PENDING) {
+            logger.debug("Transaction with transactionId: {} remains in PENDING status.", request.getTransactionId());
             return ApproveTransactionResponse.builder()
                     .transaction(transaction)
                     .build();
         }
 
-        logger.info("Updating status for transactionId: {}", request.getTransactionId());
-        transaction.setStatus(request.getStatus());
-        transaction = transactionRepository.save(transaction);
+        Transaction resolvedTransaction = walletLocks.withLock(transaction.getWallet().getId(),
+                () -> this.ResolvePendingTransaction(transaction.getId(), transaction.getType(),
+                        transaction.getWallet().getId(), request.getStatus()));
 
-        Wallet updatedWallet = walletRepository.findById(transaction.getWallet().getId())
+        Wallet updatedWallet = walletRepository.findById(resolvedTransaction.getWallet().getId())
                 .orElse(null);
+        if (balanceEngine != null) {
+            balanceEngine.overlay(updatedWallet);
+        }
 
         return ApproveTransactionResponse.builder()
-                .transaction(transaction)
+                .transaction(resolvedTransaction)
                 .wallet(updatedWallet)
                 .build();
     }
 
     @Override
-    public ListTransactionsResponse ListTransactions(UUID walletId, CustomUserDetails userDetails) {
-        logger.info("Listing transactions for walletId: {}", walletId);
+    public BulkApproveTransactionResponse BulkApproveTransactions(BulkApproveTransactionRequest request,
+            CustomUserDetails userDetails) {
+        if (userDetails.getRole() != Role.EMPLOYEE) {
+            logger.warn("User with ID {} is not authorized to approve/reject transactions.", userDetails.getId());
+            throw new SecurityException("Not authorized to approve/reject transactions. Must be an employee.");
+        }
+
+        return this.ResolvePendingTransactions(request.getTransactionIds(), request.getStatus());
+    }
+
+    /**
+     * Resolves many pending transactions with one decision. Transactions are
+     * grouped by wallet and resolved in chunks of whole wallets: each chunk
+     * takes its wallets' locks, loads the wallets and transactions with one
+     * query each, folds every balance change into its wallet in memory and
+     * flushes once at commit. Items that cannot be resolved are reported per
+     * item and do not stop the rest. Callers are responsible for authorization.
+     */
+    @Override
+    public BulkApproveTransactionResponse ResolvePendingTransactions(List<UUID> transactionIds,
+            TransactionStatus status) {
+        return this.ResolvePendingTransactions(transactionIds, status, null);
+    }
+
+    /**
+     * Same as {@link #ResolvePendingTransactions(List, TransactionStatus)},
+     * with each transaction passed to the guard under its wallet's lock right
+     * before it is resolved; one the guard rejects stays pending.
+     */
+    @Override
+    public BulkApproveTransactionResponse ResolvePendingTransactions(List<UUID> transactionIds,
+            TransactionStatus status, ResolutionGuard guard) {
+        if (status != TransactionStatus.APPROVED && status != TransactionStatus.DENIED) {
+            throw new BadRequestException("Bulk approval status must be APPROVED or DENIED.");
+        }
+
+        if (transactionIds.size() > WalletConstants.MAX_BULK_APPROVAL_SIZE) {
+            throw new BadRequestException("A bulk approval may hold at most "
+                    + WalletConstants.MAX_BULK_APPROVAL_SIZE + " transactions.");
+        }
+        logger.debug("Bulk resolving {} transactions as {}", transactionIds.size(), status);
+
+        List<BulkApprovalItemResult> results = new ArrayList<>(transactionIds.size());
+        Map<UUID, BulkApprovalItemResult> resultsById = new LinkedHashMap<>();
+        for (int i = 0; i < transactionIds.size(); i++) {
+            BulkApprovalItemResult result = BulkApprovalItemResult.builder()
+                    .index(i)
+                    .transactionId(transactionIds.get(i))
+                    .build();
+            results.add(result);
+            if (resultsById.putIfAbsent(result.getTransactionId(), result) != null) {
+                result.setError("Duplicate transaction ID.");
+            }
+        }
+
+        // Only ids and wallet ids are read here; the entities are loaded under the wallet locks.
+        Map<UUID, List<UUID>> transactionIdsByWallet = new LinkedHashMap<>();
+        List<UUID> uniqueIds = new ArrayList<>(resultsById.keySet());
+        for (int from = 0; from < uniqueIds.size(); from += WalletConstants.BULK_APPROVAL_CHUNK_SIZE) {
+            List<UUID> slice = uniqueIds.subList(from,
+                    Math.min(from + WalletConstants.BULK_APPROVAL_CHUNK_SIZE, uniqueIds.size()));
+            for (TransactionRepository.TransactionWalletView view : transactionRepository.findWalletIdsByIdIn(slice)) {
+                resultsById.get(view.getId()).setWalletId(view.getWalletId());
+                transactionIdsByWallet.computeIfAbsent(view.getWalletId(), walletId -> new ArrayList<>())
+                        .add(view.getId());
+            }
+        }
+        resultsById.values().stream()
+                .filter(result -> result.getWalletId() == null)
+                .forEach(result -> result.setError("Transaction not found."));
+
+        Map<UUID, List<UUID>> chunk = new LinkedHashMap<>();
+        int chunkSize = 0;
+        for (Map.Entry<UUID, List<UUID>> entry : transactionIdsByWallet.entrySet()) {
+            chunk.put(entry.getKey(), entry.getValue());
+            chunkSize += entry.getValue().size();
+            if (chunkSize >= WalletConstants.BULK_APPROVAL_CHUNK_SIZE) {
+                this.ResolvePendingChunk(chunk, status, guard, resultsById);
+                chunk = new LinkedHashMap<>();
+                chunkSize = 0;
+            }
+        }
+        if (!chunk.isEmpty()) {
+            this.ResolvePendingChunk(chunk, status, guard, resultsById);
+        }
+
+        int appliedCount = (int) results.stream().filter(result -> result.getError() == null).count();
+        logger.info("Bulk approval resolved {} transaction(s) as {}, rejected {}.", appliedCount, status,
+                results.size() - appliedCount);
+        return BulkApproveTransactionResponse.builder()
+                .results(results)
+                .appliedCount(appliedCount)
+                .rejectedCount(results.size() - appliedCount)
+                .build();
+    }
+
+    @Override
+    public ListTransactionsResponse ListPendingTransactions(ListPendingTransactionsRequest request,
+            CustomUserDetails userDetails) {
+        if (userDetails.getRole() != Role.EMPLOYEE) {
+            logger.warn("User with ID {} is not authorized to list pending transactions.", userDetails.getId());
+            throw new SecurityException("Not authorized to list pending transactions. Must be an employee.");
+        }
+
+        int limit = request.getLimit() == null ? WalletConstants.DEFAULT_PAGE_SIZE
+                : Math.clamp(request.getLimit(), 1, WalletConstants.MAX_PAGE_SIZE);
+        TransactionCursor after = TransactionCursor.decode(request.getCursor());
+        logger.debug("Listing pending transactions after cursor: {}", after);
+
+        // One extra row tells whether another page exists without a count query.
+        List<Transaction> transactions = after == null
+                ? transactionRepository.findByStatusOrderByCreatedAtAscIdAsc(TransactionStatus.PENDING,
+                        Limit.of(limit + 1))
+                : transactionRepository.findByStatusAfter(TransactionStatus.PENDING, after.createdAt(), after.id(),
+                        Limit.of(limit + 1));
+        String nextCursor = null;
+        if (transactions.size() > limit) {
+            transactions = transactions.subList(0, limit);
+            nextCursor = TransactionCursor.of(transactions.getLast()).encode();
+        }
+
+        return ListTransactionsResponse.builder()
+                .transactions(transactions)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Override
+    public ListTransactionsResponse ListTransactions(UUID walletId, ListTransactionsRequest request,
+            CustomUserDetails userDetails) {
+        logger.debug("Listing transactions for walletId: {}", walletId);
 
         if (!walletRepository.existsById(walletId)) {
             logger.warn("Wallet with ID {} not found.", walletId);
@@ -113,38 +336,227 @@ public class TransactionServiceImpl implements TransactionService {
             throw new SecurityException("Not authorized to access transactions for this wallet.");
         }
 
-        return ListTransactionsResponse.builder()
-                .transactions(transactionRepository.findByWalletId(walletId))
-                .build();
+        return this.ListTransactionPage(walletId, request);
     }
 
     @Override
-    public ListTransactionsResponse ListTransactions(CustomUserDetails userDetails) {
+    public ListTransactionsResponse ListTransactions(ListTransactionsRequest request, CustomUserDetails userDetails) {
         if (userDetails.getRole() != Role.EMPLOYEE) {
             logger.warn("User with ID {} is not authorized to list all transactions.", userDetails.getId());
             throw new SecurityException("Not authorized to list all transactions. Must be an employee.");
         }
 
-        logger.info("Listing all transactions");
+        logger.debug("Listing all transactions");
+
+        return this.ListTransactionPage(null, request);
+    }
+
+    @Override
+    public StreamingResponseBody ExportTransactions(CustomUserDetails userDetails) {
+        if (userDetails.getRole() != Role.EMPLOYEE) {
+            logger.warn("User with ID {} is not authorized to export transactions.", userDetails.getId());
+            throw new SecurityException("Not authorized to export transactions. Must be an employee.");
+        }
+
+        logger.info("Exporting all transactions");
+
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        return outputStream -> readOnlyTransaction.executeWithoutResult(status -> this.WriteExport(outputStream));
+    }
+
+    private void WriteExport(OutputStream outputStream) {
+        long exported = 0;
+        try (Stream<TransactionExportRow> rows = transactionRepository.streamAllForExport()) {
+            OutputStream output = new BufferedOutputStream(outputStream, 64 * 1024);
+            for (TransactionExportRow row : (Iterable<TransactionExportRow>) rows::iterator) {
+                output.write(jsonMapper.writeValueAsBytes(row));
+                output.write('\n');
+                exported++;
+            }
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Transaction export aborted after " + exported + " rows.", e);
+        }
+        logger.info("Exported {} transactions.", exported);
+    }
+
+    private ListTransactionsResponse ListTransactionPage(UUID walletId, ListTransactionsRequest request) {
+        int limit = request.getLimit() == null ? WalletConstants.DEFAULT_PAGE_SIZE
+                : Math.clamp(request.getLimit(), 1, WalletConstants.MAX_PAGE_SIZE);
+        TransactionCursor after = TransactionCursor.decode(request.getCursor());
+
+        // One extra row tells whether another page exists without a count query.
+        List<Transaction> transactions = transactionRepository.findPage(walletId, request, after, limit + 1);
+        String nextCursor = null;
+        if (transactions.size() > limit) {
+            transactions = transactions.subList(0, limit);
+            nextCursor = TransactionCursor.of(transactions.getLast()).encode();
+        }
 
         return ListTransactionsResponse.builder()
-                .transactions(transactionRepository.findAll())
+                .transactions(transactions)
+                .nextCursor(nextCursor)
                 .build();
     }
 
-    private Wallet CompletePendingTransaction(Transaction transaction) {
-        return this.updateWalletBalance(transaction,
-                getBalanceOperation("COMPLETE_PENDING", transaction.getType()));
+    /**
+     * Resolves one pending transaction under its wallet's lock. The transaction
+     * is read again inside the unit of work, so the status check and the update
+     * act on the row as it is now, not on the copy loaded before the lock.
+     */
+    private Transaction ResolvePendingTransaction(UUID transactionId, TransactionType type, UUID walletId,
+            TransactionStatus status) {
+        BalanceOperation operation = switch (status) {
+            case APPROVED -> getBalanceOperation("COMPLETE_APPROVED", type);
+            case DENIED -> getBalanceOperation("REVERT_PENDING", type);
+            default -> null;
+        };
+        TransactionTemplate unitOfWork = new TransactionTemplate(transactionManager);
+
+        // The wallet and transaction updates are flushed together when the unit commits, so a
+        // version conflict surfaces at commit and the whole unit is retried.
+        Transaction resolvedTransaction = optimisticRetryPolicy.execute(
+                operation == null ? status.name() : operation.name(), walletId,
+                () -> unitOfWork.execute(txStatus -> {
+                    Transaction transaction = transactionRepository.findById(transactionId)
+                            .filter(found -> found.getStatus() == TransactionStatus.PENDING)
+                            .orElse(null);
+                    if (transaction == null) {
+                        logger.warn("Transaction with ID {} was resolved concurrently.", transactionId);
+                        throw new IllegalStateException("Only PENDING transactions can be approved or denied.");
+                    }
+
+                    logger.debug("Updating status for transactionId: {}", transactionId);
+                    transaction.setStatus(status);
+                    transaction.setResolvedAt(Instant.now());
+                    Transaction savedTransaction = transactionRepository.save(transaction);
+                    outboxService.RecordTransactionStatusChanged(savedTransaction, TransactionStatus.PENDING);
+                    this.releaseDeniedWithdrawal(savedTransaction);
+
+                    if (operation != null) {
+                        this.applyBalanceOperation(savedTransaction, operation, true);
+                    }
+                    return savedTransaction;
+                }));
+
+        walletMetrics.transactionResolved(resolvedTransaction, status);
+        return resolvedTransaction;
     }
 
-    private Wallet RevertPendingTransaction(Transaction transaction) {
-        return this.updateWalletBalance(transaction,
-                getBalanceOperation("REVERT_PENDING", transaction.getType()));
+    private void ResolvePendingChunk(Map<UUID, List<UUID>> transactionIdsByWallet, TransactionStatus status,
+            ResolutionGuard guard, Map<UUID, BulkApprovalItemResult> resultsById) {
+        TransactionTemplate unitOfWork = new TransactionTemplate(transactionManager);
+        try {
+            List<Transaction> resolvedTransactions = walletLocks.withLocks(transactionIdsByWallet.keySet(),
+                    () -> unitOfWork.execute(txStatus -> this.ApplyResolutions(transactionIdsByWallet, status,
+                            guard, resultsById)));
+
+            for (Transaction transaction : resolvedTransactions) {
+                resultsById.get(transaction.getId()).setStatus(status);
+                walletMetrics.transactionResolved(transaction, status);
+            }
+        } catch (OptimisticLockingFailureException e) {
+            // The locks are per instance, so this only happens when another instance wrote one of the wallets.
+            logger.warn("Bulk approval chunk of {} wallet(s) conflicted with a concurrent update.",
+                    transactionIdsByWallet.size());
+            this.FailChunk(transactionIdsByWallet, resultsById,
+                    "Wallet was updated concurrently; retry this transaction.");
+        } catch (RuntimeException e) {
+            // The chunk rolled back as a whole, engine balances included, so its other chunks are unaffected.
+            logger.error("Bulk approval chunk of {} wallet(s) failed.", transactionIdsByWallet.size(), e);
+            this.FailChunk(transactionIdsByWallet, resultsById,
+                    "Transaction could not be resolved; retry this transaction.");
+        }
     }
 
-    private Wallet CompleteTransaction(Transaction transaction) {
-        return this.updateWalletBalance(transaction,
-                getBalanceOperation("COMPLETE_APPROVED", transaction.getType()));
+    private void FailChunk(Map<UUID, List<UUID>> transactionIdsByWallet, Map<UUID, BulkApprovalItemResult> resultsById,
+            String error) {
+        transactionIdsByWallet.values().stream()
+                .flatMap(List::stream)
+                .map(resultsById::get)
+                .filter(result -> result.getError() == null)
+                .forEach(result -> result.setError(error));
+    }
+
+    private List<Transaction> ApplyResolutions(Map<UUID, List<UUID>> transactionIdsByWallet, TransactionStatus status,
+            ResolutionGuard guard, Map<UUID, BulkApprovalItemResult> resultsById) {
+        // Wallets are loaded first so the transactions' wallet references resolve to these instances.
+        Map<UUID, Wallet> wallets = new HashMap<>();
+        walletRepository.findAllById(transactionIdsByWallet.keySet())
+                .forEach(wallet -> wallets.put(wallet.getId(), wallet));
+
+        Map<UUID, Transaction> transactions = new HashMap<>();
+        transactionRepository.findAllById(transactionIdsByWallet.values().stream().flatMap(List::stream).toList())
+                .forEach(transaction -> transactions.put(transaction.getId(), transaction));
+
+        String category = status == TransactionStatus.APPROVED ? "COMPLETE_APPROVED" : "REVERT_PENDING";
+        Instant resolvedAt = Instant.now();
+        List<Transaction> resolvedTransactions = new ArrayList<>();
+        for (Map.Entry<UUID, List<UUID>> entry : transactionIdsByWallet.entrySet()) {
+            Wallet wallet = wallets.get(entry.getKey());
+
+            for (UUID transactionId : entry.getValue()) {
+                Transaction transaction = transactions.get(transactionId);
+                if (transaction == null || wallet == null) {
+                    resultsById.get(transactionId).setError("Transaction not found.");
+                    continue;
+                }
+                if (transaction.getStatus() != TransactionStatus.PENDING) {
+                    resultsById.get(transactionId).setError("Only PENDING transactions can be approved or denied.");
+                    continue;
+                }
+                if (guard != null) {
+                    long usableBalance = balanceEngine != null
+                            ? balanceEngine.usableBalance(wallet.getId(), wallet.getUsableBalance())
+                            : wallet.getUsableBalance();
+                    String rejection = guard.check(transaction, usableBalance);
+                    if (rejection != null) {
+                        resultsById.get(transactionId).setError(rejection);
+                        continue;
+                    }
+                }
+
+                transaction.setStatus(status);
+                transaction.setResolvedAt(resolvedAt);
+                outboxService.RecordTransactionStatusChanged(transaction, TransactionStatus.PENDING);
+                this.releaseDeniedWithdrawal(transaction);
+
+                BalanceOperation operation = getBalanceOperation(category, transaction.getType());
+                if (balanceEngine != null) {
+                    WalletBalances balances = balanceEngine.apply(transaction, operation, true);
+                    outboxService.RecordBalanceChanged(transaction, operation, balances.balance(),
+                            balances.usableBalance());
+                } else {
+                    // The wallet is managed and locked, so its fields are updated in place and flushed at commit.
+                    WalletBalances.applyTo(wallet, operation, transaction.getAmount(), true);
+                    outboxService.RecordBalanceChanged(transaction, operation, wallet.getBalance(),
+                            wallet.getUsableBalance());
+                }
+                resolvedTransactions.add(transaction);
+            }
+        }
+
+        // Managed entities are written by the single flush at commit; saveAll only makes that explicit.
+        transactionRepository.saveAll(resolvedTransactions);
+        if (balanceEngine == null) {
+            walletRepository.saveAll(wallets.values());
+        }
+        return resolvedTransactions;
+    }
+
+    private void releaseDeniedWithdrawal(Transaction transaction) {
+        if (transaction.getStatus() == TransactionStatus.DENIED && transaction.getType() == TransactionType.WITHDRAW) {
+            velocityLimiter.release(transaction.getWallet().getId(), transaction.getAmount(),
+                    transaction.getCreatedAt());
+        }
+    }
+
+    private void markResolvedIfSettled(Transaction transaction, Instant now) {
+        if (transaction.getStatus() != TransactionStatus.PENDING && transaction.getResolvedAt() == null) {
+            transaction.setResolvedAt(now);
+        }
     }
 
     private BalanceOperation getBalanceOperation(String operationCategory, TransactionType type) {
@@ -159,53 +571,31 @@ public class TransactionServiceImpl implements TransactionService {
         };
     }
 
-    private Wallet updateWalletBalance(Transaction transaction, BalanceOperation operation) {
-        Wallet affectedWallet = walletRepository.findById(transaction.getWallet().getId())
-                .orElse(null);
+    private void applyBalanceOperation(Transaction transaction, BalanceOperation operation,
+            boolean settlesPending) {
+        UUID walletId = transaction.getWallet().getId();
+        logger.debug(operation.getLogMessage(), walletId);
 
-        if (affectedWallet == null) {
-            logger.warn("Wallet with ID {} not found.", transaction.getWallet().getId());
-            return null;
+        if (balanceEngine != null) {
+            WalletBalances balances = balanceEngine.apply(transaction, operation, settlesPending);
+            outboxService.RecordBalanceChanged(transaction, operation, balances.balance(), balances.usableBalance());
+            return;
         }
 
-        logger.info(operation.getLogMessage(), transaction.getWallet().getId());
-
-        Double amount = transaction.getAmount();
+        Wallet affectedWallet = walletRepository.findById(walletId)
+                .orElse(null);
 
-        switch (operation) {
-            case COMPLETE_PENDING_DEPOSIT -> affectedWallet.setBalance(affectedWallet.getBalance() + amount);
-            case COMPLETE_PENDING_WITHDRAW -> affectedWallet.setBalance(affectedWallet.getBalance() - amount);
-            case REVERT_PENDING_DEPOSIT -> affectedWallet.setBalance(affectedWallet.getBalance() - amount);
-            case REVERT_PENDING_WITHDRAW -> affectedWallet.setBalance(affectedWallet.getBalance() + amount);
-            case COMPLETE_APPROVED_DEPOSIT -> {
-                affectedWallet.setUsableBalance(affectedWallet.getUsableBalance() + amount);
-                affectedWallet.setBalance(this.calculateFinalBalance(affectedWallet, transaction));
-            }
-            case COMPLETE_APPROVED_WITHDRAW -> {
-                affectedWallet.setUsableBalance(affectedWallet.getUsableBalance() - amount);
-                affectedWallet.setBalance(this.calculateFinalBalance(affectedWallet, transaction));
-            }
+        if (affectedWallet == null) {
+            logger.warn("Wallet with ID {} not found.", walletId);
+            return;
         }
 
-        return walletRepository.save(affectedWallet);
-    }
-
-    private Double calculateFinalBalance(Wallet wallet, Transaction completedTransaction) {
-        logger.info("Syncing balance for wallet ID {}", wallet.getId());
-        Double finalBalance = 0.0;
-        List<Transaction> pendingTransactions = transactionRepository.findByWalletIdAndStatus(wallet.getId(),
-                TransactionStatus.PENDING);
+        logger.debug("Syncing balance for wallet ID {}", walletId);
 
-        for (Transaction transaction : pendingTransactions) {
-            if (!transaction.equals(completedTransaction)) {
-                if (transaction.getType() == TransactionType.DEPOSIT) {
-                    finalBalance += transaction.getAmount();
-                } else if (transaction.getType() == TransactionType.WITHDRAW) {
-                    finalBalance -= transaction.getAmount();
-                }
-            }
-        }
-        return finalBalance + wallet.getUsableBalance();
+        WalletBalances.applyTo(affectedWallet, operation, transaction.getAmount(), settlesPending);
+        walletRepository.save(affectedWallet);
+        outboxService.RecordBalanceChanged(transaction, operation, affectedWallet.getBalance(),
+                affectedWallet.getUsableBalance());
     }
 
 }
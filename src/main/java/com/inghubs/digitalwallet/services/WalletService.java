@@ -11,4 +11,6 @@ public interface WalletService {
     CreateWalletResponse CreateWallet(CreateWalletRequest request, CustomUserDetails userDetails);
     DepositWalletResponse DepositWallet(DepositWalletRequest request);
     WithdrawWalletResponse WithdrawWallet(WithdrawWalletRequest request, CustomUserDetails userDetails);
+    BatchWalletResponse BatchWallet(BatchWalletRequest request, CustomUserDetails userDetails);
+    TransferWalletResponse TransferWallet(TransferWalletRequest request, CustomUserDetails userDetails);
 }
@@ -1,19 +1,34 @@
 package com.inghubs.digitalwallet.services;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.inghubs.digitalwallet.dtos.requests.*;
 import com.inghubs.digitalwallet.dtos.responses.*;
+import com.inghubs.digitalwallet.engine.BalanceEngine;
 import com.inghubs.digitalwallet.entities.*;
 import com.inghubs.digitalwallet.repositories.*;
+import com.inghubs.digitalwallet.utilities.concurrency.*;
 import com.inghubs.digitalwallet.utilities.constants.WalletConstants;
 import com.inghubs.digitalwallet.utilities.enums.*;
 import com.inghubs.digitalwallet.utilities.exceptions.*;
+import com.inghubs.digitalwallet.utilities.identifiers.UuidV7Generator;
+import com.inghubs.digitalwallet.utilities.metrics.WalletMetrics;
 import com.inghubs.digitalwallet.utilities.security.CustomUserDetails;
+import com.inghubs.digitalwallet.utilities.velocity.*;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,12 +42,28 @@ public class WalletServiceImpl implements WalletService {
     private CustomerRepository customerRepository;
     @Autowired
     private TransactionService transactionService;
+    @Autowired(required = false)
+    private BalanceEngine balanceEngine;
+    @Autowired
+    private WalletMetrics walletMetrics;
+    @Autowired
+    private WalletLocks walletLocks;
+    @Autowired
+    private OptimisticRetryPolicy optimisticRetryPolicy;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ThresholdService thresholdService;
+    @Autowired
+    private VelocityLimiter velocityLimiter;
+    @Autowired
+    private IdempotencyService idempotencyService;
 
     private static final Logger logger = LoggerFactory.getLogger(WalletServiceImpl.class);
 
     @Override
     public ListWalletResponse ListWallets(UUID customerId, CustomUserDetails userDetails) {
-        logger.info("Listing wallets for customerId: {}", customerId);
+        logger.debug("Listing wallets for customerId: {}", customerId);
 
         if (userDetails.getCustomerId() != null
                 && !userDetails.getCustomerId().equals(customerId)
@@ -48,6 +79,9 @@ public class WalletServiceImpl implements WalletService {
         }
 
         List<Wallet> wallets = walletRepository.findByCustomerId(customerId);
+        if (balanceEngine != null) {
+            wallets.forEach(balanceEngine::overlay);
+        }
         return ListWalletResponse.builder()
                 .wallets(wallets)
                 .build();
@@ -55,7 +89,7 @@ public class WalletServiceImpl implements WalletService {
 
     @Override
     public CreateWalletResponse CreateWallet(CreateWalletRequest request, CustomUserDetails userDetails) {
-        logger.info("Creating wallet for customerId: {}", request.getCustomerId());
+        logger.debug("Creating wallet for customerId: {}", request.getCustomerId());
 
         Customer customer = customerRepository.findById(request.getCustomerId()).orElse(null);
         if (customer == null) {
@@ -88,90 +122,313 @@ public class WalletServiceImpl implements WalletService {
 
     @Override
     public DepositWalletResponse DepositWallet(DepositWalletRequest request) {
-        logger.info("Depositing to walletId: {}", request.getWalletId());
+        logger.debug("Depositing to walletId: {}", request.getWalletId());
+
+        return this.InWalletUnitOfWork(request.getWalletId(), TransactionType.DEPOSIT, () -> {
+            Wallet wallet = walletRepository.findById(request.getWalletId()).orElse(null);
+            if (wallet == null) {
+                logger.warn("Wallet with ID {} not found.", request.getWalletId());
+                throw new NotFoundException("Wallet not found.");
+            }
+
+            TransactionStatus transactionStatus = this.InitialStatus(wallet, request.getAmount(), request.getOppositePartyType());
+
+            Transaction transaction = Transaction.builder()
+                    .amount(request.getAmount())
+                    .type(TransactionType.DEPOSIT)
+                    .status(transactionStatus)
+                    .wallet(wallet)
+                    .oppositeParty(request.getSource())
+                    .oppositePartyType(request.getOppositePartyType())
+                    .build();
+
+            this.ValidateWalletProcessing(wallet, transaction);
+
+            Transaction createdTransaction = transactionService.CreateTransaction(transaction);
+
+            return DepositWalletResponse.builder()
+                    .transaction(createdTransaction)
+                    .wallet(this.ResponseWallet(wallet))
+                    .isPendingTransaction(transactionStatus == TransactionStatus.PENDING)
+                    .build();
+        });
+    }
 
-        Wallet wallet = walletRepository.findById(request.getWalletId()).orElse(null);
-        if (wallet == null) {
-            logger.warn("Wallet with ID {} not found.", request.getWalletId());
-            throw new NotFoundException("Wallet not found.");
+    @Override
+    public WithdrawWalletResponse WithdrawWallet(WithdrawWalletRequest request, CustomUserDetails userDetails) {
+        logger.debug("Withdrawing from walletId: {}", request.getWalletId());
+
+        return this.InWalletUnitOfWork(request.getWalletId(), TransactionType.WITHDRAW, () -> {
+            Wallet wallet = walletRepository.findById(request.getWalletId()).orElse(null);
+            if (wallet == null) {
+                logger.warn("Wallet with ID {} not found.", request.getWalletId());
+                throw new NotFoundException("No wallet found for the customer.");
+            }
+
+            if (!wallet.getCustomer().getId().equals(userDetails.getCustomerId())
+                    && !(userDetails.getRole() == Role.EMPLOYEE)) {
+                logger.warn("User with User ID {} is not authorized to withdraw from wallet ID {}.", userDetails.getId(),
+                        wallet.getId());
+                throw new SecurityException("Not authorized to withdraw from this wallet.");
+            }
+
+            TransactionStatus transactionStatus = this.InitialStatus(wallet, request.getAmount(), request.getOppositePartyType());
+
+            Transaction transaction = Transaction.builder()
+                    .amount(request.getAmount())
+                    .type(TransactionType.WITHDRAW)
+                    .status(transactionStatus)
+                    .wallet(wallet)
+                    .oppositeParty(request.getDestination())
+                    .oppositePartyType(request.getOppositePartyType())
+                    .build();
+
+            this.ValidateWalletProcessing(wallet, transaction);
+
+            Transaction createdTransaction = transactionService.CreateTransaction(transaction);
+
+            return WithdrawWalletResponse.builder()
+                    .transaction(createdTransaction)
+                    .wallet(this.ResponseWallet(wallet))
+                    .isPendingTransaction(transactionStatus == TransactionStatus.PENDING)
+                    .build();
+        });
+    }
+
+    /**
+     * Runs a single-wallet operation as one unit of work: the wallet is read
+     * and written once, inside one database transaction that commits while the
+     * wallet's lock is still held. A version conflict from another instance
+     * surfaces at commit and retries the whole unit with a fresh read. The
+     * idempotent response, if any, is stored in the same transaction.
+     */
+    private <T> T InWalletUnitOfWork(UUID walletId, TransactionType type, Supplier<T> work) {
+        TransactionTemplate unitOfWork = new TransactionTemplate(transactionManager);
+        return walletLocks.withLock(walletId,
+                () -> optimisticRetryPolicy.execute(type.name(), walletId,
+                        () -> unitOfWork.execute(status -> idempotencyService.RecordResponse(work.get()))));
+    }
+
+    @Override
+    public BatchWalletResponse BatchWallet(BatchWalletRequest request, CustomUserDetails userDetails) {
+        List<DepositWalletRequest> deposits = Objects.requireNonNullElse(request.getDeposits(), List.of());
+        List<WithdrawWalletRequest> withdrawals = Objects.requireNonNullElse(request.getWithdrawals(), List.of());
+        logger.debug("Processing batch of {} deposits and {} withdrawals", deposits.size(), withdrawals.size());
+
+        if (deposits.size() + withdrawals.size() > WalletConstants.MAX_BATCH_SIZE) {
+            throw new BadRequestException("A batch may hold at most " + WalletConstants.MAX_BATCH_SIZE + " operations.");
         }
 
-        TransactionStatus transactionStatus = TransactionStatus.APPROVED;
-        if (request.getAmount() > WalletConstants.AMOUNT_LIMIT) {
-            transactionStatus = TransactionStatus.PENDING;
+        Set<UUID> walletIds = new HashSet<>();
+        deposits.forEach(deposit -> walletIds.add(deposit.getWalletId()));
+        withdrawals.forEach(withdrawal -> walletIds.add(withdrawal.getWalletId()));
+        if (walletIds.size() > WalletConstants.MAX_BATCH_WALLETS) {
+            throw new BadRequestException("A batch may touch at most " + WalletConstants.MAX_BATCH_WALLETS
+                    + " distinct wallets.");
         }
 
-        Transaction transaction = Transaction.builder()
-                .amount(request.getAmount())
-                .type(TransactionType.DEPOSIT)
-                .status(transactionStatus)
-                .wallet(wallet)
-                .oppositeParty(request.getSource())
-                .oppositePartyType(request.getOppositePartyType())
-                .build();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        return walletLocks.withLocks(walletIds,
+                () -> transactionTemplate.execute(status -> idempotencyService.RecordResponse(
+                        this.ApplyBatch(deposits, withdrawals, walletIds, userDetails))));
+    }
 
-        this.ValidateWalletProcessing(wallet, transaction);
+    private BatchWalletResponse ApplyBatch(List<DepositWalletRequest> deposits, List<WithdrawWalletRequest> withdrawals,
+            Set<UUID> walletIds, CustomUserDetails userDetails) {
+        Map<UUID, Wallet> wallets = new HashMap<>();
+        walletRepository.findAllById(walletIds).forEach(wallet -> wallets.put(wallet.getId(), wallet));
+
+        // Every item is validated before anything is written; rejected items are reported, the rest applied.
+        List<BatchItemResult> depositResults = new ArrayList<>();
+        List<BatchItemResult> withdrawalResults = new ArrayList<>();
+        List<Transaction> transactions = new ArrayList<>();
+        Map<Transaction, BatchItemResult> resultsByTransaction = new IdentityHashMap<>();
+
+        for (int i = 0; i < deposits.size(); i++) {
+            DepositWalletRequest deposit = deposits.get(i);
+            BatchItemResult result = BatchItemResult.builder().index(i).walletId(deposit.getWalletId()).build();
+            depositResults.add(result);
+
+            Wallet wallet = wallets.get(deposit.getWalletId());
+            Transaction transaction = wallet == null ? null : Transaction.builder()
+                    .amount(deposit.getAmount())
+                    .type(TransactionType.DEPOSIT)
+                    .status(this.InitialStatus(wallet, deposit.getAmount(), deposit.getOppositePartyType()))
+                    .wallet(wallet)
+                    .oppositeParty(deposit.getSource())
+                    .oppositePartyType(deposit.getOppositePartyType())
+                    .build();
+            this.ValidateBatchItem(wallet, transaction, userDetails, result, transactions, resultsByTransaction);
+        }
 
-        Transaction createdTransaction = transactionService.CreateTransaction(transaction);
-        Wallet affectedWallet = walletRepository.findById(request.getWalletId()).orElse(null);
+        for (int i = 0; i < withdrawals.size(); i++) {
+            WithdrawWalletRequest withdrawal = withdrawals.get(i);
+            BatchItemResult result = BatchItemResult.builder().index(i).walletId(withdrawal.getWalletId()).build();
+            withdrawalResults.add(result);
+
+            Wallet wallet = wallets.get(withdrawal.getWalletId());
+            Transaction transaction = wallet == null ? null : Transaction.builder()
+                    .amount(withdrawal.getAmount())
+                    .type(TransactionType.WITHDRAW)
+                    .status(this.InitialStatus(wallet, withdrawal.getAmount(), withdrawal.getOppositePartyType()))
+                    .wallet(wallet)
+                    .oppositeParty(withdrawal.getDestination())
+                    .oppositePartyType(withdrawal.getOppositePartyType())
+                    .build();
+            this.ValidateBatchItem(wallet, transaction, userDetails, result, transactions, resultsByTransaction);
+        }
 
-        return DepositWalletResponse.builder()
-                .transaction(createdTransaction)
-                .wallet(affectedWallet)
-                .isPendingTransaction(transactionStatus == TransactionStatus.PENDING)
+        if (!transactions.isEmpty()) {
+            List<Transaction> savedTransactions = transactionService.CreateTransactions(transactions, wallets);
+            for (int i = 0; i < savedTransactions.size(); i++) {
+                Transaction savedTransaction = savedTransactions.get(i);
+                BatchItemResult result = resultsByTransaction.get(transactions.get(i));
+                result.setTransaction(savedTransaction);
+                result.setIsPendingTransaction(savedTransaction.getStatus() == TransactionStatus.PENDING);
+            }
+        }
+
+        logger.info("Batch applied {} operation(s), rejected {}.", transactions.size(),
+                deposits.size() + withdrawals.size() - transactions.size());
+        return BatchWalletResponse.builder()
+                .deposits(depositResults)
+                .withdrawals(withdrawalResults)
+                .appliedCount(transactions.size())
+                .rejectedCount(deposits.size() + withdrawals.size() - transactions.size())
                 .build();
     }
 
+    private void ValidateBatchItem(Wallet wallet, Transaction transaction, CustomUserDetails userDetails,
+            BatchItemResult result, List<Transaction> transactions, Map<Transaction, BatchItemResult> resultsByTransaction) {
+        if (wallet == null) {
+            result.setError("Wallet not found.");
+            return;
+        }
+
+        if (transaction.getType() == TransactionType.WITHDRAW
+                && !wallet.getCustomer().getId().equals(userDetails.getCustomerId())
+                && !(userDetails.getRole() == Role.EMPLOYEE)) {
+            result.setError("Not authorized to withdraw from this wallet.");
+            return;
+        }
+
+        try {
+            this.ValidateWalletProcessing(wallet, transaction);
+        } catch (WithdrawalDeniedException e) {
+            result.setError(e.getMessage());
+            return;
+        }
+
+        transactions.add(transaction);
+        resultsByTransaction.put(transaction, result);
+    }
+
     @Override
-    public WithdrawWalletResponse WithdrawWallet(WithdrawWalletRequest request, CustomUserDetails userDetails) {
-        logger.info("Withdrawing from walletId: {}", request.getWalletId());
+    public TransferWalletResponse TransferWallet(TransferWalletRequest request, CustomUserDetails userDetails) {
+        logger.debug("Transferring from walletId: {} to walletId: {}", request.getSourceWalletId(),
+                request.getDestinationWalletId());
 
-        Wallet wallet = walletRepository.findById(request.getWalletId()).orElse(null);
-        if (wallet == null) {
-            logger.warn("Wallet with ID {} not found.", request.getWalletId());
-            throw new NotFoundException("No wallet found for the customer.");
+        if (request.getSourceWalletId().equals(request.getDestinationWalletId())) {
+            throw new BadRequestException("Source and destination wallets must be different.");
         }
 
-        if (!wallet.getCustomer().getId().equals(userDetails.getCustomerId())
+        // Both stripes are taken in ascending order, so A->B and B->A transfers queue up instead of deadlocking.
+        List<UUID> walletIds = List.of(request.getSourceWalletId(), request.getDestinationWalletId());
+        TransactionTemplate unitOfWork = new TransactionTemplate(transactionManager);
+        return walletLocks.withLocks(walletIds,
+                () -> optimisticRetryPolicy.execute("TRANSFER", request.getSourceWalletId(),
+                        () -> unitOfWork.execute(status -> idempotencyService.RecordResponse(
+                                this.ApplyTransfer(request, userDetails)))));
+    }
+
+    private TransferWalletResponse ApplyTransfer(TransferWalletRequest request, CustomUserDetails userDetails) {
+        // Load in wallet-ID order so the persistence context, and with order_updates the UPDATEs, follow it too.
+        UUID firstId = request.getSourceWalletId().compareTo(request.getDestinationWalletId()) < 0
+                ? request.getSourceWalletId()
+                : request.getDestinationWalletId();
+        UUID secondId = firstId.equals(request.getSourceWalletId()) ? request.getDestinationWalletId()
+                : request.getSourceWalletId();
+        Map<UUID, Wallet> wallets = new HashMap<>();
+        walletRepository.findById(firstId).ifPresent(wallet -> wallets.put(wallet.getId(), wallet));
+        walletRepository.findById(secondId).ifPresent(wallet -> wallets.put(wallet.getId(), wallet));
+
+        Wallet source = wallets.get(request.getSourceWalletId());
+        Wallet destination = wallets.get(request.getDestinationWalletId());
+        if (source == null || destination == null) {
+            logger.warn("Transfer from wallet ID {} to wallet ID {} references a missing wallet.",
+                    request.getSourceWalletId(), request.getDestinationWalletId());
+            throw new NotFoundException("Wallet not found.");
+        }
+
+        if (!source.getCustomer().getId().equals(userDetails.getCustomerId())
                 && !(userDetails.getRole() == Role.EMPLOYEE)) {
-            logger.warn("User with User ID {} is not authorized to withdraw from wallet ID {}.", userDetails.getId(),
-                    wallet.getId());
-            throw new SecurityException("Not authorized to withdraw from this wallet.");
+            logger.warn("User with User ID {} is not authorized to transfer from wallet ID {}.", userDetails.getId(),
+                    source.getId());
+            throw new SecurityException("Not authorized to transfer from this wallet.");
+        }
+
+        if (source.getCurrency() != destination.getCurrency()) {
+            throw new BadRequestException("Transfers require both wallets to hold the same currency.");
         }
 
-        TransactionStatus transactionStatus = TransactionStatus.APPROVED;
-        if (request.getAmount() > WalletConstants.AMOUNT_LIMIT) {
-            transactionStatus = TransactionStatus.PENDING;
+        // A pending leg could be approved while the other is denied, so transfers must settle at once.
+        if (this.InitialStatus(source, request.getAmount(), OppositePartyType.WALLET) == TransactionStatus.PENDING
+                || this.InitialStatus(destination, request.getAmount(), OppositePartyType.WALLET) == TransactionStatus.PENDING) {
+            throw new BadRequestException("Transfers above the approval threshold are not supported.");
         }
 
-        Transaction transaction = Transaction.builder()
+        UUID transferId = UuidV7Generator.nextUuid();
+        Transaction withdrawal = Transaction.builder()
                 .amount(request.getAmount())
                 .type(TransactionType.WITHDRAW)
-                .status(transactionStatus)
-                .wallet(wallet)
-                .oppositeParty(request.getDestination())
-                .oppositePartyType(request.getOppositePartyType())
+                .status(TransactionStatus.APPROVED)
+                .wallet(source)
+                .oppositeParty(destination.getId().toString())
+                .oppositePartyType(OppositePartyType.WALLET)
+                .transferId(transferId)
+                .build();
+        Transaction deposit = Transaction.builder()
+                .amount(request.getAmount())
+                .type(TransactionType.DEPOSIT)
+                .status(TransactionStatus.APPROVED)
+                .wallet(destination)
+                .oppositeParty(source.getId().toString())
+                .oppositePartyType(OppositePartyType.WALLET)
+                .transferId(transferId)
                 .build();
 
-        this.ValidateWalletProcessing(wallet, transaction);
+        this.ValidateWalletProcessing(source, withdrawal);
 
-        Transaction createdTransaction = transactionService.CreateTransaction(transaction);
-        Wallet affectedWallet = walletRepository.findById(request.getWalletId()).orElse(null);
+        List<Transaction> savedTransactions = transactionService.CreateTransactions(List.of(withdrawal, deposit), wallets);
 
-        return WithdrawWalletResponse.builder()
-                .transaction(createdTransaction)
-                .wallet(affectedWallet)
-                .isPendingTransaction(transactionStatus == TransactionStatus.PENDING)
+        logger.info("Transfer {} moved {} from wallet ID {} to wallet ID {}.", transferId, request.getAmount(),
+                source.getId(), destination.getId());
+        return TransferWalletResponse.builder()
+                .transferId(transferId)
+                .withdrawal(savedTransactions.get(0))
+                .deposit(savedTransactions.get(1))
+                .sourceWallet(this.ResponseWallet(source))
                 .build();
     }
 
+    private TransactionStatus InitialStatus(Wallet wallet, long amount, OppositePartyType oppositePartyType) {
+        return thresholdService.RequiresApproval(wallet, oppositePartyType, amount) ? TransactionStatus.PENDING
+                : TransactionStatus.APPROVED;
+    }
+
+    // Built inside the unit of work, where the idempotent response is stored, without touching the managed wallet.
+    private Wallet ResponseWallet(Wallet wallet) {
+        return balanceEngine == null ? wallet : balanceEngine.project(wallet);
+    }
+
     private void ValidateWalletProcessing(Wallet wallet, Transaction transaction) {
 
-        logger.info("Validating wallet ID {} for transaction ID {}", wallet.getId(), transaction.getId());
+        logger.debug("Validating wallet ID {} for transaction ID {}", wallet.getId(), transaction.getId());
 
         if (transaction.getType() == TransactionType.WITHDRAW && !wallet.getIsActiveWithdraw()) {
             logger.info("Wallet ID {} with Transaction ID {} is not authorized for withdrawals.", wallet.getId(),
                     transaction.getId());
+            walletMetrics.withdrawalDenied("withdraw_disabled");
             throw new WithdrawalDeniedException("This wallet is not authorized for withdrawals.");
         }
 
@@ -180,7 +437,19 @@ public class WalletServiceImpl implements WalletService {
                 && !wallet.getIsActiveShopping()) {
             logger.info("Wallet ID {} with Transaction ID {} is not authorized for shopping payments.", wallet.getId(),
                     transaction.getId());
+            walletMetrics.withdrawalDenied("shopping_disabled");
             throw new WithdrawalDeniedException("This wallet is not authorized for shopping payments.");
         }
+
+        if (transaction.getType() == TransactionType.WITHDRAW) {
+            VelocityWindow exceeded = velocityLimiter.tryRecord(wallet.getId(), wallet.getCurrency(),
+                    transaction.getAmount());
+            if (exceeded != null) {
+                logger.info("Wallet ID {} exceeded its {} withdrawal limit.", wallet.getId(), exceeded);
+                walletMetrics.withdrawalDenied("velocity_" + exceeded.name().toLowerCase());
+                throw new WithdrawalDeniedException("This withdrawal exceeds the wallet's "
+                        + exceeded.name().toLowerCase() + " withdrawal limit.");
+            }
+        }
     }
 }
@@ -0,0 +1,11 @@
+package com.inghubs.digitalwallet.services;
+
+import java.util.UUID;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.inghubs.digitalwallet.utilities.security.CustomUserDetails;
+
+public interface WalletStreamService {
+    SseEmitter Subscribe(UUID customerId, UUID walletId, CustomUserDetails userDetails);
+}
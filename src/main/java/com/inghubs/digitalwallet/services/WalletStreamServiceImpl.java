@@ -0,0 +1,218 @@
+package com.inghubs.digitalwallet.services;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.inghubs.digitalwallet.engine.BalanceEngine;
+import com.inghubs.digitalwallet.entities.*;
+import com.inghubs.digitalwallet.repositories.*;
+import com.inghubs.digitalwallet.utilities.enums.Role;
+import com.inghubs.digitalwallet.utilities.exceptions.NotFoundException;
+import com.inghubs.digitalwallet.utilities.security.CustomUserDetails;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Pushes relayed outbox events to Server-Sent Events subscribers. Each
+ * subscription owns a bounded buffer drained by its own virtual thread, so a
+ * slow client never blocks the relay or other subscribers. A subscriber whose
+ * buffer overflows is sent a {@code resync} event and disconnected; it should
+ * reconnect, which starts again from a fresh {@code snapshot}.
+ */
+@Service
+public class WalletStreamServiceImpl implements WalletStreamService {
+
+    public static final String SNAPSHOT_EVENT = "snapshot";
+    public static final String RESYNC_EVENT = "resync";
+
+    @Autowired
+    private WalletRepository walletRepository;
+    @Autowired
+    private CustomerRepository customerRepository;
+    @Autowired(required = false)
+    private BalanceEngine balanceEngine;
+
+    @Value("${wallet.stream.buffer-size}")
+    private int bufferSize;
+    @Value("${wallet.stream.heartbeat-interval}")
+    private long heartbeatIntervalMs;
+    @Value("${wallet.stream.timeout}")
+    private long timeoutMs;
+
+    private final ConcurrentHashMap<UUID, Set<Subscription>> subscriptionsByWallet = new ConcurrentHashMap<>();
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final Counter overflows;
+
+    private static final OutboxEvent RESYNC = new OutboxEvent();
+    private static final Logger logger = LoggerFactory.getLogger(WalletStreamServiceImpl.class);
+
+    public WalletStreamServiceImpl(MeterRegistry meterRegistry) {
+        Gauge.builder("wallet.stream.subscribers", subscriptions, Set::size)
+                .description("Open balance stream connections")
+                .register(meterRegistry);
+        this.overflows = Counter.builder("wallet.stream.overflows")
+                .description("Stream subscribers disconnected because their buffer was full")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public SseEmitter Subscribe(UUID customerId, UUID walletId, CustomUserDetails userDetails) {
+        logger.debug("Subscribing to balance stream for customerId: {}", customerId);
+
+        if (!customerId.equals(userDetails.getCustomerId()) && userDetails.getRole() != Role.EMPLOYEE) {
+            logger.warn("User with ID {} is not authorized to stream wallets of customer ID {}.", userDetails.getId(),
+                    customerId);
+            throw new SecurityException("Not authorized to stream wallets for this customer.");
+        }
+
+        if (!customerRepository.existsById(customerId)) {
+            logger.warn("Customer with ID {} not found.", customerId);
+            throw new NotFoundException("Customer not found.");
+        }
+
+        List<UUID> walletIds = walletRepository.findIdsByCustomerId(customerId).stream()
+                .filter(id -> walletId == null || id.equals(walletId))
+                .toList();
+        if (walletId != null && walletIds.isEmpty()) {
+            logger.warn("Wallet with ID {} not found for customer ID {}.", walletId, customerId);
+            throw new NotFoundException("Wallet not found.");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscription subscription = new Subscription(emitter, walletIds, new ArrayBlockingQueue<>(bufferSize));
+
+        // Register before taking the snapshot so no change can fall between the two; events that
+        // overlap the snapshot carry absolute balances and are harmless to apply twice.
+        this.register(subscription);
+        List<Wallet> wallets = new ArrayList<>();
+        walletRepository.findAllById(walletIds).forEach(wallets::add);
+        if (balanceEngine != null) {
+            wallets.forEach(balanceEngine::overlay);
+        }
+
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+        Thread.ofVirtual()
+                .name("wallet-stream-" + customerId)
+                .start(() -> this.Drain(subscription, wallets));
+        return emitter;
+    }
+
+    @EventListener
+    public void onOutboxEvent(OutboxEvent event) {
+        Set<Subscription> walletSubscriptions = subscriptionsByWallet.get(event.getWalletId());
+        if (walletSubscriptions == null) {
+            return;
+        }
+        for (Subscription subscription : walletSubscriptions) {
+            if (!subscription.offer(event)) {
+                overflows.increment();
+                logger.info("Balance stream buffer full for wallet ID {}, asking subscriber to resync.",
+                        event.getWalletId());
+            }
+        }
+    }
+
+    private void Drain(Subscription subscription, List<Wallet> snapshot) {
+        SseEmitter emitter = subscription.emitter;
+        try {
+            emitter.send(SseEmitter.event().name(SNAPSHOT_EVENT).data(snapshot, MediaType.APPLICATION_JSON));
+
+            while (subscription.isOpen()) {
+                OutboxEvent event = subscription.buffer.poll(heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+                if (event == null) {
+                    emitter.send(SseEmitter.event().comment("keep-alive"));
+                } else if (event == RESYNC) {
+                    emitter.send(SseEmitter.event().name(RESYNC_EVENT).data("{}", MediaType.APPLICATION_JSON));
+                    emitter.complete();
+                    return;
+                } else {
+                    emitter.send(SseEmitter.event()
+                            .id(event.getId().toString())
+                            .name(event.getEventType().name())
+                            .data(event.getPayload(), MediaType.APPLICATION_JSON));
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Balance stream subscriber disconnected: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            this.unregister(subscription);
+        }
+    }
+
+    private void register(Subscription subscription) {
+        subscriptions.add(subscription);
+        for (UUID walletId : subscription.walletIds) {
+            subscriptionsByWallet.computeIfAbsent(walletId, id -> ConcurrentHashMap.newKeySet()).add(subscription);
+        }
+    }
+
+    private void unregister(Subscription subscription) {
+        subscription.close();
+        subscriptions.remove(subscription);
+        for (UUID walletId : subscription.walletIds) {
+            subscriptionsByWallet.computeIfPresent(walletId, (id, walletSubscriptions) -> {
+                walletSubscriptions.remove(subscription);
+                return walletSubscriptions.isEmpty() ? null : walletSubscriptions;
+            });
+        }
+    }
+
+    private static final class Subscription {
+
+        private final SseEmitter emitter;
+        private final List<UUID> walletIds;
+        private final BlockingQueue<OutboxEvent> buffer;
+        private final AtomicBoolean open = new AtomicBoolean(true);
+        private final AtomicBoolean overflowed = new AtomicBoolean();
+
+        private Subscription(SseEmitter emitter, List<UUID> walletIds, BlockingQueue<OutboxEvent> buffer) {
+            this.emitter = emitter;
+            this.walletIds = walletIds;
+            this.buffer = buffer;
+        }
+
+        private boolean offer(OutboxEvent event) {
+            if (overflowed.get() || buffer.offer(event)) {
+                return true;
+            }
+            if (overflowed.compareAndSet(false, true)) {
+                // Drop what is queued; the client reloads the current state after the resync event.
+                buffer.clear();
+                buffer.offer(RESYNC);
+                return false;
+            }
+            return true;
+        }
+
+        private boolean isOpen() {
+            return open.get();
+        }
+
+        private void close() {
+            open.set(false);
+        }
+    }
+}
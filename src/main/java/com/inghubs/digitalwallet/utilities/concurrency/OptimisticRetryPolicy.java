@@ -0,0 +1,68 @@
+package com.inghubs.digitalwallet.utilities.concurrency;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Component
+public class OptimisticRetryPolicy {
+
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long baseBackoffMs;
+    private final long maxBackoffMs;
+
+    private static final Logger logger = LoggerFactory.getLogger(OptimisticRetryPolicy.class);
+
+    public OptimisticRetryPolicy(MeterRegistry meterRegistry,
+            @Value("${wallet.optimistic-retry.max-attempts}") int maxAttempts,
+            @Value("${wallet.optimistic-retry.base-backoff-ms}") long baseBackoffMs,
+            @Value("${wallet.optimistic-retry.max-backoff-ms}") long maxBackoffMs) {
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMs = baseBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+    }
+
+    public <T> T execute(String operation, UUID walletId, Supplier<T> action) {
+        for (int attempt = 1;; attempt++) {
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException e) {
+                // Tagged by operation only; the wallet id goes to the log so the meter count stays bounded.
+                meterRegistry.counter("wallet.update.conflicts", "operation", operation).increment();
+
+                if (attempt >= maxAttempts) {
+                    meterRegistry.counter("wallet.update.retries.exhausted", "operation", operation).increment();
+                    logger.warn("Giving up on {} for wallet ID {} after {} conflicting attempts.", operation, walletId,
+                            attempt);
+                    throw e;
+                }
+
+                meterRegistry.counter("wallet.update.retries", "operation", operation).increment();
+                logger.info("Conflict on {} for wallet ID {}, retrying (attempt {} of {}).", operation, walletId,
+                        attempt + 1, maxAttempts);
+                this.backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMs, baseBackoffMs << Math.min(attempt - 1, 16));
+        long delay = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry a wallet update.", e);
+        }
+    }
+}
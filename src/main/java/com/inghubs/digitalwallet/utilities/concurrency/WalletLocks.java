@@ -0,0 +1,64 @@
+package com.inghubs.digitalwallet.utilities.concurrency;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WalletLocks {
+
+    private final ReentrantLock[] stripes;
+
+    public WalletLocks(@Value("${wallet.lock-stripes}") int stripeCount) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1) << 1);
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public <T> T withLock(UUID walletId, Supplier<T> action) {
+        ReentrantLock lock = stripes[stripeIndex(walletId)];
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Holds the stripes of every given wallet at once. Stripes are taken in
+     * ascending index order, so two callers locking overlapping wallet sets
+     * cannot deadlock.
+     */
+    public <T> T withLocks(Collection<UUID> walletIds, Supplier<T> action) {
+        int[] indexes = walletIds.stream()
+                .mapToInt(this::stripeIndex)
+                .distinct()
+                .sorted()
+                .toArray();
+
+        int locked = 0;
+        try {
+            for (int index : indexes) {
+                stripes[index].lock();
+                locked++;
+            }
+            return action.get();
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) {
+                stripes[indexes[i]].unlock();
+            }
+        }
+    }
+
+    private int stripeIndex(UUID walletId) {
+        int hash = walletId.hashCode();
+        return (hash ^ (hash >>> 16)) & (stripes.length - 1);
+    }
+}
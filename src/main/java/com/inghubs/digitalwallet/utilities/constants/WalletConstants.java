@@ -1,5 +1,13 @@
 package com.inghubs.digitalwallet.utilities.constants;
 
 public class WalletConstants {
-    public static final Double AMOUNT_LIMIT = 1000.0;
+    // Major units, since minor-unit digits differ per currency; ThresholdSnapshot converts it per currency.
+    public static final long AMOUNT_LIMIT_MAJOR_UNITS = 1000L;
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final int MAX_BATCH_SIZE = 10_000;
+    // A batch holds all its wallets' lock stripes until it commits, so this stays far below the 1,024 default.
+    public static final int MAX_BATCH_WALLETS = 64;
+    public static final int MAX_BULK_APPROVAL_SIZE = 50_000;
+    public static final int BULK_APPROVAL_CHUNK_SIZE = 1_000;
 }
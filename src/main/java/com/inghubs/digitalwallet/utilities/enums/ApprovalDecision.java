@@ -0,0 +1,8 @@
+package com.inghubs.digitalwallet.utilities.enums;
+
+public enum ApprovalDecision {
+    APPROVE,
+    DENY,
+    HOLD,
+    ABSTAIN
+}
@@ -1,7 +1,23 @@
 package com.inghubs.digitalwallet.utilities.enums;
 
 public enum Currency {
-    TRY,
-    USD,
-    EUR
+    TRY(2),
+    USD(2),
+    EUR(2);
+
+    private final int minorUnitDigits;
+    private final long minorUnitsPerMajor;
+
+    Currency(int minorUnitDigits) {
+        this.minorUnitDigits = minorUnitDigits;
+        this.minorUnitsPerMajor = (long) Math.pow(10, minorUnitDigits);
+    }
+
+    public int getMinorUnitDigits() {
+        return minorUnitDigits;
+    }
+
+    public long toMinorUnits(long majorUnits) {
+        return Math.multiplyExact(majorUnits, minorUnitsPerMajor);
+    }
 }
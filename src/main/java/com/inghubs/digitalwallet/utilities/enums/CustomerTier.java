@@ -0,0 +1,7 @@
+package com.inghubs.digitalwallet.utilities.enums;
+
+public enum CustomerTier {
+    STANDARD,
+    PREMIUM,
+    CORPORATE
+}
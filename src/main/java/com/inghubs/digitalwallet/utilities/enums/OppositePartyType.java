@@ -2,5 +2,6 @@ package com.inghubs.digitalwallet.utilities.enums;
 
 public enum OppositePartyType {
    IBAN,
-   PAYMENT
+   PAYMENT,
+   WALLET
 }
@@ -0,0 +1,6 @@
+package com.inghubs.digitalwallet.utilities.enums;
+
+public enum OutboxEventType {
+    BALANCE_CHANGED,
+    TRANSACTION_STATUS_CHANGED
+}
@@ -0,0 +1,8 @@
+package com.inghubs.digitalwallet.utilities.exceptions;
+
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
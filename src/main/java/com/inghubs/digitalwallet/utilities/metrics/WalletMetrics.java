@@ -0,0 +1,61 @@
+package com.inghubs.digitalwallet.utilities.metrics;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.inghubs.digitalwallet.entities.Transaction;
+import com.inghubs.digitalwallet.utilities.enums.TransactionStatus;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Business counters published next to the HTTP request timers. Tag values are
+ * drawn from enums or fixed reasons so the series count stays bounded.
+ */
+@Component
+public class WalletMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public WalletMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Counts a created transaction once its unit of work commits, so attempts
+     * that roll back or are retried are not counted. Outside a transaction the
+     * counter is incremented immediately.
+     */
+    public void transactionCreated(Transaction transaction) {
+        Counter counter = meterRegistry.counter("wallet.transactions.created",
+                "type", transaction.getType().name(),
+                "status", transaction.getStatus().name());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            counter.increment();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                counter.increment();
+            }
+        });
+    }
+
+    public void transactionResolved(Transaction transaction, TransactionStatus status) {
+        meterRegistry.counter("wallet.transactions.resolved",
+                "type", transaction.getType().name(),
+                "status", status.name())
+                .increment();
+    }
+
+    public void withdrawalDenied(String reason) {
+        meterRegistry.counter("wallet.withdrawals.denied", "reason", reason).increment();
+    }
+
+    public void authenticationFailed(String reason) {
+        meterRegistry.counter("auth.failures", "reason", reason).increment();
+    }
+}
@@ -0,0 +1,48 @@
+package com.inghubs.digitalwallet.utilities.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.inghubs.digitalwallet.entities.Transaction;
+import com.inghubs.digitalwallet.utilities.exceptions.BadRequestException;
+
+/**
+ * Opaque keyset position in the (createdAt, id) transaction order, used both
+ * for newest-first listings and the oldest-first pending queue. The id breaks
+ * ties between rows created in the same instant, so the order is total and a
+ * cursor never skips or repeats a row.
+ */
+public record TransactionCursor(Instant createdAt, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static TransactionCursor of(Transaction transaction) {
+        return new TransactionCursor(transaction.getCreatedAt(), transaction.getId());
+    }
+
+    public static TransactionCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BadRequestException("Invalid cursor.");
+            }
+            return new TransactionCursor(Instant.parse(decoded.substring(0, separator)),
+                    UUID.fromString(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor.");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
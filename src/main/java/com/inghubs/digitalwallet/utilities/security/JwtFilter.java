@@ -2,7 +2,10 @@ package com.inghubs.digitalwallet.utilities.security;
 
 import java.io.IOException;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -10,6 +13,9 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.inghubs.digitalwallet.utilities.metrics.WalletMetrics;
+
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,6 +27,12 @@ public class JwtFilter extends OncePerRequestFilter {
     private JwtUtility jwtUtils;
     @Autowired
     private CustomUserDetailsService userDetailsService;
+    @Autowired
+    private WalletMetrics walletMetrics;
+    @Value("${jwt.stateless-principal}")
+    private boolean statelessPrincipal;
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtFilter.class);
 
     @Override
     protected void doFilterInternal(
@@ -29,9 +41,12 @@ public class JwtFilter extends OncePerRequestFilter {
             FilterChain filterChain) throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                String username = jwtUtils.getUsernameFromToken(jwt);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            Claims claims = jwt == null ? null : jwtUtils.parseAndValidate(jwt);
+            if (jwt != null && claims == null) {
+                walletMetrics.authenticationFailed("invalid_token");
+            }
+            if (claims != null) {
+                UserDetails userDetails = resolveUserDetails(claims);
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -40,11 +55,21 @@ public class JwtFilter extends OncePerRequestFilter {
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         } catch (Exception e) {
-            System.out.println("Cannot set user authentication: " + e);
+            logger.warn("Cannot set user authentication: {}", e.getMessage());
         }
         filterChain.doFilter(request, response);
     }
 
+    private UserDetails resolveUserDetails(Claims claims) {
+        if (statelessPrincipal) {
+            UserDetails userDetails = jwtUtils.getUserDetailsFromClaims(claims);
+            if (userDetails != null) {
+                return userDetails;
+            }
+        }
+        return userDetailsService.loadUserByUsername(claims.getSubject());
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
         if (headerAuth != null && headerAuth.startsWith("Bearer ")) {
@@ -3,50 +3,163 @@ package com.inghubs.digitalwallet.utilities.security;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.Jwts.SIG;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.inghubs.digitalwallet.utilities.enums.Role;
+
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtility {
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String CUSTOMER_ID_CLAIM = "customerId";
+    public static final String ROLE_CLAIM = "role";
+
     @Value("${jwt.secret}")
     private String jwtSecret;
     @Value("${jwt.expiration}")
     private int jwtExpirationMs;
+    @Value("${jwt.key-version}")
+    private String keyVersion;
+    @Value("${jwt.verified-cache.maximum-size:0}")
+    private long verifiedCacheMaximumSize;
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
     private SecretKey key;
+    private JwtParser parser;
+    private Cache<String, Claims> verifiedTokens;
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtUtility.class);
 
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
+
+        if (verifiedCacheMaximumSize > 0) {
+            this.verifiedTokens = Caffeine.newBuilder()
+                    .maximumSize(verifiedCacheMaximumSize)
+                    .expireAfter(new UntilTokenExpiry())
+                    .recordStats()
+                    .build();
+            if (meterRegistry != null) {
+                CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwtVerified");
+            }
+        }
     }
 
-    public String generateToken(String username) {
+    public String generateToken(CustomUserDetails userDetails) {
         return Jwts.builder()
-                .subject(username)
+                .header().keyId(keyVersion).and()
+                .subject(userDetails.getUsername())
+                .claim(USER_ID_CLAIM, userDetails.getId().toString())
+                .claim(CUSTOMER_ID_CLAIM, userDetails.getCustomerId().toString())
+                .claim(ROLE_CLAIM, userDetails.getRole().name())
                 .issuedAt(new Date())
                 .expiration(new Date((new Date()).getTime() + jwtExpirationMs))
                 .signWith(key, SIG.HS256)
                 .compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(key).build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
-    }
+    /**
+     * Verifies the signature and expiry once and returns the claims, or null
+     * when the token is invalid. Tokens seen before are served from the
+     * verified-token cache until they expire.
+     */
+    public Claims parseAndValidate(String token) {
+        String tokenHash = verifiedTokens == null ? null : hash(token);
+        if (tokenHash != null) {
+            Claims cached = verifiedTokens.getIfPresent(tokenHash);
+            if (cached != null) {
+                return cached;
+            }
+        }
 
-    public boolean validateJwtToken(String token) {
+        Claims claims;
         try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-            return true;
+            claims = parser.parseSignedClaims(token).getPayload();
         } catch (Exception ex) {
-            System.out.println("JWT Exception: " + ex.getMessage());
+            logger.debug("Rejected JWT: {}", ex.getMessage());
+            return null;
+        }
+
+        if (tokenHash != null) {
+            verifiedTokens.put(tokenHash, claims);
+        }
+        return claims;
+    }
+
+    /**
+     * Builds the principal from verified claims, or returns null for tokens
+     * issued without them so the caller can fall back to a user lookup.
+     */
+    public CustomUserDetails getUserDetailsFromClaims(Claims claims) {
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        String customerId = claims.get(CUSTOMER_ID_CLAIM, String.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (userId == null || customerId == null || role == null) {
+            return null;
+        }
+
+        return CustomUserDetails.builder()
+                .id(UUID.fromString(userId))
+                .customerId(UUID.fromString(customerId))
+                .username(claims.getSubject())
+                .role(Role.valueOf(role))
+                .authorities(Collections.emptyList())
+                .build();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+    }
+
+    /**
+     * Keeps a verified token no longer than its own exp claim, and never
+     * longer than the configured token lifetime.
+     */
+    private class UntilTokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String tokenHash, Claims claims, long currentTime) {
+            long lifetimeMs = jwtExpirationMs;
+            if (claims.getExpiration() != null) {
+                lifetimeMs = Math.min(lifetimeMs, claims.getExpiration().getTime() - System.currentTimeMillis());
+            }
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(lifetimeMs, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
         }
-        return false;
     }
 }
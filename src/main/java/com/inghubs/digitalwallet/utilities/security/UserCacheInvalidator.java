@@ -0,0 +1,49 @@
+package com.inghubs.digitalwallet.utilities.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import com.inghubs.digitalwallet.entities.User;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Keeps the cached principals in line with USER_AUTH. Hibernate resolves this
+ * listener through Spring, so the cache manager is injected as usual.
+ */
+@Component
+public class UserCacheInvalidator {
+
+    public static final String CACHE_NAME = "userDetails";
+
+    private final CacheManager cacheManager;
+
+    private static final Logger logger = LoggerFactory.getLogger(UserCacheInvalidator.class);
+
+    public UserCacheInvalidator(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @PostUpdate
+    public void userUpdated(User user) {
+        // The previous username is not known here and renames are rare, so drop everything.
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            logger.info("User with ID {} changed, clearing cached principals.", user.getId());
+            cache.clear();
+        }
+    }
+
+    @PostRemove
+    public void userRemoved(User user) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            logger.info("User with ID {} removed, evicting cached principal.", user.getId());
+            cache.evict(user.getUsername());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.inghubs.digitalwallet.utilities.thresholds;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.inghubs.digitalwallet.entities.ThresholdPolicy;
+import com.inghubs.digitalwallet.utilities.constants.WalletConstants;
+import com.inghubs.digitalwallet.utilities.enums.*;
+
+/**
+ * Immutable, precomputed pending thresholds. Every (currency, tier, opposite
+ * party type) combination is resolved against the policies once when the
+ * snapshot is built, so a lookup is one map probe for the customer's tier and
+ * one array read. Combinations no policy covers fall back to
+ * {@link WalletConstants#AMOUNT_LIMIT_MAJOR_UNITS} in the wallet's currency.
+ */
+public final class ThresholdSnapshot {
+
+    private static final Currency[] CURRENCIES = Currency.values();
+    private static final CustomerTier[] TIERS = CustomerTier.values();
+    private static final OppositePartyType[] PARTY_TYPES = OppositePartyType.values();
+    // One extra slot per (currency, tier) for requests without an opposite party type.
+    private static final int PARTY_SLOTS = PARTY_TYPES.length + 1;
+
+    private final long[] limits;
+    private final Map<UUID, CustomerTier> customerTiers;
+    private final int policyCount;
+    private final Instant loadedAt;
+
+    private ThresholdSnapshot(long[] limits, Map<UUID, CustomerTier> customerTiers, int policyCount,
+            Instant loadedAt) {
+        this.limits = limits;
+        this.customerTiers = customerTiers;
+        this.policyCount = policyCount;
+        this.loadedAt = loadedAt;
+    }
+
+    public static ThresholdSnapshot defaults() {
+        return of(List.of(), Map.of());
+    }
+
+    public static ThresholdSnapshot of(List<ThresholdPolicy> policies, Map<UUID, CustomerTier> customerTiers) {
+        long[] limits = new long[CURRENCIES.length * TIERS.length * PARTY_SLOTS];
+        for (Currency currency : CURRENCIES) {
+            for (CustomerTier tier : TIERS) {
+                for (int slot = 0; slot < PARTY_SLOTS; slot++) {
+                    OppositePartyType partyType = slot < PARTY_TYPES.length ? PARTY_TYPES[slot] : null;
+                    limits[index(currency, tier, partyType)] = resolve(policies, currency, tier, partyType);
+                }
+            }
+        }
+        return new ThresholdSnapshot(limits, Map.copyOf(customerTiers), policies.size(), Instant.now());
+    }
+
+    public long amountLimit(UUID customerId, Currency currency, OppositePartyType partyType) {
+        CustomerTier tier = customerTiers.getOrDefault(customerId, CustomerTier.STANDARD);
+        return limits[index(currency, tier, partyType)];
+    }
+
+    public int getPolicyCount() {
+        return policyCount;
+    }
+
+    public int getTierAssignmentCount() {
+        return customerTiers.size();
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    private static long resolve(List<ThresholdPolicy> policies, Currency currency, CustomerTier tier,
+            OppositePartyType partyType) {
+        int bestSpecificity = -1;
+        long limit = currency.toMinorUnits(WalletConstants.AMOUNT_LIMIT_MAJOR_UNITS);
+
+        for (ThresholdPolicy policy : policies) {
+            if ((policy.getCurrency() != null && policy.getCurrency() != currency)
+                    || (policy.getCustomerTier() != null && policy.getCustomerTier() != tier)
+                    || (policy.getOppositePartyType() != null && policy.getOppositePartyType() != partyType)) {
+                continue;
+            }
+
+            int specificity = (policy.getCurrency() != null ? 1 : 0)
+                    + (policy.getCustomerTier() != null ? 1 : 0)
+                    + (policy.getOppositePartyType() != null ? 1 : 0);
+            // Equally specific policies that disagree resolve to the stricter limit.
+            if (specificity > bestSpecificity
+                    || (specificity == bestSpecificity && policy.getAmountLimit() < limit)) {
+                bestSpecificity = specificity;
+                limit = policy.getAmountLimit();
+            }
+        }
+        return limit;
+    }
+
+    private static int index(Currency currency, CustomerTier tier, OppositePartyType partyType) {
+        int slot = partyType == null ? PARTY_TYPES.length : partyType.ordinal();
+        return (currency.ordinal() * TIERS.length + tier.ordinal()) * PARTY_SLOTS + slot;
+    }
+}
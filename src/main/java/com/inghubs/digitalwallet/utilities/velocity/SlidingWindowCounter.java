@@ -0,0 +1,66 @@
+package com.inghubs.digitalwallet.utilities.velocity;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free sliding-window sum over a ring of time buckets. A bucket is
+ * claimed for its time slot with a compare-and-set and then accumulates into
+ * a {@link LongAdder}; a slot is recycled by swapping in a fresh bucket once
+ * the ring wraps around to it. The sum covers the buckets of the last window,
+ * so it may include up to one bucket width of older amounts and errs on the
+ * side of the limit.
+ */
+public final class SlidingWindowCounter {
+
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    public SlidingWindowCounter(Duration window, int bucketCount) {
+        this.bucketMillis = window.toMillis() / bucketCount;
+        this.bucketCount = bucketCount;
+        this.buckets = new AtomicReferenceArray<>(bucketCount);
+    }
+
+    public void add(long amount, long timeMillis) {
+        long epoch = timeMillis / bucketMillis;
+        int slot = (int) Math.floorMod(epoch, (long) bucketCount);
+
+        while (true) {
+            Bucket bucket = buckets.get(slot);
+            if (bucket != null && bucket.epoch == epoch) {
+                bucket.amount.add(amount);
+                return;
+            }
+            if (bucket != null && bucket.epoch > epoch) {
+                // The slot already holds a later bucket, so this amount has left the window.
+                return;
+            }
+            buckets.compareAndSet(slot, bucket, new Bucket(epoch));
+        }
+    }
+
+    public long sum(long nowMillis) {
+        long newest = nowMillis / bucketMillis;
+        long oldest = newest - bucketCount + 1;
+        long total = 0;
+        for (int slot = 0; slot < bucketCount; slot++) {
+            Bucket bucket = buckets.get(slot);
+            if (bucket != null && bucket.epoch >= oldest && bucket.epoch <= newest) {
+                total += bucket.amount.sum();
+            }
+        }
+        return total;
+    }
+
+    private static final class Bucket {
+        private final long epoch;
+        private final LongAdder amount = new LongAdder();
+
+        private Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+}
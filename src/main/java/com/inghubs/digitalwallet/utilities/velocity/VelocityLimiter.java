@@ -0,0 +1,170 @@
+package com.inghubs.digitalwallet.utilities.velocity;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inghubs.digitalwallet.repositories.TransactionRepository;
+import com.inghubs.digitalwallet.repositories.TransactionRepository.RecentTransactionView;
+import com.inghubs.digitalwallet.utilities.enums.*;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Per-wallet withdrawal totals over sliding minute, hour and day windows, kept
+ * in memory so the withdraw path checks its limits without reading the
+ * transaction history. Counters are rebuilt from the last day of withdrawals
+ * on startup, before the application takes traffic. A pending withdrawal is
+ * counted when it is requested and taken back if it is denied. Limits are in
+ * major units of the wallet's currency; a limit of zero disables its window.
+ */
+@Component
+public class VelocityLimiter {
+
+    private static final VelocityWindow[] WINDOWS = VelocityWindow.values();
+
+    private final Map<UUID, SlidingWindowCounter[]> counters = new ConcurrentHashMap<>();
+    private final long[] limits;
+    private final boolean enabled;
+    private final TransactionRepository transactionRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private static final Logger logger = LoggerFactory.getLogger(VelocityLimiter.class);
+
+    public VelocityLimiter(@Value("${wallet.velocity.per-minute}") long perMinute,
+            @Value("${wallet.velocity.per-hour}") long perHour,
+            @Value("${wallet.velocity.per-day}") long perDay,
+            TransactionRepository transactionRepository, PlatformTransactionManager transactionManager) {
+        this.limits = new long[] { perMinute, perHour, perDay };
+        this.enabled = perMinute > 0 || perHour > 0 || perDay > 0;
+        this.transactionRepository = transactionRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Records a withdrawal if it fits every enabled window and returns null,
+     * or returns the first window it would exceed. The caller must hold the
+     * wallet's lock so the check and the record are atomic for the wallet.
+     * When called inside a transaction the amount is taken back if that
+     * transaction does not commit.
+     */
+    public VelocityWindow tryRecord(UUID walletId, Currency currency, long amount) {
+        if (!enabled) {
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+        SlidingWindowCounter[] walletCounters = counters.computeIfAbsent(walletId, id -> this.newCounters());
+        for (int i = 0; i < WINDOWS.length; i++) {
+            if (limits[i] > 0 && walletCounters[i].sum(now) + amount > currency.toMinorUnits(limits[i])) {
+                return WINDOWS[i];
+            }
+        }
+
+        this.record(walletCounters, amount, now);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        // Same timestamp, same buckets: the reversal cancels the record exactly.
+                        record(walletCounters, -amount, now);
+                    }
+                }
+            });
+        }
+        return null;
+    }
+
+    /**
+     * Takes back a recorded withdrawal that will never be paid out, such as a
+     * denied pending withdrawal, from the buckets of the time it was created.
+     * Inside a transaction this happens only once that transaction commits.
+     */
+    public void release(UUID walletId, long amount, Instant createdAt) {
+        if (!enabled) {
+            return;
+        }
+
+        Runnable release = () -> {
+            SlidingWindowCounter[] walletCounters = counters.get(walletId);
+            if (walletCounters != null) {
+                this.record(walletCounters, -amount, createdAt.toEpochMilli());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    release.run();
+                }
+            });
+        } else {
+            release.run();
+        }
+    }
+
+    // Runs during context startup, before the web server accepts requests, so no live withdrawal is counted twice.
+    @PostConstruct
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        Instant since = Instant.now().minus(VelocityWindow.DAY.getDuration());
+        long[] rebuilt = { 0L };
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<RecentTransactionView> rows = transactionRepository.streamRecent(TransactionType.WITHDRAW,
+                    TransactionStatus.DENIED, since)) {
+                rows.forEach(row -> {
+                    this.record(counters.computeIfAbsent(row.getWalletId(), id -> this.newCounters()),
+                            row.getAmount(), row.getCreatedAt().toEpochMilli());
+                    rebuilt[0]++;
+                });
+            }
+        });
+        logger.info("Rebuilt withdrawal velocity counters from {} transaction(s) across {} wallet(s).", rebuilt[0],
+                counters.size());
+    }
+
+    /**
+     * Drops the counters of wallets with no withdrawals in the last day. A
+     * withdrawal racing with the removal of its wallet's counters can go
+     * uncounted; wallets are only dropped after a full idle day, which keeps
+     * that window narrow.
+     */
+    @Scheduled(fixedDelayString = "${wallet.velocity.evict-interval}", initialDelayString = "${wallet.velocity.evict-interval}")
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        int before = counters.size();
+        counters.values().removeIf(walletCounters -> walletCounters[WINDOWS.length - 1].sum(now) == 0);
+        logger.debug("Evicted velocity counters of {} idle wallet(s).", before - counters.size());
+    }
+
+    private void record(SlidingWindowCounter[] walletCounters, long amount, long timeMillis) {
+        for (SlidingWindowCounter counter : walletCounters) {
+            counter.add(amount, timeMillis);
+        }
+    }
+
+    private SlidingWindowCounter[] newCounters() {
+        SlidingWindowCounter[] walletCounters = new SlidingWindowCounter[WINDOWS.length];
+        for (int i = 0; i < WINDOWS.length; i++) {
+            walletCounters[i] = new SlidingWindowCounter(WINDOWS[i].getDuration(), WINDOWS[i].getBucketCount());
+        }
+        return walletCounters;
+    }
+}
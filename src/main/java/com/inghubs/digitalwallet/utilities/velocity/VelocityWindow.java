@@ -0,0 +1,30 @@
+package com.inghubs.digitalwallet.utilities.velocity;
+
+import java.time.Duration;
+
+/**
+ * Sliding windows checked on withdrawals. Each window is a ring of buckets;
+ * wider windows use wider buckets so a wallet's counters stay a few hundred
+ * slots however long the window is.
+ */
+public enum VelocityWindow {
+    MINUTE(Duration.ofMinutes(1), 60),
+    HOUR(Duration.ofHours(1), 60),
+    DAY(Duration.ofDays(1), 144);
+
+    private final Duration duration;
+    private final int bucketCount;
+
+    VelocityWindow(Duration duration, int bucketCount) {
+        this.duration = duration;
+        this.bucketCount = bucketCount;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public int getBucketCount() {
+        return bucketCount;
+    }
+}
@@ -2,5 +2,8 @@ INSERT INTO customer (id, name, surname, TCKN) VALUES ('9ff06c7d07904de5b5a5f058
 INSERT INTO customer (id, name, surname, TCKN) VALUES ('0cce49aebba049aaa13859afdeeba061', 'IngHubs', 'Employee1', '10987654321');
 INSERT INTO user_auth (id, username, password, customer_id, role) VALUES ('6bfeca6d180a4a0295345a20686a9d32', 'Customer1User', '{noop}password', '9ff06c7d07904de5b5a5f0584aa4255f', 'CUSTOMER');
 INSERT INTO user_auth (id, username, password, customer_id, role) VALUES ('7775088bcc3f40069ed71cb3dcf90243', 'Employee1User', '{noop}password', '0cce49aebba049aaa13859afdeeba061', 'EMPLOYEE');
-INSERT INTO wallet (id, customer_id, wallet_name, currency, is_active_shopping, is_active_withdraw, balance, usable_balance) VALUES ('8d79b0201d69481a8ffe3895f67a2d54', '9ff06c7d07904de5b5a5f0584aa4255f', 'User1 Wallet', 'TRY', true, true, 500.0, 500.0);
-INSERT INTO wallet (id, customer_id, wallet_name, currency, is_active_shopping, is_active_withdraw, balance, usable_balance) VALUES ('253a6a427be14c39983cd7131c2776df', '0cce49aebba049aaa13859afdeeba061', 'Employee1 Wallet', 'USD', true, true, 500.0, 500.0);
\ No newline at end of file
+INSERT INTO wallet (id, customer_id, wallet_name, currency, is_active_shopping, is_active_withdraw, balance, usable_balance, pending_delta, version) VALUES ('8d79b0201d69481a8ffe3895f67a2d54', '9ff06c7d07904de5b5a5f0584aa4255f', 'User1 Wallet', 'TRY', true, true, 50000, 50000, 0, 0);
+INSERT INTO wallet (id, customer_id, wallet_name, currency, is_active_shopping, is_active_withdraw, balance, usable_balance, pending_delta, version) VALUES ('253a6a427be14c39983cd7131c2776df', '0cce49aebba049aaa13859afdeeba061', 'Employee1 Wallet', 'USD', true, true, 50000, 50000, 0, 0);
+INSERT INTO threshold_policy (id, currency, customer_tier, opposite_party_type, amount_limit) VALUES ('019a0c7e5b0070008000000000000001', 'TRY', NULL, NULL, 100000);
+INSERT INTO threshold_policy (id, currency, customer_tier, opposite_party_type, amount_limit) VALUES ('019a0c7e5b0070008000000000000002', 'USD', NULL, NULL, 100000);
+INSERT INTO threshold_policy (id, currency, customer_tier, opposite_party_type, amount_limit) VALUES ('019a0c7e5b0070008000000000000003', 'EUR', NULL, NULL, 100000);
@@ -0,0 +1,274 @@
+package com.inghubs.digitalwallet.ApprovalTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.inghubs.digitalwallet.approval.ApprovalCandidate;
+import com.inghubs.digitalwallet.approval.ApprovalRule;
+import com.inghubs.digitalwallet.approval.AutoApprovalEngine;
+import com.inghubs.digitalwallet.dtos.requests.WithdrawWalletRequest;
+import com.inghubs.digitalwallet.entities.*;
+import com.inghubs.digitalwallet.repositories.*;
+import com.inghubs.digitalwallet.services.TransactionService;
+import com.inghubs.digitalwallet.services.WalletService;
+import com.inghubs.digitalwallet.utilities.enums.*;
+import com.inghubs.digitalwallet.utilities.security.CustomUserDetails;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:auto-approval;DB_CLOSE_DELAY=-1",
+        "wallet.auto-approval.enabled=true",
+        "wallet.auto-approval.interval=86400000",
+        "wallet.auto-approval.velocity-max-amount=4000",
+        "wallet.auto-approval.trusted-parties=Trusted Employer",
+        "wallet.auto-approval.customer-limits=9ff06c7d-0790-4de5-b5a5-f0584aa4255f:3000"
+})
+@DisplayName("Auto-Approval Engine Tests")
+class AutoApprovalEngineTest {
+
+        private static final UUID LIMITED_CUSTOMER_ID = UUID.fromString("9ff06c7d-0790-4de5-b5a5-f0584aa4255f");
+        private static final UUID UNLIMITED_CUSTOMER_ID = UUID.fromString("0cce49ae-bba0-49aa-a138-59afdeeba061");
+
+        @Autowired
+        private AutoApprovalEngine autoApprovalEngine;
+
+        @Autowired
+        private TransactionRepository transactionRepository;
+
+        @Autowired
+        private WalletRepository walletRepository;
+
+        @Autowired
+        private CustomerRepository customerRepository;
+
+        @Autowired
+        private MeterRegistry meterRegistry;
+
+        @Autowired
+        private TransactionService transactionService;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Autowired
+        private WalletService walletService;
+
+        // Run once by the first rule, while the run evaluates without the wallet locks.
+        private static final AtomicReference<Runnable> RACE = new AtomicReference<>();
+
+        @TestConfiguration
+        static class RacingRuleConfig {
+
+                @Bean
+                @Order(Ordered.HIGHEST_PRECEDENCE)
+                ApprovalRule racingRule() {
+                        return new ApprovalRule() {
+                                @Override
+                                public String getName() {
+                                        return "racing";
+                                }
+
+                                @Override
+                                public ApprovalDecision evaluate(ApprovalCandidate candidate) {
+                                        Runnable race = RACE.getAndSet(null);
+                                        if (race != null) {
+                                                race.run();
+                                        }
+                                        return ApprovalDecision.ABSTAIN;
+                                }
+                        };
+                }
+        }
+
+        @Test
+        @DisplayName("Should approve, deny and hold pending transactions by rule, in queue order per wallet")
+        void testRun_MixedQueue_AppliesFirstDecidingRule() {
+                // Arrange
+                Wallet payrollWallet = walletRepository.save(Wallet.builder()
+                                .customer(customerRepository.findById(UNLIMITED_CUSTOMER_ID).orElseThrow())
+                                .walletName("Payroll Wallet")
+                                .currency(Currency.TRY)
+                                .isActiveShopping(true)
+                                .isActiveWithdraw(true)
+                                .balance(-250_000L)
+                                .usableBalance(300_000L)
+                                .pendingDelta(-550_000L)
+                                .build());
+                Wallet limitedWallet = walletRepository.save(Wallet.builder()
+                                .customer(customerRepository.findById(LIMITED_CUSTOMER_ID).orElseThrow())
+                                .walletName("Limited Wallet")
+                                .currency(Currency.TRY)
+                                .isActiveShopping(true)
+                                .isActiveWithdraw(true)
+                                .balance(500_000L)
+                                .usableBalance(1_000_000L)
+                                .pendingDelta(-500_000L)
+                                .build());
+
+                List<Transaction> pending = new ArrayList<>();
+                // Trusted payer: approved, which funds the next withdrawal check with 800,000.
+                pending.add(this.pending(payrollWallet, TransactionType.DEPOSIT, 500_000L, "Trusted Employer"));
+                // More than the 800,000 usable after the deposit: denied.
+                pending.add(this.pending(payrollWallet, TransactionType.WITHDRAW, 900_000L, "Unknown"));
+                // No rule matches: stays pending.
+                pending.add(this.pending(payrollWallet, TransactionType.WITHDRAW, 150_000L, "Unknown"));
+                // Within the customer's 3,000.00 limit: approved.
+                pending.add(this.pending(limitedWallet, TransactionType.WITHDRAW, 250_000L, "Unknown"));
+                // Would take approved withdrawals to 500,000, above the 4,000.00 velocity cap: held.
+                pending.add(this.pending(limitedWallet, TransactionType.WITHDRAW, 250_000L, "Unknown"));
+                List<UUID> ids = new ArrayList<>();
+                transactionRepository.saveAll(pending).forEach(transaction -> ids.add(transaction.getId()));
+                long evaluationsBefore = this.insufficientFundsEvaluations();
+                double holdsBefore = this.velocityHolds();
+
+                // Act
+                autoApprovalEngine.run();
+
+                // Assert
+                assertEquals(TransactionStatus.APPROVED, this.statusOf(ids.get(0)));
+                assertEquals(TransactionStatus.DENIED, this.statusOf(ids.get(1)));
+                assertEquals(TransactionStatus.PENDING, this.statusOf(ids.get(2)));
+                assertEquals(TransactionStatus.APPROVED, this.statusOf(ids.get(3)));
+                assertEquals(TransactionStatus.PENDING, this.statusOf(ids.get(4)));
+
+                Wallet settledPayrollWallet = walletRepository.findById(payrollWallet.getId()).orElseThrow();
+                assertEquals(800_000L, settledPayrollWallet.getUsableBalance());
+                assertEquals(-150_000L, settledPayrollWallet.getPendingDelta());
+
+                Wallet settledLimitedWallet = walletRepository.findById(limitedWallet.getId()).orElseThrow();
+                assertEquals(750_000L, settledLimitedWallet.getUsableBalance());
+                assertEquals(-250_000L, settledLimitedWallet.getPendingDelta());
+
+                assertEquals(5, this.insufficientFundsEvaluations() - evaluationsBefore);
+                assertEquals(1.0, this.velocityHolds() - holdsBefore);
+        }
+
+        @Test
+        @DisplayName("Should count a withdrawal toward velocity when it is approved, not when it was created")
+        void testRun_OldWithdrawalApprovedRecently_CountsTowardVelocity() {
+                // Arrange
+                Wallet wallet = walletRepository.save(Wallet.builder()
+                                .customer(customerRepository.findById(LIMITED_CUSTOMER_ID).orElseThrow())
+                                .walletName("Backlog Wallet")
+                                .currency(Currency.TRY)
+                                .isActiveShopping(true)
+                                .isActiveWithdraw(true)
+                                .balance(500_000L)
+                                .usableBalance(1_000_000L)
+                                .pendingDelta(-500_000L)
+                                .build());
+                UUID backlogged = transactionRepository.save(
+                                this.pending(wallet, TransactionType.WITHDRAW, 300_000L, "Unknown")).getId();
+                // Queued two days ago, well outside the one-day velocity window, and approved only now.
+                jdbcTemplate.update("UPDATE transaction SET created_at = DATEADD('DAY', -2, CURRENT_TIMESTAMP) "
+                                + "WHERE id = ?", backlogged);
+                transactionService.ResolvePendingTransactions(List.of(backlogged), TransactionStatus.APPROVED);
+                UUID next = transactionRepository.save(
+                                this.pending(wallet, TransactionType.WITHDRAW, 200_000L, "Unknown")).getId();
+
+                // Act
+                autoApprovalEngine.run();
+
+                // Assert
+                // 300,000 approved today plus 200,000 exceeds the 4,000.00 cap, so the customer limit never applies.
+                assertEquals(TransactionStatus.PENDING, this.statusOf(next));
+                assertNotNull(transactionRepository.findById(backlogged).orElseThrow().getResolvedAt());
+
+                // The context is shared, so leave nothing pending for the other test's run.
+                transactionService.ResolvePendingTransactions(List.of(next), TransactionStatus.DENIED);
+        }
+
+        @Test
+        @DisplayName("Should leave an approval pending when a withdrawal during evaluation leaves too little to cover it")
+        void testRun_WithdrawalRacesEvaluation_ApprovalRecheckedUnderLock() throws Exception {
+                // Arrange
+                Wallet wallet = walletRepository.save(Wallet.builder()
+                                .customer(customerRepository.findById(LIMITED_CUSTOMER_ID).orElseThrow())
+                                .walletName("Racing Wallet")
+                                .currency(Currency.TRY)
+                                .isActiveShopping(true)
+                                .isActiveWithdraw(true)
+                                .balance(50_000L)
+                                .usableBalance(300_000L)
+                                .pendingDelta(-250_000L)
+                                .build());
+                // Within the customer's 3,000.00 limit and covered by the 300,000 read for evaluation.
+                UUID racedId = transactionRepository.save(
+                                this.pending(wallet, TransactionType.WITHDRAW, 250_000L, "Unknown")).getId();
+                CustomUserDetails employee = CustomUserDetails.builder()
+                                .id(UUID.randomUUID())
+                                .username("racing-employee")
+                                .role(Role.EMPLOYEE)
+                                .build();
+                WithdrawWalletRequest racingWithdrawal = WithdrawWalletRequest.builder()
+                                .walletId(wallet.getId())
+                                .amount(80_000L)
+                                .destination("Racing Destination")
+                                .oppositePartyType(OppositePartyType.IBAN)
+                                .build();
+                RACE.set(() -> {
+                        Thread withdrawal = Thread.ofVirtual()
+                                        .start(() -> walletService.WithdrawWallet(racingWithdrawal, employee));
+                        try {
+                                withdrawal.join();
+                        } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                        }
+                });
+
+                // Act
+                autoApprovalEngine.run();
+
+                // Assert
+                assertNull(RACE.get());
+                assertEquals(TransactionStatus.PENDING, this.statusOf(racedId));
+                Wallet settledWallet = walletRepository.findById(wallet.getId()).orElseThrow();
+                assertEquals(220_000L, settledWallet.getUsableBalance());
+                assertEquals(-250_000L, settledWallet.getPendingDelta());
+
+                // The context is shared, so leave nothing pending for the other tests' runs.
+                transactionService.ResolvePendingTransactions(List.of(racedId), TransactionStatus.DENIED);
+        }
+
+        private Transaction pending(Wallet wallet, TransactionType type, long amount, String oppositeParty) {
+                return Transaction.builder()
+                                .wallet(wallet)
+                                .amount(amount)
+                                .type(type)
+                                .status(TransactionStatus.PENDING)
+                                .oppositeParty(oppositeParty)
+                                .oppositePartyType(OppositePartyType.IBAN)
+                                .build();
+        }
+
+        private long insufficientFundsEvaluations() {
+                return meterRegistry.get("wallet.approval.rule.latency")
+                                .tag("rule", "insufficient-funds").timer().count();
+        }
+
+        private double velocityHolds() {
+                Counter holds = meterRegistry.find("wallet.approval.decisions")
+                                .tags("rule", "velocity", "decision", "HOLD").counter();
+                return holds == null ? 0.0 : holds.count();
+        }
+
+        private TransactionStatus statusOf(UUID transactionId) {
+                return transactionRepository.findById(transactionId).orElseThrow().getStatus();
+        }
+}
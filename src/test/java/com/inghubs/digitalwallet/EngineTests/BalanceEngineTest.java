@@ -0,0 +1,270 @@
+package com.inghubs.digitalwallet.EngineTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.inghubs.digitalwallet.engine.*;
+import com.inghubs.digitalwallet.entities.Transaction;
+import com.inghubs.digitalwallet.entities.Wallet;
+import com.inghubs.digitalwallet.repositories.TransactionRepository;
+import com.inghubs.digitalwallet.repositories.TransactionRepository.TransactionStatusView;
+import com.inghubs.digitalwallet.repositories.WalletRepository;
+import com.inghubs.digitalwallet.utilities.enums.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Balance Engine Tests")
+class BalanceEngineTest {
+
+        @Mock
+        private WalletRepository walletRepository;
+
+        @Mock
+        private TransactionRepository transactionRepository;
+
+        @Spy
+        private BalanceJournal journal = new BalanceJournal();
+
+        @InjectMocks
+        private BalanceEngine balanceEngine;
+
+        @TempDir
+        private Path journalDirectory;
+
+        private UUID walletId;
+        private Wallet testWallet;
+
+        @BeforeEach
+        void setUp() throws Exception {
+                walletId = UUID.randomUUID();
+                testWallet = Wallet.builder()
+                                .id(walletId)
+                                .walletName("Wallet")
+                                .currency(Currency.TRY)
+                                .balance(100_000L)
+                                .usableBalance(100_000L)
+                                .isActiveShopping(true)
+                                .isActiveWithdraw(true)
+                                .build();
+
+                ReflectionTestUtils.setField(journal, "directory", journalDirectory);
+                ReflectionTestUtils.setField(journal, "sync", false);
+                journal.init();
+                ReflectionTestUtils.setField(balanceEngine, "shardCount", 8);
+                balanceEngine.init();
+        }
+
+        @Test
+        @DisplayName("Should keep balances exact under concurrent deposits and withdrawals")
+        void testApply_ConcurrentOperations_KeepsBalancesExact() throws Exception {
+                // Arrange
+                when(walletRepository.findById(walletId)).thenReturn(Optional.of(testWallet));
+                int operations = 2000;
+
+                // Act
+                try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                        for (int i = 0; i < operations; i++) {
+                                BalanceOperation operation = i % 2 == 0 ? BalanceOperation.COMPLETE_APPROVED_DEPOSIT
+                                                : BalanceOperation.COMPLETE_APPROVED_WITHDRAW;
+                                Transaction transaction = transaction(i % 2 == 0 ? 300L : 100L,
+                                                TransactionStatus.APPROVED);
+                                executor.submit(() -> balanceEngine.apply(transaction, operation, false));
+                        }
+                }
+
+                // Assert
+                Wallet overlaid = balanceEngine.overlay(Wallet.builder().id(walletId).build());
+                assertEquals(100_000L + (operations / 2) * 200L, overlaid.getUsableBalance());
+                assertEquals(overlaid.getUsableBalance(), overlaid.getBalance());
+                verify(walletRepository, times(1)).findById(walletId);
+                verify(walletRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should publish a change only after its database transaction commits")
+        void testApply_TransactionCommits_PublishesAfterCommit() {
+                // Arrange
+                when(walletRepository.findById(walletId)).thenReturn(Optional.of(testWallet));
+                TransactionSynchronizationManager.initSynchronization();
+
+                // Act & Assert
+                try {
+                        WalletBalances staged = balanceEngine.apply(transaction(40_000L, TransactionStatus.APPROVED),
+                                        BalanceOperation.COMPLETE_APPROVED_WITHDRAW, false);
+                        assertEquals(60_000L, staged.usableBalance());
+                        assertEquals(60_000L, balanceEngine.usableBalance(walletId, 0L));
+                        assertEquals(100_000L, this.committedUsableBalance());
+
+                        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager
+                                        .getSynchronizations();
+                        synchronizations.forEach(TransactionSynchronization::afterCommit);
+                        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+                } finally {
+                        TransactionSynchronizationManager.clearSynchronization();
+                }
+
+                assertEquals(60_000L, this.committedUsableBalance());
+                assertEquals(60_000L, balanceEngine.usableBalance(walletId, 0L));
+        }
+
+        @Test
+        @DisplayName("Should neither publish nor recover a change whose database transaction rolls back")
+        void testApply_TransactionRolledBack_NotPublishedOrRecovered() throws Exception {
+                // Arrange
+                when(walletRepository.findById(walletId)).thenReturn(Optional.of(testWallet));
+                Transaction committed = transaction(5_000L, TransactionStatus.PENDING);
+                balanceEngine.apply(committed, BalanceOperation.COMPLETE_PENDING_DEPOSIT, false);
+                Transaction rolledBack = transaction(30_000L, TransactionStatus.APPROVED);
+                TransactionSynchronizationManager.initSynchronization();
+
+                // Act
+                try {
+                        balanceEngine.apply(rolledBack, BalanceOperation.COMPLETE_APPROVED_WITHDRAW, false);
+                        assertEquals(100_000L, this.committedUsableBalance());
+                        TransactionSynchronizationManager.getSynchronizations()
+                                        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+                } finally {
+                        TransactionSynchronizationManager.clearSynchronization();
+                }
+                Wallet overlaid = balanceEngine.overlay(Wallet.builder().id(walletId).build());
+                Wallet recovered = this.restartFromJournal(Map.of(committed.getId(), TransactionStatus.PENDING));
+
+                // Assert
+                assertEquals(100_000L, overlaid.getUsableBalance());
+                assertEquals(5_000L, overlaid.getPendingDelta());
+                assertEquals(100_000L, recovered.getUsableBalance());
+                assertEquals(5_000L, recovered.getPendingDelta());
+                assertEquals(105_000L, recovered.getBalance());
+        }
+
+        @Test
+        @DisplayName("Should recover a committed change the process did not publish before it stopped")
+        void testRecover_CommittedButNotPublished_RestoresBalances() throws Exception {
+                // Arrange
+                when(walletRepository.findById(walletId)).thenReturn(Optional.of(testWallet));
+                Transaction committed = transaction(25_000L, TransactionStatus.APPROVED);
+                TransactionSynchronizationManager.initSynchronization();
+
+                // Act
+                Wallet recovered;
+                try {
+                        balanceEngine.apply(committed, BalanceOperation.COMPLETE_APPROVED_DEPOSIT, false);
+                        // The database commit succeeded, then the process stopped before afterCommit ran.
+                        recovered = this.restartFromJournal(Map.of(committed.getId(), TransactionStatus.APPROVED));
+                } finally {
+                        TransactionSynchronizationManager.getSynchronizations()
+                                        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_UNKNOWN));
+                        TransactionSynchronizationManager.clearSynchronization();
+                }
+
+                // Assert
+                assertEquals(125_000L, recovered.getUsableBalance());
+                assertEquals(125_000L, recovered.getBalance());
+        }
+
+        @Test
+        @DisplayName("Should recover the latest journaled balances on restart")
+        void testRecover_JournalSegments_RestoresLatestBalances() throws Exception {
+                // Arrange
+                when(walletRepository.findById(walletId)).thenReturn(Optional.of(testWallet));
+                Transaction pendingDeposit = transaction(250_000L, TransactionStatus.PENDING);
+                Transaction withdrawal = transaction(20_000L, TransactionStatus.APPROVED);
+                balanceEngine.apply(pendingDeposit, BalanceOperation.COMPLETE_PENDING_DEPOSIT, false);
+                balanceEngine.apply(withdrawal, BalanceOperation.COMPLETE_APPROVED_WITHDRAW, false);
+
+                // Act
+                Wallet persistedWallet = this.restartFromJournal(Map.of(pendingDeposit.getId(),
+                                TransactionStatus.PENDING, withdrawal.getId(), TransactionStatus.APPROVED));
+
+                // Assert
+                assertEquals(80_000L, persistedWallet.getUsableBalance());
+                assertEquals(250_000L, persistedWallet.getPendingDelta());
+                assertEquals(330_000L, persistedWallet.getBalance());
+                verify(walletRepository, times(1)).saveAll(any());
+        }
+
+        private Transaction transaction(long amount, TransactionStatus status) {
+                return Transaction.builder()
+                                .id(UUID.randomUUID())
+                                .wallet(testWallet)
+                                .amount(amount)
+                                .status(status)
+                                .build();
+        }
+
+        private long committedUsableBalance() {
+                return balanceEngine.overlay(Wallet.builder().id(walletId).build()).getUsableBalance();
+        }
+
+        /**
+         * Closes the journal as a stopped process would and starts a new engine
+         * on it, with the given transactions committed in the database.
+         */
+        private Wallet restartFromJournal(Map<UUID, TransactionStatus> committedStatuses) throws Exception {
+                journal.close();
+
+                BalanceJournal restartedJournal = new BalanceJournal();
+                ReflectionTestUtils.setField(restartedJournal, "directory", journalDirectory);
+                ReflectionTestUtils.setField(restartedJournal, "sync", false);
+                restartedJournal.init();
+
+                Wallet persistedWallet = Wallet.builder()
+                                .id(walletId)
+                                .balance(100_000L)
+                                .usableBalance(100_000L)
+                                .build();
+                when(walletRepository.findAllById(any())).thenReturn(List.of(persistedWallet));
+                when(transactionRepository.findStatusesByIdIn(any())).thenAnswer(invocation -> {
+                        Collection<UUID> ids = invocation.getArgument(0);
+                        return ids.stream()
+                                        .filter(committedStatuses::containsKey)
+                                        .map(id -> statusView(id, committedStatuses.get(id)))
+                                        .toList();
+                });
+
+                BalanceEngine restartedEngine = new BalanceEngine();
+                ReflectionTestUtils.setField(restartedEngine, "walletRepository", walletRepository);
+                ReflectionTestUtils.setField(restartedEngine, "transactionRepository", transactionRepository);
+                ReflectionTestUtils.setField(restartedEngine, "journal", restartedJournal);
+                ReflectionTestUtils.setField(restartedEngine, "shardCount", 8);
+                restartedEngine.init();
+
+                assertTrue(restartedJournal.sealedSegments().isEmpty());
+                assertTrue(restartedJournal.read(restartedJournal.sealedSegments()).isEmpty());
+                return persistedWallet;
+        }
+
+        private static TransactionStatusView statusView(UUID id, TransactionStatus status) {
+                return new TransactionStatusView() {
+                        @Override
+                        public UUID getId() {
+                                return id;
+                        }
+
+                        @Override
+                        public TransactionStatus getStatus() {
+                                return status;
+                        }
+                };
+        }
+}
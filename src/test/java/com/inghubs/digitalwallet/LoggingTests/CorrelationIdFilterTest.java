@@ -0,0 +1,58 @@
+package com.inghubs.digitalwallet.LoggingTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.inghubs.digitalwallet.interceptors.CorrelationIdFilter;
+
+@DisplayName("Correlation ID Filter Tests")
+class CorrelationIdFilterTest {
+
+        private final CorrelationIdFilter filter = new CorrelationIdFilter();
+
+        @Test
+        @DisplayName("Should keep a well-formed client correlation ID in the MDC for the request only")
+        void testDoFilter_ValidHeader_KeepsClientId() throws Exception {
+                // Arrange
+                MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/wallet/list");
+                request.addHeader(CorrelationIdFilter.CORRELATION_ID_HEADER, "client-request-42");
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                AtomicReference<String> seenByChain = new AtomicReference<>();
+
+                // Act
+                filter.doFilter(request, response,
+                                (req, res) -> seenByChain.set(MDC.get(CorrelationIdFilter.CORRELATION_ID_KEY)));
+
+                // Assert
+                assertEquals("client-request-42", seenByChain.get());
+                assertEquals("client-request-42", response.getHeader(CorrelationIdFilter.CORRELATION_ID_HEADER));
+                assertNull(MDC.get(CorrelationIdFilter.CORRELATION_ID_KEY));
+        }
+
+        @Test
+        @DisplayName("Should replace correlation IDs that could inject log content or are too long")
+        void testDoFilter_MalformedHeader_GeneratesNewId() throws Exception {
+                for (String malformed : new String[] { "abc\ninjected=1", "a".repeat(65), "" }) {
+                        // Arrange
+                        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/wallet/list");
+                        request.addHeader(CorrelationIdFilter.CORRELATION_ID_HEADER, malformed);
+                        MockHttpServletResponse response = new MockHttpServletResponse();
+
+                        // Act
+                        filter.doFilter(request, response, (req, res) -> {
+                        });
+
+                        // Assert
+                        String echoed = response.getHeader(CorrelationIdFilter.CORRELATION_ID_HEADER);
+                        assertNotEquals(malformed, echoed);
+                        assertTrue(echoed.matches("[A-Za-z0-9-]{1,64}"));
+                }
+        }
+}
@@ -0,0 +1,177 @@
+package com.inghubs.digitalwallet.OutboxTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import com.inghubs.digitalwallet.dtos.events.*;
+import com.inghubs.digitalwallet.dtos.requests.*;
+import com.inghubs.digitalwallet.dtos.responses.*;
+import com.inghubs.digitalwallet.entities.*;
+import com.inghubs.digitalwallet.outbox.*;
+import com.inghubs.digitalwallet.repositories.*;
+import com.inghubs.digitalwallet.services.*;
+import com.inghubs.digitalwallet.utilities.enums.*;
+import com.inghubs.digitalwallet.utilities.security.CustomUserDetails;
+
+import tools.jackson.databind.json.JsonMapper;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox-relay;DB_CLOSE_DELAY=-1",
+        "wallet.outbox.relay-interval=86400000"
+})
+@DisplayName("Outbox Relay Tests")
+class OutboxRelayTest {
+
+        private static final UUID SEEDED_CUSTOMER_ID = UUID.fromString("9ff06c7d-0790-4de5-b5a5-f0584aa4255f");
+
+        static class RecordingSink implements OutboxSink {
+
+                final List<OutboxEvent> received = new ArrayList<>();
+                final AtomicBoolean failNext = new AtomicBoolean();
+
+                @Override
+                public synchronized void publish(List<OutboxEvent> events) {
+                        if (failNext.getAndSet(false)) {
+                                throw new IllegalStateException("Sink unavailable");
+                        }
+                        received.addAll(events);
+                }
+        }
+
+        @TestConfiguration
+        static class RecordingSinkConfig {
+
+                @Bean
+                RecordingSink recordingSink() {
+                        return new RecordingSink();
+                }
+        }
+
+        @Autowired
+        private WalletService walletService;
+
+        @Autowired
+        private TransactionService transactionService;
+
+        @Autowired
+        private OutboxRelay outboxRelay;
+
+        @Autowired
+        private RecordingSink recordingSink;
+
+        @Autowired
+        private OutboxEventRepository outboxEventRepository;
+
+        @Autowired
+        private WalletRepository walletRepository;
+
+        @Autowired
+        private CustomerRepository customerRepository;
+
+        @Autowired
+        private JsonMapper jsonMapper;
+
+        private UUID walletId;
+        private CustomUserDetails employee;
+
+        @BeforeEach
+        void setUp() {
+                outboxRelay.relay();
+                recordingSink.received.clear();
+
+                Customer customer = customerRepository.findById(SEEDED_CUSTOMER_ID).orElseThrow();
+                walletId = walletRepository.save(Wallet.builder()
+                                .customer(customer)
+                                .walletName("Outbox Wallet")
+                                .currency(Currency.TRY)
+                                .isActiveShopping(true)
+                                .isActiveWithdraw(true)
+                                .build()).getId();
+
+                employee = CustomUserDetails.builder()
+                                .id(UUID.randomUUID())
+                                .customerId(SEEDED_CUSTOMER_ID)
+                                .username("relay")
+                                .role(Role.EMPLOYEE)
+                                .build();
+        }
+
+        @Test
+        @DisplayName("Should relay a wallet's events in the order they were written")
+        void testRelay_PendingDepositApproved_PublishesEventsInOrder() {
+                // Arrange
+                DepositWalletResponse deposit = walletService.DepositWallet(DepositWalletRequest.builder()
+                                .walletId(walletId)
+                                .amount(500_000L)
+                                .source("Large Transfer")
+                                .oppositePartyType(OppositePartyType.IBAN)
+                                .build());
+                transactionService.ApproveTransaction(ApproveTransactionRequest.builder()
+                                .transactionId(deposit.getTransaction().getId())
+                                .status(TransactionStatus.APPROVED)
+                                .build(), employee);
+
+                // Act
+                outboxRelay.relay();
+
+                // Assert
+                List<OutboxEvent> events = recordingSink.received.stream()
+                                .filter(event -> event.getWalletId().equals(walletId))
+                                .toList();
+                assertEquals(List.of(OutboxEventType.TRANSACTION_STATUS_CHANGED, OutboxEventType.BALANCE_CHANGED,
+                                OutboxEventType.TRANSACTION_STATUS_CHANGED, OutboxEventType.BALANCE_CHANGED),
+                                events.stream().map(OutboxEvent::getEventType).toList());
+
+                BalanceChangedEvent pending = jsonMapper.readValue(events.get(1).getPayload(), BalanceChangedEvent.class);
+                assertEquals(BalanceOperation.COMPLETE_PENDING_DEPOSIT, pending.getOperation());
+                assertEquals(500_000L, pending.getBalance());
+                assertEquals(0L, pending.getUsableBalance());
+
+                TransactionStatusChangedEvent approved = jsonMapper.readValue(events.get(2).getPayload(),
+                                TransactionStatusChangedEvent.class);
+                assertEquals(TransactionStatus.PENDING, approved.getPreviousStatus());
+                assertEquals(TransactionStatus.APPROVED, approved.getStatus());
+
+                BalanceChangedEvent settled = jsonMapper.readValue(events.get(3).getPayload(), BalanceChangedEvent.class);
+                assertEquals(500_000L, settled.getBalance());
+                assertEquals(500_000L, settled.getUsableBalance());
+                assertEquals(0L, outboxEventRepository.countByPublishedAtIsNull());
+        }
+
+        @Test
+        @DisplayName("Should deliver a batch again when a sink fails")
+        void testRelay_SinkFails_RedeliversOnNextRun() {
+                // Arrange
+                walletService.DepositWallet(DepositWalletRequest.builder()
+                                .walletId(walletId)
+                                .amount(1_000L)
+                                .source("Payroll")
+                                .oppositePartyType(OppositePartyType.IBAN)
+                                .build());
+                recordingSink.failNext.set(true);
+
+                // Act
+                outboxRelay.relay();
+                long unpublishedAfterFailure = outboxEventRepository.countByPublishedAtIsNull();
+                outboxRelay.relay();
+
+                // Assert
+                assertEquals(2, unpublishedAfterFailure);
+                assertEquals(2, recordingSink.received.stream()
+                                .filter(event -> event.getWalletId().equals(walletId))
+                                .count());
+                assertEquals(0L, outboxEventRepository.countByPublishedAtIsNull());
+        }
+}
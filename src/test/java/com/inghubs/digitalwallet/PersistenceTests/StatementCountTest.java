@@ -0,0 +1,231 @@
+package com.inghubs.digitalwallet.PersistenceTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import com.inghubs.digitalwallet.dtos.requests.*;
+import com.inghubs.digitalwallet.dtos.responses.*;
+import com.inghubs.digitalwallet.entities.*;
+import com.inghubs.digitalwallet.repositories.*;
+import com.inghubs.digitalwallet.services.*;
+import com.inghubs.digitalwallet.utilities.enums.*;
+import com.inghubs.digitalwallet.utilities.security.CustomUserDetails;
+
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Counts the SQL statements the persistence layer sends through a proxied
+ * data source. A JDBC batch counts as a single statement, so these numbers
+ * drop when batching works and rise when a change adds round trips.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:statement-count;DB_CLOSE_DELAY=-1")
+@DisplayName("Statement Count Tests")
+class StatementCountTest {
+
+        private static final UUID SEEDED_CUSTOMER_ID = UUID.fromString("9ff06c7d-0790-4de5-b5a5-f0584aa4255f");
+
+        @TestConfiguration
+        static class CountingDataSourceConfig {
+
+                @Bean
+                static BeanPostProcessor countingDataSourcePostProcessor() {
+                        return new BeanPostProcessor() {
+                                @Override
+                                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                                        if (bean instanceof DataSource dataSource) {
+                                                return ProxyDataSourceBuilder.create(dataSource)
+                                                                .name("statement-count")
+                                                                .countQuery()
+                                                                .build();
+                                        }
+                                        return bean;
+                                }
+                        };
+                }
+        }
+
+        @Autowired
+        private WalletService walletService;
+
+        @Autowired
+        private TransactionService transactionService;
+
+        @Autowired
+        private WalletRepository walletRepository;
+
+        @Autowired
+        private CustomerRepository customerRepository;
+
+        private UUID walletId;
+        private CustomUserDetails employee;
+
+        @BeforeEach
+        void setUp() {
+                Customer customer = customerRepository.findById(SEEDED_CUSTOMER_ID).orElseThrow();
+
+                walletId = walletRepository.save(Wallet.builder()
+                                .customer(customer)
+                                .walletName("Counted Wallet")
+                                .currency(Currency.TRY)
+                                .isActiveShopping(true)
+                                .isActiveWithdraw(true)
+                                .balance(100_000L)
+                                .usableBalance(100_000L)
+                                .build()).getId();
+
+                employee = CustomUserDetails.builder()
+                                .id(UUID.randomUUID())
+                                .customerId(SEEDED_CUSTOMER_ID)
+                                .username("counter")
+                                .role(Role.EMPLOYEE)
+                                .build();
+        }
+
+        @Test
+        @DisplayName("Should read and write the wallet once per deposit")
+        void testDepositWallet_SingleUnitOfWork_OneReadOneWrite() {
+                // Arrange
+                DepositWalletRequest request = DepositWalletRequest.builder()
+                                .walletId(walletId)
+                                .amount(1_000L)
+                                .source("Payroll")
+                                .oppositePartyType(OppositePartyType.IBAN)
+                                .build();
+                QueryCountHolder.clear();
+
+                // Act
+                DepositWalletResponse response = walletService.DepositWallet(request);
+
+                // Assert
+                QueryCount count = QueryCountHolder.get("statement-count");
+                assertEquals(1, count.getSelect());
+                assertEquals(2, count.getInsert());
+                assertEquals(1, count.getUpdate());
+                assertEquals(101_000L, response.getWallet().getUsableBalance());
+        }
+
+        @Test
+        @DisplayName("Should read and write the wallet once per withdrawal")
+        void testWithdrawWallet_SingleUnitOfWork_OneReadOneWrite() {
+                // Arrange
+                WithdrawWalletRequest request = WithdrawWalletRequest.builder()
+                                .walletId(walletId)
+                                .amount(1_000L)
+                                .destination("TR000000000000000000000000")
+                                .oppositePartyType(OppositePartyType.IBAN)
+                                .build();
+                QueryCountHolder.clear();
+
+                // Act
+                WithdrawWalletResponse response = walletService.WithdrawWallet(request, employee);
+
+                // Assert
+                QueryCount count = QueryCountHolder.get("statement-count");
+                assertEquals(1, count.getSelect());
+                assertEquals(2, count.getInsert());
+                assertEquals(1, count.getUpdate());
+                assertEquals(99_000L, response.getWallet().getUsableBalance());
+        }
+
+        @Test
+        @DisplayName("Should insert a batch of transactions with one statement per JDBC batch")
+        void testBatchWallet_HundredDeposits_InsertsInBatches() {
+                // Arrange
+                List<DepositWalletRequest> deposits = new ArrayList<>();
+                for (int i = 0; i < 100; i++) {
+                        deposits.add(DepositWalletRequest.builder()
+                                        .walletId(walletId)
+                                        .amount(1_000L)
+                                        .source("Payroll")
+                                        .oppositePartyType(OppositePartyType.IBAN)
+                                        .build());
+                }
+                QueryCountHolder.clear();
+
+                // Act
+                walletService.BatchWallet(BatchWalletRequest.builder().deposits(deposits).build(), employee);
+
+                // Assert
+                QueryCount count = QueryCountHolder.get("statement-count");
+                assertEquals(6, count.getInsert());
+                assertEquals(1, count.getUpdate());
+        }
+
+        @Test
+        @DisplayName("Should flush the wallet and transaction updates of an approval in one unit of work")
+        void testApproveTransaction_PendingDeposit_UpdatesInOneFlush() {
+                // Arrange
+                DepositWalletResponse deposit = walletService.DepositWallet(DepositWalletRequest.builder()
+                                .walletId(walletId)
+                                .amount(500_000L)
+                                .source("Large Transfer")
+                                .oppositePartyType(OppositePartyType.IBAN)
+                                .build());
+                assertTrue(deposit.getIsPendingTransaction());
+                QueryCountHolder.clear();
+
+                // Act
+                transactionService.ApproveTransaction(ApproveTransactionRequest.builder()
+                                .transactionId(deposit.getTransaction().getId())
+                                .status(TransactionStatus.APPROVED)
+                                .build(), employee);
+
+                // Assert
+                QueryCount count = QueryCountHolder.get("statement-count");
+                assertEquals(1, count.getInsert());
+                assertEquals(2, count.getUpdate());
+                assertTrue(count.getTotal() <= 8, "approval sent " + count.getTotal() + " statements");
+        }
+
+        @Test
+        @DisplayName("Should resolve a bulk approval with three reads and one batched flush")
+        void testBulkApproveTransactions_HundredPendingDeposits_FlushesOnce() {
+                // Arrange
+                List<DepositWalletRequest> deposits = new ArrayList<>();
+                for (int i = 0; i < 100; i++) {
+                        deposits.add(DepositWalletRequest.builder()
+                                        .walletId(walletId)
+                                        .amount(500_000L)
+                                        .source("Large Transfer")
+                                        .oppositePartyType(OppositePartyType.IBAN)
+                                        .build());
+                }
+                List<UUID> transactionIds = walletService.BatchWallet(
+                                BatchWalletRequest.builder().deposits(deposits).build(), employee)
+                                .getDeposits().stream()
+                                .map(result -> result.getTransaction().getId())
+                                .toList();
+                QueryCountHolder.clear();
+
+                // Act
+                BulkApproveTransactionResponse response = transactionService.BulkApproveTransactions(
+                                BulkApproveTransactionRequest.builder()
+                                                .transactionIds(transactionIds)
+                                                .status(TransactionStatus.APPROVED)
+                                                .build(),
+                                employee);
+
+                // Assert
+                QueryCount count = QueryCountHolder.get("statement-count");
+                assertEquals(100, response.getAppliedCount());
+                assertEquals(3, count.getSelect());
+                assertEquals(4, count.getInsert());
+                assertEquals(3, count.getUpdate());
+        }
+}
@@ -0,0 +1,115 @@
+package com.inghubs.digitalwallet.PersistenceTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.inghubs.digitalwallet.dtos.requests.ListTransactionsRequest;
+import com.inghubs.digitalwallet.entities.Transaction;
+import com.inghubs.digitalwallet.repositories.TransactionRepository;
+import com.inghubs.digitalwallet.utilities.enums.*;
+import com.inghubs.digitalwallet.utilities.pagination.TransactionCursor;
+
+/**
+ * Walks {@code findPage} with a small page size over rows that share their
+ * {@code created_at}, so most page boundaries fall inside a run of equal
+ * timestamps and only the id tie-breaker keeps the cursor from skipping or
+ * repeating rows.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:transaction-paging;DB_CLOSE_DELAY=-1")
+@DisplayName("Transaction Paging Tests")
+class TransactionPagingTest {
+
+        private static final UUID SEEDED_WALLET_ID = UUID.fromString("8d79b020-1d69-481a-8ffe-3895f67a2d54");
+        private static final UUID OTHER_SEEDED_WALLET_ID = UUID.fromString("253a6a42-7be1-4c39-983c-d7131c2776df");
+        private static final Instant BASE_TIME = Instant.parse("2026-03-01T12:00:00Z");
+        private static final int TIMESTAMPS = 4;
+        private static final int ROWS_PER_TIMESTAMP = 12;
+
+        @Autowired
+        private TransactionRepository transactionRepository;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        private final Set<UUID> expectedIds = new HashSet<>();
+
+        @BeforeEach
+        void setUp() {
+                List<Object[]> rows = new ArrayList<>();
+                for (int second = 0; second < TIMESTAMPS; second++) {
+                        Timestamp createdAt = Timestamp.from(BASE_TIME.plusSeconds(second));
+                        for (int i = 0; i < ROWS_PER_TIMESTAMP; i++) {
+                                UUID id = UUID.randomUUID();
+                                // Every third row is a deposit, every fourth is denied, amounts cycle from 100 to 600.
+                                TransactionType type = i % 3 == 0 ? TransactionType.DEPOSIT
+                                                : TransactionType.WITHDRAW;
+                                TransactionStatus status = i % 4 == 0 ? TransactionStatus.DENIED
+                                                : TransactionStatus.APPROVED;
+                                long amount = 100L * (i % 6 + 1);
+                                rows.add(new Object[] { id, SEEDED_WALLET_ID, amount, type.name(), status.name(),
+                                                createdAt });
+                                // The same instant in another wallet must never leak into the page.
+                                rows.add(new Object[] { UUID.randomUUID(), OTHER_SEEDED_WALLET_ID, amount, type.name(),
+                                                status.name(), createdAt });
+
+                                boolean inRange = second >= 1 && second < TIMESTAMPS;
+                                if (inRange && type == TransactionType.WITHDRAW && status == TransactionStatus.APPROVED
+                                                && amount >= 200L) {
+                                        expectedIds.add(id);
+                                }
+                        }
+                }
+                jdbcTemplate.batchUpdate("""
+                                INSERT INTO transaction (id, wallet_id, amount, type, status, opposite_party_type,
+                                        opposite_party, created_at)
+                                VALUES (?, ?, ?, ?, ?, 'IBAN', 'Paging', ?)
+                                """, rows);
+        }
+
+        @Test
+        @DisplayName("Should page through equal timestamps under combined filters without gaps or duplicates")
+        void testFindPage_EqualTimestampsWithFilters_NoGapsOrDuplicates() {
+                // Arrange
+                ListTransactionsRequest filter = ListTransactionsRequest.builder()
+                                .status(TransactionStatus.APPROVED)
+                                .type(TransactionType.WITHDRAW)
+                                .from(BASE_TIME.plusSeconds(1))
+                                .to(BASE_TIME.plusSeconds(TIMESTAMPS))
+                                .minAmount(200L)
+                                .build();
+                int pageSize = 5;
+
+                // Act
+                List<Transaction> walked = new ArrayList<>();
+                TransactionCursor after = null;
+                List<Transaction> page;
+                do {
+                        page = transactionRepository.findPage(SEEDED_WALLET_ID, filter, after, pageSize);
+                        walked.addAll(page);
+                        after = page.isEmpty() ? null : TransactionCursor.of(page.getLast());
+                } while (page.size() == pageSize);
+
+                // Assert
+                List<UUID> walkedIds = walked.stream().map(Transaction::getId).toList();
+                assertEquals(walkedIds.size(), new HashSet<>(walkedIds).size(), "a row was returned twice");
+                assertEquals(expectedIds, new HashSet<>(walkedIds), "a row was skipped or does not match the filters");
+                for (int i = 1; i < walked.size(); i++) {
+                        assertFalse(walked.get(i).getCreatedAt().isAfter(walked.get(i - 1).getCreatedAt()),
+                                        "rows are not newest first");
+                }
+        }
+}
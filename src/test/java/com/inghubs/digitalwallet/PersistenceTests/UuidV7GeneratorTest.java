@@ -0,0 +1,91 @@
+package com.inghubs.digitalwallet.PersistenceTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.inghubs.digitalwallet.utilities.identifiers.UuidV7Generator;
+
+@DisplayName("UUIDv7 Generator Tests")
+class UuidV7GeneratorTest {
+
+        @Test
+        @DisplayName("Should set version 7 and the RFC 9562 variant")
+        void testNextUuid_SetsVersionAndVariant() {
+                // Act
+                UUID id = UuidV7Generator.nextUuid();
+
+                // Assert
+                assertEquals(7, id.version());
+                assertEquals(2, id.variant());
+        }
+
+        @Test
+        @DisplayName("Should embed the current Unix time in milliseconds")
+        void testNextUuid_EmbedsCurrentTimestamp() {
+                // Arrange
+                long before = System.currentTimeMillis();
+
+                // Act
+                UUID id = UuidV7Generator.nextUuid();
+
+                // Assert
+                long timestamp = id.getMostSignificantBits() >>> 16;
+                assertTrue(timestamp >= before && timestamp <= System.currentTimeMillis() + 1,
+                                "timestamp " + timestamp + " outside of [" + before + ", now]");
+        }
+
+        @Test
+        @DisplayName("Should produce strictly increasing ids even within one millisecond")
+        void testNextUuid_StrictlyIncreasing() {
+                // Arrange
+                UUID previous = UuidV7Generator.nextUuid();
+
+                for (int i = 0; i < 100_000; i++) {
+                        // Act
+                        UUID next = UuidV7Generator.nextUuid();
+
+                        // Assert
+                        assertTrue(Long.compareUnsigned(next.getMostSignificantBits(),
+                                        previous.getMostSignificantBits()) > 0);
+                        previous = next;
+                }
+        }
+
+        @Test
+        @DisplayName("Should not hand out duplicate ids across threads")
+        void testNextUuid_ConcurrentCallers_Unique() throws Exception {
+                // Arrange
+                int threads = 8;
+                int idsPerThread = 50_000;
+                Set<UUID> ids = ConcurrentHashMap.newKeySet();
+                List<Future<?>> futures = new ArrayList<>();
+
+                // Act
+                try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+                        for (int t = 0; t < threads; t++) {
+                                futures.add(executor.submit(() -> {
+                                        for (int i = 0; i < idsPerThread; i++) {
+                                                ids.add(UuidV7Generator.nextUuid());
+                                        }
+                                }));
+                        }
+                        for (Future<?> future : futures) {
+                                future.get();
+                        }
+                }
+
+                // Assert
+                assertEquals(threads * idsPerThread, ids.size());
+        }
+}
@@ -0,0 +1,75 @@
+package com.inghubs.digitalwallet.SecurityTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.inghubs.digitalwallet.utilities.security.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("Actuator Security Tests")
+class ActuatorSecurityTest {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private JwtUtility jwtUtility;
+
+        @Autowired
+        private CustomUserDetailsService userDetailsService;
+
+        private final HttpClient httpClient = HttpClient.newHttpClient();
+
+        @Test
+        @DisplayName("Should keep health and prometheus open to anonymous callers")
+        void testActuator_PublicEndpoints_AllowAnonymous() throws Exception {
+                // Act
+                int health = send("GET", "/actuator/health", null);
+                int prometheus = send("GET", "/actuator/prometheus", null);
+
+                // Assert
+                assertEquals(200, health);
+                assertEquals(200, prometheus);
+        }
+
+        @Test
+        @DisplayName("Should not let anonymous callers or customers evict caches")
+        void testActuator_EvictCaches_RequiresEmployee() throws Exception {
+                // Arrange
+                String customerToken = tokenFor("Customer1User");
+                String employeeToken = tokenFor("Employee1User");
+
+                // Act
+                int anonymous = send("DELETE", "/actuator/caches", null);
+                int customer = send("DELETE", "/actuator/caches", customerToken);
+                int employee = send("DELETE", "/actuator/caches", employeeToken);
+
+                // Assert
+                assertEquals(401, anonymous);
+                assertEquals(403, customer);
+                assertEquals(204, employee);
+        }
+
+        private String tokenFor(String username) {
+                return jwtUtility.generateToken((CustomUserDetails) userDetailsService.loadUserByUsername(username));
+        }
+
+        private int send(String method, String path, String token) throws Exception {
+                HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                                .method(method, HttpRequest.BodyPublishers.noBody());
+                if (token != null) {
+                        request.header("Authorization", "Bearer " + token);
+                }
+                return httpClient.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+        }
+}
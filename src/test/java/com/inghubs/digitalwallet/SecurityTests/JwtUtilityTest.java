@@ -0,0 +1,102 @@
+package com.inghubs.digitalwallet.SecurityTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.inghubs.digitalwallet.utilities.enums.Role;
+import com.inghubs.digitalwallet.utilities.security.*;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+@DisplayName("JWT Utility Tests")
+class JwtUtilityTest {
+
+        private static final String SECRET = "super_secret_key_for_jwt_signing_purposes";
+
+        private JwtUtility jwtUtility;
+        private CustomUserDetails userDetails;
+
+        @BeforeEach
+        void setUp() {
+                jwtUtility = new JwtUtility();
+                ReflectionTestUtils.setField(jwtUtility, "jwtSecret", SECRET);
+                ReflectionTestUtils.setField(jwtUtility, "jwtExpirationMs", 60_000);
+                ReflectionTestUtils.setField(jwtUtility, "keyVersion", "1");
+                ReflectionTestUtils.setField(jwtUtility, "verifiedCacheMaximumSize", 100L);
+                jwtUtility.init();
+
+                userDetails = CustomUserDetails.builder()
+                                .id(UUID.randomUUID())
+                                .customerId(UUID.randomUUID())
+                                .username("claims-user")
+                                .role(Role.EMPLOYEE)
+                                .build();
+        }
+
+        @Test
+        @DisplayName("Should rebuild the principal from the claims of a generated token")
+        void testGetUserDetailsFromClaims_GeneratedToken_RebuildsPrincipal() {
+                // Arrange
+                String token = jwtUtility.generateToken(userDetails);
+
+                // Act
+                CustomUserDetails principal = jwtUtility.getUserDetailsFromClaims(jwtUtility.parseAndValidate(token));
+
+                // Assert
+                assertEquals(userDetails.getId(), principal.getId());
+                assertEquals(userDetails.getCustomerId(), principal.getCustomerId());
+                assertEquals("claims-user", principal.getUsername());
+                assertEquals(Role.EMPLOYEE, principal.getRole());
+                assertNull(principal.getPassword());
+        }
+
+        @Test
+        @DisplayName("Should return null for a token issued without principal claims")
+        void testGetUserDetailsFromClaims_SubjectOnlyToken_ReturnsNull() {
+                // Arrange
+                String token = Jwts.builder()
+                                .subject("legacy-user")
+                                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), Jwts.SIG.HS256)
+                                .compact();
+                Claims claims = jwtUtility.parseAndValidate(token);
+
+                // Act & Assert
+                assertNull(jwtUtility.getUserDetailsFromClaims(claims));
+        }
+
+        @Test
+        @DisplayName("Should return null for a token signed with a different key")
+        void testParseAndValidate_ForeignSignature_ReturnsNull() {
+                // Arrange
+                String token = Jwts.builder()
+                                .subject("intruder")
+                                .signWith(Keys.hmacShaKeyFor("another_secret_key_for_jwt_signing_purposes".getBytes()),
+                                                Jwts.SIG.HS256)
+                                .compact();
+
+                // Act & Assert
+                assertNull(jwtUtility.parseAndValidate(token));
+        }
+
+        @Test
+        @DisplayName("Should serve a previously verified token from the cache")
+        void testParseAndValidate_RepeatedToken_ReturnsCachedClaims() {
+                // Arrange
+                String token = jwtUtility.generateToken(userDetails);
+                Claims first = jwtUtility.parseAndValidate(token);
+
+                // Act
+                Claims second = jwtUtility.parseAndValidate(token);
+
+                // Assert
+                assertSame(first, second);
+        }
+}
@@ -0,0 +1,78 @@
+package com.inghubs.digitalwallet.SecurityTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import com.inghubs.digitalwallet.entities.*;
+import com.inghubs.digitalwallet.repositories.UserRepository;
+import com.inghubs.digitalwallet.utilities.enums.Role;
+import com.inghubs.digitalwallet.utilities.security.*;
+
+@SpringBootTest
+@DisplayName("User Details Cache Tests")
+class UserDetailsCacheTest {
+
+        @Autowired
+        private CustomUserDetailsService userDetailsService;
+
+        @Autowired
+        private CacheManager cacheManager;
+
+        @MockitoSpyBean
+        private UserRepository userRepository;
+
+        private User user;
+
+        @BeforeEach
+        void setUp() {
+                cacheManager.getCache(UserCacheInvalidator.CACHE_NAME).clear();
+
+                user = userRepository.save(User.builder()
+                                .username("cached-" + System.nanoTime())
+                                .password("{noop}password")
+                                .role(Role.CUSTOMER)
+                                .customer(Customer.builder()
+                                                .name("Cache")
+                                                .surname("Customer")
+                                                .TCKN("11111111111")
+                                                .build())
+                                .build());
+                clearInvocations(userRepository);
+        }
+
+        @Test
+        @DisplayName("Should hit the repository only once for repeated lookups of the same user")
+        void testLoadUserByUsername_RepeatedLookups_ServedFromCache() {
+                // Act
+                CustomUserDetails first = (CustomUserDetails) userDetailsService.loadUserByUsername(user.getUsername());
+                CustomUserDetails second = (CustomUserDetails) userDetailsService.loadUserByUsername(user.getUsername());
+
+                // Assert
+                assertSame(first, second);
+                verify(userRepository, times(1)).findByUsername(user.getUsername());
+        }
+
+        @Test
+        @DisplayName("Should reload the principal after the user's role changes")
+        void testLoadUserByUsername_RoleChanged_ReloadsPrincipal() {
+                // Arrange
+                userDetailsService.loadUserByUsername(user.getUsername());
+                user.setRole(Role.EMPLOYEE);
+                userRepository.save(user);
+
+                // Act
+                CustomUserDetails reloaded = (CustomUserDetails) userDetailsService.loadUserByUsername(user.getUsername());
+
+                // Assert
+                assertEquals(Role.EMPLOYEE, reloaded.getRole());
+                verify(userRepository, times(2)).findByUsername(user.getUsername());
+        }
+}
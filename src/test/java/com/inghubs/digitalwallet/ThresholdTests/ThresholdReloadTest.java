@@ -0,0 +1,100 @@
+package com.inghubs.digitalwallet.ThresholdTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.inghubs.digitalwallet.dtos.requests.DepositWalletRequest;
+import com.inghubs.digitalwallet.dtos.responses.ReloadThresholdsResponse;
+import com.inghubs.digitalwallet.entities.*;
+import com.inghubs.digitalwallet.repositories.*;
+import com.inghubs.digitalwallet.services.*;
+import com.inghubs.digitalwallet.utilities.enums.*;
+import com.inghubs.digitalwallet.utilities.security.CustomUserDetails;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:thresholds;DB_CLOSE_DELAY=-1")
+@DisplayName("Threshold Reload Tests")
+class ThresholdReloadTest {
+
+        private static final UUID SEEDED_CUSTOMER_ID = UUID.fromString("9ff06c7d-0790-4de5-b5a5-f0584aa4255f");
+
+        @Autowired
+        private ThresholdService thresholdService;
+
+        @Autowired
+        private WalletService walletService;
+
+        @Autowired
+        private ThresholdPolicyRepository thresholdPolicyRepository;
+
+        @Autowired
+        private CustomerRepository customerRepository;
+
+        @Autowired
+        private WalletRepository walletRepository;
+
+        @Test
+        @DisplayName("Should apply a new tier policy only after the snapshot is reloaded")
+        void testReloadThresholds_PremiumPolicy_RaisesLimitAfterReload() {
+                // Arrange
+                Customer customer = customerRepository.findById(SEEDED_CUSTOMER_ID).orElseThrow();
+                customer.setTier(CustomerTier.PREMIUM);
+                customerRepository.save(customer);
+                thresholdPolicyRepository.save(ThresholdPolicy.builder()
+                                .currency(Currency.TRY)
+                                .customerTier(CustomerTier.PREMIUM)
+                                .amountLimit(1_000_000L)
+                                .build());
+
+                UUID walletId = walletRepository.save(Wallet.builder()
+                                .customer(customer)
+                                .walletName("Premium Wallet")
+                                .currency(Currency.TRY)
+                                .isActiveShopping(true)
+                                .isActiveWithdraw(true)
+                                .build()).getId();
+                DepositWalletRequest deposit = DepositWalletRequest.builder()
+                                .walletId(walletId)
+                                .amount(500_000L)
+                                .source("Salary")
+                                .oppositePartyType(OppositePartyType.IBAN)
+                                .build();
+                CustomUserDetails employee = CustomUserDetails.builder()
+                                .id(UUID.randomUUID())
+                                .customerId(UUID.randomUUID())
+                                .username("admin")
+                                .role(Role.EMPLOYEE)
+                                .build();
+
+                // Act
+                boolean pendingBeforeReload = walletService.DepositWallet(deposit).getIsPendingTransaction();
+                ReloadThresholdsResponse response = thresholdService.ReloadThresholds(employee);
+                boolean pendingAfterReload = walletService.DepositWallet(deposit).getIsPendingTransaction();
+
+                // Assert
+                assertTrue(pendingBeforeReload);
+                assertFalse(pendingAfterReload);
+                assertEquals(4, response.getPolicyCount());
+                assertEquals(1, response.getTierAssignmentCount());
+        }
+
+        @Test
+        @DisplayName("Should reject threshold reloads from customers")
+        void testReloadThresholds_NotEmployee_ThrowsSecurityException() {
+                // Arrange
+                CustomUserDetails customer = CustomUserDetails.builder()
+                                .id(UUID.randomUUID())
+                                .customerId(SEEDED_CUSTOMER_ID)
+                                .username("Customer1User")
+                                .role(Role.CUSTOMER)
+                                .build();
+
+                // Act & Assert
+                assertThrows(SecurityException.class, () -> thresholdService.ReloadThresholds(customer));
+        }
+}
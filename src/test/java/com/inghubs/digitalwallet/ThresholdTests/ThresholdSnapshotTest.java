@@ -0,0 +1,67 @@
+package com.inghubs.digitalwallet.ThresholdTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.inghubs.digitalwallet.entities.ThresholdPolicy;
+import com.inghubs.digitalwallet.utilities.constants.WalletConstants;
+import com.inghubs.digitalwallet.utilities.enums.*;
+import com.inghubs.digitalwallet.utilities.thresholds.ThresholdSnapshot;
+
+@DisplayName("Threshold Snapshot Tests")
+class ThresholdSnapshotTest {
+
+        private static final UUID STANDARD_CUSTOMER_ID = UUID.randomUUID();
+        private static final UUID PREMIUM_CUSTOMER_ID = UUID.randomUUID();
+
+        @Test
+        @DisplayName("Should fall back to AMOUNT_LIMIT_MAJOR_UNITS in the wallet currency when no policy matches")
+        void testAmountLimit_NoPolicies_FallsBackToAmountLimit() {
+                // Arrange
+                ThresholdSnapshot snapshot = ThresholdSnapshot.defaults();
+
+                // Act
+                long limit = snapshot.amountLimit(STANDARD_CUSTOMER_ID, Currency.USD, OppositePartyType.IBAN);
+
+                // Assert
+                assertEquals(Currency.USD.toMinorUnits(WalletConstants.AMOUNT_LIMIT_MAJOR_UNITS), limit);
+        }
+
+        @Test
+        @DisplayName("Should pick the most specific matching policy and the stricter of equally specific ones")
+        void testAmountLimit_OverlappingPolicies_MostSpecificWins() {
+                // Arrange
+                ThresholdSnapshot snapshot = ThresholdSnapshot.of(List.of(
+                                this.policy(Currency.TRY, null, null, 200_000L),
+                                this.policy(Currency.TRY, CustomerTier.PREMIUM, null, 1_000_000L),
+                                this.policy(Currency.TRY, CustomerTier.PREMIUM, OppositePartyType.PAYMENT, 300_000L),
+                                this.policy(null, null, OppositePartyType.PAYMENT, 50_000L),
+                                this.policy(null, null, OppositePartyType.PAYMENT, 40_000L)),
+                                Map.of(PREMIUM_CUSTOMER_ID, CustomerTier.PREMIUM));
+
+                // Act & Assert
+                assertEquals(200_000L, snapshot.amountLimit(STANDARD_CUSTOMER_ID, Currency.TRY, OppositePartyType.IBAN));
+                assertEquals(1_000_000L, snapshot.amountLimit(PREMIUM_CUSTOMER_ID, Currency.TRY, OppositePartyType.IBAN));
+                assertEquals(300_000L, snapshot.amountLimit(PREMIUM_CUSTOMER_ID, Currency.TRY, OppositePartyType.PAYMENT));
+                assertEquals(40_000L, snapshot.amountLimit(STANDARD_CUSTOMER_ID, Currency.EUR, OppositePartyType.PAYMENT));
+                assertEquals(200_000L, snapshot.amountLimit(STANDARD_CUSTOMER_ID, Currency.TRY, null));
+                assertEquals(Currency.EUR.toMinorUnits(WalletConstants.AMOUNT_LIMIT_MAJOR_UNITS),
+                                snapshot.amountLimit(PREMIUM_CUSTOMER_ID, Currency.EUR, OppositePartyType.IBAN));
+        }
+
+        private ThresholdPolicy policy(Currency currency, CustomerTier tier, OppositePartyType partyType, long limit) {
+                return ThresholdPolicy.builder()
+                                .id(UUID.randomUUID())
+                                .currency(currency)
+                                .customerTier(tier)
+                                .oppositePartyType(partyType)
+                                .amountLimit(limit)
+                                .build();
+        }
+}
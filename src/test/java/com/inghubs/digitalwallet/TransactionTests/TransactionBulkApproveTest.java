@@ -0,0 +1,216 @@
+package com.inghubs.digitalwallet.TransactionTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.inghubs.digitalwallet.dtos.requests.*;
+import com.inghubs.digitalwallet.dtos.responses.*;
+import com.inghubs.digitalwallet.entities.*;
+import com.inghubs.digitalwallet.repositories.*;
+import com.inghubs.digitalwallet.services.TransactionService;
+import com.inghubs.digitalwallet.utilities.enums.*;
+import com.inghubs.digitalwallet.utilities.security.CustomUserDetails;
+
+@SpringBootTest
+@DisplayName("Transaction Bulk Approval Tests")
+class TransactionBulkApproveTest {
+
+        private static final UUID SEEDED_CUSTOMER_ID = UUID.fromString("9ff06c7d-0790-4de5-b5a5-f0584aa4255f");
+
+        @Autowired
+        private TransactionService transactionService;
+
+        @Autowired
+        private TransactionRepository transactionRepository;
+
+        @Autowired
+        private WalletRepository walletRepository;
+
+        @Autowired
+        private CustomerRepository customerRepository;
+
+        private Wallet depositWallet;
+        private Wallet withdrawWallet;
+        private CustomUserDetails employee;
+
+        @BeforeEach
+        void setUp() {
+                Customer customer = customerRepository.findById(SEEDED_CUSTOMER_ID).orElseThrow();
+
+                // Ten pending deposits of 200,000 on top of a settled 50,000.
+                depositWallet = walletRepository.save(Wallet.builder()
+                                .customer(customer)
+                                .walletName("Bulk Deposit Wallet")
+                                .currency(Currency.TRY)
+                                .isActiveShopping(true)
+                                .isActiveWithdraw(true)
+                                .balance(2_050_000L)
+                                .usableBalance(50_000L)
+                                .pendingDelta(2_000_000L)
+                                .build());
+
+                // Five pending withdrawals of 200,000 from a settled 1,500,000.
+                withdrawWallet = walletRepository.save(Wallet.builder()
+                                .customer(customer)
+                                .walletName("Bulk Withdraw Wallet")
+                                .currency(Currency.TRY)
+                                .isActiveShopping(true)
+                                .isActiveWithdraw(true)
+                                .balance(500_000L)
+                                .usableBalance(1_500_000L)
+                                .pendingDelta(-1_000_000L)
+                                .build());
+
+                employee = CustomUserDetails.builder()
+                                .id(UUID.randomUUID())
+                                .customerId(UUID.randomUUID())
+                                .username("approver")
+                                .role(Role.EMPLOYEE)
+                                .build();
+        }
+
+        @Test
+        @DisplayName("Should approve pending transactions across wallets and report rejected items")
+        void testBulkApproveTransactions_Approved_SettlesEveryWallet() {
+                // Arrange
+                List<UUID> deposits = this.savePending(depositWallet, TransactionType.DEPOSIT, 10);
+                List<UUID> withdrawals = this.savePending(withdrawWallet, TransactionType.WITHDRAW, 5);
+
+                List<UUID> transactionIds = new ArrayList<>(deposits);
+                transactionIds.addAll(withdrawals);
+                transactionIds.add(deposits.getFirst());
+                transactionIds.add(UUID.randomUUID());
+
+                // Act
+                BulkApproveTransactionResponse response = transactionService.BulkApproveTransactions(
+                                BulkApproveTransactionRequest.builder()
+                                                .transactionIds(transactionIds)
+                                                .status(TransactionStatus.APPROVED)
+                                                .build(),
+                                employee);
+
+                // Assert
+                assertEquals(15, response.getAppliedCount());
+                assertEquals(2, response.getRejectedCount());
+                assertEquals(TransactionStatus.APPROVED, response.getResults().getFirst().getStatus());
+                assertEquals(depositWallet.getId(), response.getResults().getFirst().getWalletId());
+                assertEquals("Duplicate transaction ID.", response.getResults().get(15).getError());
+                assertEquals("Transaction not found.", response.getResults().get(16).getError());
+
+                Wallet settledDepositWallet = walletRepository.findById(depositWallet.getId()).orElseThrow();
+                assertEquals(2_050_000L, settledDepositWallet.getUsableBalance());
+                assertEquals(0L, settledDepositWallet.getPendingDelta());
+                assertEquals(2_050_000L, settledDepositWallet.getBalance());
+
+                Wallet settledWithdrawWallet = walletRepository.findById(withdrawWallet.getId()).orElseThrow();
+                assertEquals(500_000L, settledWithdrawWallet.getUsableBalance());
+                assertEquals(0L, settledWithdrawWallet.getPendingDelta());
+                assertEquals(500_000L, settledWithdrawWallet.getBalance());
+
+                transactionRepository.findAllById(transactionIds).forEach(
+                                transaction -> assertEquals(TransactionStatus.APPROVED, transaction.getStatus()));
+        }
+
+        @Test
+        @DisplayName("Should deny pending withdrawals and reject transactions that are no longer pending")
+        void testBulkApproveTransactions_Denied_RevertsPendingAndRejectsResolved() {
+                // Arrange
+                List<UUID> withdrawals = this.savePending(withdrawWallet, TransactionType.WITHDRAW, 5);
+                transactionService.BulkApproveTransactions(BulkApproveTransactionRequest.builder()
+                                .transactionIds(List.of(withdrawals.getFirst()))
+                                .status(TransactionStatus.APPROVED)
+                                .build(), employee);
+
+                // Act
+                BulkApproveTransactionResponse response = transactionService.BulkApproveTransactions(
+                                BulkApproveTransactionRequest.builder()
+                                                .transactionIds(withdrawals)
+                                                .status(TransactionStatus.DENIED)
+                                                .build(),
+                                employee);
+
+                // Assert
+                assertEquals(4, response.getAppliedCount());
+                assertEquals(1, response.getRejectedCount());
+                assertEquals("Only PENDING transactions can be approved or denied.",
+                                response.getResults().getFirst().getError());
+
+                Wallet wallet = walletRepository.findById(withdrawWallet.getId()).orElseThrow();
+                assertEquals(1_300_000L, wallet.getUsableBalance());
+                assertEquals(0L, wallet.getPendingDelta());
+                assertEquals(1_300_000L, wallet.getBalance());
+        }
+
+        @Test
+        @DisplayName("Should page through the pending queue oldest first")
+        void testListPendingTransactions_WalksQueueOldestFirst() {
+                // Arrange
+                List<UUID> deposits = this.savePending(depositWallet, TransactionType.DEPOSIT, 10);
+
+                // Act
+                List<UUID> queued = new ArrayList<>();
+                String cursor = null;
+                int pages = 0;
+                do {
+                        ListTransactionsResponse page = transactionService.ListPendingTransactions(
+                                        ListPendingTransactionsRequest.builder().cursor(cursor).limit(3).build(),
+                                        employee);
+                        page.getTransactions().forEach(transaction -> {
+                                assertEquals(TransactionStatus.PENDING, transaction.getStatus());
+                                queued.add(transaction.getId());
+                        });
+                        cursor = page.getNextCursor();
+                        pages++;
+                } while (cursor != null);
+
+                // Assert
+                assertTrue(pages >= 4);
+                assertEquals(deposits, queued.stream().filter(deposits::contains).toList());
+        }
+
+        @Test
+        @DisplayName("Should reject bulk approvals from customers")
+        void testBulkApproveTransactions_NotEmployee_ThrowsSecurityException() {
+                // Arrange
+                CustomUserDetails customer = CustomUserDetails.builder()
+                                .id(UUID.randomUUID())
+                                .customerId(SEEDED_CUSTOMER_ID)
+                                .username("Customer1User")
+                                .role(Role.CUSTOMER)
+                                .build();
+
+                // Act & Assert
+                assertThrows(SecurityException.class, () -> transactionService.BulkApproveTransactions(
+                                BulkApproveTransactionRequest.builder()
+                                                .transactionIds(List.of(UUID.randomUUID()))
+                                                .status(TransactionStatus.APPROVED)
+                                                .build(),
+                                customer));
+        }
+
+        private List<UUID> savePending(Wallet wallet, TransactionType type, int count) {
+                List<Transaction> transactions = new ArrayList<>();
+                for (int i = 0; i < count; i++) {
+                        transactions.add(Transaction.builder()
+                                        .wallet(wallet)
+                                        .amount(200_000L)
+                                        .type(type)
+                                        .status(TransactionStatus.PENDING)
+                                        .oppositeParty("Bulk")
+                                        .oppositePartyType(OppositePartyType.IBAN)
+                                        .build());
+                }
+                List<UUID> ids = new ArrayList<>();
+                transactionRepository.saveAll(transactions).forEach(transaction -> ids.add(transaction.getId()));
+                return ids;
+        }
+}
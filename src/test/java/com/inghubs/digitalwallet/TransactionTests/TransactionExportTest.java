@@ -0,0 +1,110 @@
+package com.inghubs.digitalwallet.TransactionTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.inghubs.digitalwallet.services.TransactionService;
+import com.inghubs.digitalwallet.utilities.enums.Role;
+import com.inghubs.digitalwallet.utilities.security.CustomUserDetails;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Runs in the low-memory surefire execution (-Xmx128m). The generated dataset
+ * is far larger than the heap could hold as entities, so the export only
+ * passes if rows are streamed rather than materialized. The database lives on
+ * disk so the table itself does not count against the heap. Lazy query
+ * execution is left off: a lazy cursor pins an old MVStore version for the
+ * whole export while the scheduled jobs keep committing, and H2 can drop the
+ * chunks it still reads. H2 spills a large result to a temp file instead.
+ */
+@Tag("low-memory")
+@SpringBootTest(properties = {
+                "spring.datasource.url=jdbc:h2:file:./target/export-test/digitalwalletdb",
+                "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@DisplayName("Transaction Export Tests")
+class TransactionExportTest {
+
+        private static final String SEEDED_WALLET_ID = "8d79b020-1d69-481a-8ffe-3895f67a2d54";
+        private static final int GENERATED_TRANSACTIONS = 1_000_000;
+        private static final int INSERT_BATCH_SIZE = 100_000;
+
+        @Autowired
+        private TransactionService transactionService;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Autowired
+        private JsonMapper jsonMapper;
+
+        @BeforeEach
+        void setUp() {
+                jdbcTemplate.update("DELETE FROM transaction");
+                // Inserted in batches so no single transaction has to hold a million undo entries.
+                for (int from = 1; from <= GENERATED_TRANSACTIONS; from += INSERT_BATCH_SIZE) {
+                        jdbcTemplate.update("""
+                                        INSERT INTO transaction (id, wallet_id, amount, type, opposite_party_type,
+                                                opposite_party, status, created_at)
+                                        SELECT RANDOM_UUID(), ?, X, 'DEPOSIT', 'IBAN', 'Export Source', 'APPROVED',
+                                                DATEADD('MILLISECOND', X, TIMESTAMP WITH TIME ZONE '2026-01-01 00:00:00+00')
+                                        FROM SYSTEM_RANGE(?, ?)
+                                        """, SEEDED_WALLET_ID, from, from + INSERT_BATCH_SIZE - 1);
+                }
+        }
+
+        @Test
+        @DisplayName("Should stream every transaction as NDJSON without materializing the table")
+        void testExportTransactions_LargeDataset_StreamsAllRows() throws Exception {
+                // Arrange
+                CustomUserDetails employee = CustomUserDetails.builder()
+                                .id(UUID.randomUUID())
+                                .username("auditor")
+                                .role(Role.EMPLOYEE)
+                                .build();
+                LineCountingOutputStream output = new LineCountingOutputStream();
+
+                // Act
+                transactionService.ExportTransactions(employee).writeTo(output);
+
+                // Assert
+                assertEquals(GENERATED_TRANSACTIONS, output.lines);
+                JsonNode firstRow = jsonMapper.readTree(output.firstLine.toString());
+                assertEquals(1L, firstRow.get("amount").asLong());
+                assertEquals(SEEDED_WALLET_ID, firstRow.get("walletId").asString());
+                assertEquals("DEPOSIT", firstRow.get("type").asString());
+        }
+
+        /**
+         * Counts lines and keeps only the first one, so the assertion side holds
+         * no more than the export itself.
+         */
+        private static final class LineCountingOutputStream extends OutputStream {
+
+                private final ByteArrayOutputStream firstLine = new ByteArrayOutputStream();
+                private long lines;
+
+                @Override
+                public void write(int b) {
+                        if (lines == 0 && b != '\n') {
+                                firstLine.write(b);
+                        }
+                        if (b == '\n') {
+                                lines++;
+                        }
+                }
+        }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Instant;
 import java.util.UUID;
 import java.util.ArrayList;
 import java.util.List;
@@ -15,15 +16,25 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.inghubs.digitalwallet.dtos.requests.*;
 import com.inghubs.digitalwallet.dtos.responses.*;
 import com.inghubs.digitalwallet.entities.*;
 import com.inghubs.digitalwallet.repositories.*;
 import com.inghubs.digitalwallet.services.*;
+import com.inghubs.digitalwallet.utilities.concurrency.*;
+import com.inghubs.digitalwallet.utilities.constants.WalletConstants;
 import com.inghubs.digitalwallet.utilities.enums.*;
-import com.inghubs.digitalwallet.utilities.exceptions.NotFoundException;
+import com.inghubs.digitalwallet.utilities.exceptions.*;
+import com.inghubs.digitalwallet.utilities.metrics.WalletMetrics;
+import com.inghubs.digitalwallet.utilities.pagination.TransactionCursor;
 import com.inghubs.digitalwallet.utilities.security.CustomUserDetails;
+import com.inghubs.digitalwallet.utilities.velocity.VelocityLimiter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Transaction Service Tests")
@@ -35,6 +46,27 @@ class TransactionServiceTest {
         @Mock
         private WalletRepository walletRepository;
 
+        @Mock
+        private PlatformTransactionManager transactionManager;
+
+        @Mock
+        private OutboxService outboxService;
+
+        @Spy
+        private WalletLocks walletLocks = new WalletLocks(16);
+
+        private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        @Spy
+        private OptimisticRetryPolicy optimisticRetryPolicy = new OptimisticRetryPolicy(meterRegistry, 3, 0, 0);
+
+        @Spy
+        private WalletMetrics walletMetrics = new WalletMetrics(meterRegistry);
+
+        // All windows disabled, so denials never touch velocity counters here.
+        @Spy
+        private VelocityLimiter velocityLimiter = new VelocityLimiter(0, 0, 0, null, null);
+
         @InjectMocks
         private TransactionServiceImpl transactionService;
 
@@ -45,6 +77,7 @@ class TransactionServiceTest {
         private Wallet testWallet;
         private Transaction testTransaction;
         private CustomUserDetails testUserDetails;
+        private ListTransactionsRequest listRequest;
 
         @BeforeEach
         void setUp() {
@@ -64,8 +97,8 @@ class TransactionServiceTest {
                                 .customer(testCustomer)
                                 .walletName("Wallet")
                                 .currency(Currency.TRY)
-                                .balance(5000.0)
-                                .usableBalance(5000.0)
+                                .balance(500_000L)
+                                .usableBalance(500_000L)
                                 .isActiveShopping(true)
                                 .isActiveWithdraw(true)
                                 .build();
@@ -73,7 +106,7 @@ class TransactionServiceTest {
                 testTransaction = Transaction.builder()
                                 .id(transactionId)
                                 .wallet(testWallet)
-                                .amount(500.0)
+                                .amount(50_000L)
                                 .type(TransactionType.DEPOSIT)
                                 .status(TransactionStatus.PENDING)
                                 .oppositeParty("Bank Transfer")
@@ -87,15 +120,16 @@ class TransactionServiceTest {
                                 .password("password")
                                 .role(Role.EMPLOYEE)
                                 .build();
+
+                listRequest = new ListTransactionsRequest();
         }
 
         // ============== CreateTransaction Tests ==============
 
         @Test
-        @DisplayName("Should create transaction successfully when wallet exists")
-        void testCreateTransaction_WalletExists_CreatesTransaction() {
+        @DisplayName("Should create transaction on the caller's wallet without reloading it")
+        void testCreateTransaction_LoadedWallet_CreatesTransaction() {
                 // Arrange
-                when(walletRepository.existsById(walletId)).thenReturn(true);
                 when(transactionRepository.save(testTransaction)).thenReturn(testTransaction);
 
                 // Act
@@ -104,23 +138,13 @@ class TransactionServiceTest {
                 // Assert
                 assertNotNull(result);
                 assertEquals(transactionId, result.getId());
-                assertEquals(500.0, result.getAmount());
-                verify(walletRepository, times(1)).existsById(walletId);
+                assertEquals(50_000L, result.getAmount());
+                verify(walletRepository, never()).existsById(any());
+                verify(walletRepository, never()).findById(any());
+                verify(walletRepository, times(1)).save(testWallet);
                 verify(transactionRepository, times(1)).save(testTransaction);
         }
 
-        @Test
-        @DisplayName("Should return null when wallet does not exist")
-        void testCreateTransaction_WalletNotExists_ReturnsNull() {
-                // Arrange
-                when(walletRepository.existsById(walletId)).thenReturn(false);
-
-                // Act & Assert
-                assertThrows(NotFoundException.class, () -> transactionService.CreateTransaction(testTransaction));
-                verify(walletRepository, times(1)).existsById(walletId);
-                verify(transactionRepository, never()).save(any());
-        }
-
         @Test
         @DisplayName("Should auto-complete approved deposit transaction")
         void testCreateTransaction_ApprovedDeposit_AutoCompletes() {
@@ -128,16 +152,14 @@ class TransactionServiceTest {
                 Transaction approvedDeposit = Transaction.builder()
                                 .id(transactionId)
                                 .wallet(testWallet)
-                                .amount(500.0)
+                                .amount(50_000L)
                                 .type(TransactionType.DEPOSIT)
                                 .status(TransactionStatus.APPROVED)
                                 .oppositeParty("Bank Transfer")
                                 .oppositePartyType(OppositePartyType.IBAN)
                                 .build();
 
-                when(walletRepository.existsById(walletId)).thenReturn(true);
                 when(transactionRepository.save(approvedDeposit)).thenReturn(approvedDeposit);
-                when(walletRepository.findById(walletId)).thenReturn(Optional.of(testWallet));
                 when(walletRepository.save(any(Wallet.class))).thenReturn(testWallet);
 
                 // Act
@@ -146,8 +168,9 @@ class TransactionServiceTest {
                 // Assert
                 assertNotNull(result);
                 assertEquals(TransactionStatus.APPROVED, result.getStatus());
-                verify(walletRepository, atLeast(1)).findById(walletId);
-                verify(walletRepository, atLeast(1)).save(any(Wallet.class));
+                assertEquals(550_000L, testWallet.getUsableBalance());
+                verify(walletRepository, never()).findById(any());
+                verify(walletRepository, times(1)).save(testWallet);
         }
 
         @Test
@@ -157,16 +180,14 @@ class TransactionServiceTest {
                 Transaction approvedWithdraw = Transaction.builder()
                                 .id(transactionId)
                                 .wallet(testWallet)
-                                .amount(300.0)
+                                .amount(30_000L)
                                 .type(TransactionType.WITHDRAW)
                                 .status(TransactionStatus.APPROVED)
                                 .oppositeParty("Account XYZ")
                                 .oppositePartyType(OppositePartyType.IBAN)
                                 .build();
 
-                when(walletRepository.existsById(walletId)).thenReturn(true);
                 when(transactionRepository.save(approvedWithdraw)).thenReturn(approvedWithdraw);
-                when(walletRepository.findById(walletId)).thenReturn(Optional.of(testWallet));
                 when(walletRepository.save(any(Wallet.class))).thenReturn(testWallet);
 
                 // Act
@@ -175,7 +196,56 @@ class TransactionServiceTest {
                 // Assert
                 assertNotNull(result);
                 assertEquals(TransactionStatus.APPROVED, result.getStatus());
-                verify(walletRepository, atLeast(1)).save(any(Wallet.class));
+                assertEquals(470_000L, testWallet.getUsableBalance());
+                verify(walletRepository, times(1)).save(testWallet);
+        }
+
+        @Test
+        @DisplayName("Should count a created transaction only when its unit of work commits")
+        void testCreateTransaction_InsideTransaction_CountsAfterCommit() {
+                // Arrange
+                when(transactionRepository.save(testTransaction)).thenReturn(testTransaction);
+                TransactionSynchronizationManager.initSynchronization();
+
+                try {
+                        // Act
+                        transactionService.CreateTransaction(testTransaction);
+                        double beforeCompletion = this.createdCount();
+                        TransactionSynchronizationManager.getSynchronizations()
+                                        .forEach(TransactionSynchronization::afterCommit);
+
+                        // Assert
+                        assertEquals(0.0, beforeCompletion);
+                        assertEquals(1.0, this.createdCount());
+                } finally {
+                        TransactionSynchronizationManager.clearSynchronization();
+                }
+        }
+
+        @Test
+        @DisplayName("Should not count a created transaction whose unit of work rolls back")
+        void testCreateTransaction_RolledBack_IsNotCounted() {
+                // Arrange
+                when(transactionRepository.save(testTransaction)).thenReturn(testTransaction);
+                TransactionSynchronizationManager.initSynchronization();
+
+                try {
+                        // Act
+                        transactionService.CreateTransaction(testTransaction);
+                        TransactionSynchronizationManager.getSynchronizations()
+                                        .forEach(synchronization -> synchronization
+                                                        .afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+                        // Assert
+                        assertEquals(0.0, this.createdCount());
+                } finally {
+                        TransactionSynchronizationManager.clearSynchronization();
+                }
+        }
+
+        private double createdCount() {
+                return meterRegistry.counter("wallet.transactions.created", "type", "DEPOSIT", "status", "PENDING")
+                                .count();
         }
 
         // ============== ApproveTransaction Tests ==============
@@ -192,7 +262,7 @@ class TransactionServiceTest {
                 Transaction pendingTransaction = Transaction.builder()
                                 .id(transactionId)
                                 .wallet(testWallet)
-                                .amount(500.0)
+                                .amount(50_000L)
                                 .type(TransactionType.DEPOSIT)
                                 .status(TransactionStatus.PENDING)
                                 .oppositeParty("Bank Transfer")
@@ -202,7 +272,7 @@ class TransactionServiceTest {
                 Transaction approvedTransaction = Transaction.builder()
                                 .id(transactionId)
                                 .wallet(testWallet)
-                                .amount(500.0)
+                                .amount(50_000L)
                                 .type(TransactionType.DEPOSIT)
                                 .status(TransactionStatus.APPROVED)
                                 .oppositeParty("Bank Transfer")
@@ -210,6 +280,7 @@ class TransactionServiceTest {
                                 .build();
 
                 when(transactionRepository.findById(transactionId)).thenReturn(Optional.of(pendingTransaction));
+
                 when(walletRepository.findById(walletId)).thenReturn(Optional.of(testWallet));
                 when(walletRepository.save(any(Wallet.class))).thenReturn(testWallet);
                 when(transactionRepository.save(any(Transaction.class))).thenReturn(approvedTransaction);
@@ -221,10 +292,52 @@ class TransactionServiceTest {
                 assertNotNull(response);
                 assertNotNull(response.getTransaction());
                 assertEquals(TransactionStatus.APPROVED, response.getTransaction().getStatus());
-                verify(transactionRepository, times(1)).findById(transactionId);
+                verify(transactionRepository, times(2)).findById(transactionId);
                 verify(transactionRepository, times(1)).save(any(Transaction.class));
         }
 
+        @Test
+        @DisplayName("Should reject approval when the transaction was resolved before the wallet lock was taken")
+        void testApproveTransaction_ResolvedBeforeLock_ThrowsIllegalStateException() {
+                // Arrange
+                ApproveTransactionRequest request = ApproveTransactionRequest.builder()
+                                .transactionId(transactionId)
+                                .status(TransactionStatus.APPROVED)
+                                .build();
+
+                Transaction pendingTransaction = Transaction.builder()
+                                .id(transactionId)
+                                .wallet(testWallet)
+                                .amount(50_000L)
+                                .type(TransactionType.DEPOSIT)
+                                .status(TransactionStatus.PENDING)
+                                .oppositeParty("Bank Transfer")
+                                .oppositePartyType(OppositePartyType.IBAN)
+                                .build();
+
+                Transaction deniedTransaction = Transaction.builder()
+                                .id(transactionId)
+                                .wallet(testWallet)
+                                .amount(50_000L)
+                                .type(TransactionType.DEPOSIT)
+                                .status(TransactionStatus.DENIED)
+                                .oppositeParty("Bank Transfer")
+                                .oppositePartyType(OppositePartyType.IBAN)
+                                .build();
+
+                // The first read passes the status check; the read under the lock sees the concurrent denial.
+                when(transactionRepository.findById(transactionId))
+                                .thenReturn(Optional.of(pendingTransaction))
+                                .thenReturn(Optional.of(deniedTransaction));
+
+                // Act & Assert
+                assertThrows(IllegalStateException.class,
+                                () -> transactionService.ApproveTransaction(request, testUserDetails));
+                verify(transactionRepository, never()).save(any());
+                verify(walletRepository, never()).save(any());
+                assertEquals(TransactionStatus.DENIED, deniedTransaction.getStatus());
+        }
+
         @Test
         @DisplayName("Should deny transaction and update status to DENIED")
         void testApproveTransaction_DenyStatus_UpdatesSuccessfully() {
@@ -237,7 +350,7 @@ class TransactionServiceTest {
                 Transaction pendingTransaction = Transaction.builder()
                                 .id(transactionId)
                                 .wallet(testWallet)
-                                .amount(500.0)
+                                .amount(50_000L)
                                 .type(TransactionType.DEPOSIT)
                                 .status(TransactionStatus.PENDING)
                                 .oppositeParty("Bank Transfer")
@@ -247,7 +360,7 @@ class TransactionServiceTest {
                 Transaction deniedTransaction = Transaction.builder()
                                 .id(transactionId)
                                 .wallet(testWallet)
-                                .amount(500.0)
+                                .amount(50_000L)
                                 .type(TransactionType.DEPOSIT)
                                 .status(TransactionStatus.DENIED)
                                 .oppositeParty("Bank Transfer")
@@ -255,6 +368,7 @@ class TransactionServiceTest {
                                 .build();
 
                 when(transactionRepository.findById(transactionId)).thenReturn(Optional.of(pendingTransaction));
+
                 when(walletRepository.findById(walletId)).thenReturn(Optional.of(testWallet));
                 when(walletRepository.save(any(Wallet.class))).thenReturn(testWallet);
                 when(transactionRepository.save(any(Transaction.class))).thenReturn(deniedTransaction);
@@ -298,7 +412,7 @@ class TransactionServiceTest {
                 Transaction pendingDeposit = Transaction.builder()
                                 .id(transactionId)
                                 .wallet(testWallet)
-                                .amount(1000.0)
+                                .amount(100_000L)
                                 .type(TransactionType.DEPOSIT)
                                 .status(TransactionStatus.PENDING)
                                 .oppositeParty("Bank Transfer")
@@ -310,8 +424,8 @@ class TransactionServiceTest {
                                 .customer(testCustomer)
                                 .walletName("Main Wallet")
                                 .currency(Currency.TRY)
-                                .balance(5000.0)
-                                .usableBalance(5000.0)
+                                .balance(500_000L)
+                                .usableBalance(500_000L)
                                 .isActiveShopping(true)
                                 .isActiveWithdraw(true)
                                 .build();
@@ -319,7 +433,7 @@ class TransactionServiceTest {
                 Transaction approvedDeposit = Transaction.builder()
                                 .id(transactionId)
                                 .wallet(testWallet)
-                                .amount(1000.0)
+                                .amount(100_000L)
                                 .type(TransactionType.DEPOSIT)
                                 .status(TransactionStatus.APPROVED)
                                 .oppositeParty("Bank Transfer")
@@ -327,6 +441,7 @@ class TransactionServiceTest {
                                 .build();
 
                 when(transactionRepository.findById(transactionId)).thenReturn(Optional.of(pendingDeposit));
+
                 when(walletRepository.findById(walletId)).thenReturn(Optional.of(walletBeforeApproval));
                 when(walletRepository.save(any(Wallet.class))).thenReturn(walletBeforeApproval);
                 when(transactionRepository.save(any(Transaction.class))).thenReturn(approvedDeposit);
@@ -353,7 +468,7 @@ class TransactionServiceTest {
                 Transaction pendingDeposit = Transaction.builder()
                                 .id(transactionId)
                                 .wallet(testWallet)
-                                .amount(500.0)
+                                .amount(50_000L)
                                 .type(TransactionType.DEPOSIT)
                                 .status(TransactionStatus.PENDING)
                                 .oppositeParty("Bank Transfer")
@@ -363,7 +478,7 @@ class TransactionServiceTest {
                 Transaction deniedDeposit = Transaction.builder()
                                 .id(transactionId)
                                 .wallet(testWallet)
-                                .amount(500.0)
+                                .amount(50_000L)
                                 .type(TransactionType.DEPOSIT)
                                 .status(TransactionStatus.DENIED)
                                 .oppositeParty("Bank Transfer")
@@ -371,6 +486,7 @@ class TransactionServiceTest {
                                 .build();
 
                 when(transactionRepository.findById(transactionId)).thenReturn(Optional.of(pendingDeposit));
+
                 when(walletRepository.findById(walletId)).thenReturn(Optional.of(testWallet));
                 when(walletRepository.save(any(Wallet.class))).thenReturn(testWallet);
                 when(transactionRepository.save(any(Transaction.class))).thenReturn(deniedDeposit);
@@ -396,7 +512,7 @@ class TransactionServiceTest {
                 Transaction pendingWithdraw = Transaction.builder()
                                 .id(transactionId)
                                 .wallet(testWallet)
-                                .amount(800.0)
+                                .amount(80_000L)
                                 .type(TransactionType.WITHDRAW)
                                 .status(TransactionStatus.PENDING)
                                 .oppositeParty("Account XYZ")
@@ -406,7 +522,7 @@ class TransactionServiceTest {
                 Transaction deniedWithdraw = Transaction.builder()
                                 .id(transactionId)
                                 .wallet(testWallet)
-                                .amount(800.0)
+                                .amount(80_000L)
                                 .type(TransactionType.WITHDRAW)
                                 .status(TransactionStatus.DENIED)
                                 .oppositeParty("Account XYZ")
@@ -414,6 +530,7 @@ class TransactionServiceTest {
                                 .build();
 
                 when(transactionRepository.findById(transactionId)).thenReturn(Optional.of(pendingWithdraw));
+
                 when(walletRepository.findById(walletId)).thenReturn(Optional.of(testWallet));
                 when(walletRepository.save(any(Wallet.class))).thenReturn(testWallet);
                 when(transactionRepository.save(any(Transaction.class))).thenReturn(deniedWithdraw);
@@ -426,6 +543,33 @@ class TransactionServiceTest {
                 assertEquals(TransactionStatus.DENIED, response.getTransaction().getStatus());
         }
 
+        @Test
+        @DisplayName("Should report every item of a failing bulk approval chunk instead of throwing")
+        void testBulkApproveTransactions_ChunkFails_ReportsItemsAsFailed() {
+                // Arrange
+                TransactionRepository.TransactionWalletView view = mock(TransactionRepository.TransactionWalletView.class);
+                when(view.getId()).thenReturn(transactionId);
+                when(view.getWalletId()).thenReturn(walletId);
+                when(transactionRepository.findWalletIdsByIdIn(anyCollection())).thenReturn(List.of(view));
+                when(walletRepository.findAllById(anyCollection())).thenThrow(new IllegalStateException("Connection lost"));
+
+                BulkApproveTransactionRequest request = BulkApproveTransactionRequest.builder()
+                                .transactionIds(List.of(transactionId))
+                                .status(TransactionStatus.APPROVED)
+                                .build();
+
+                // Act
+                BulkApproveTransactionResponse response = transactionService.BulkApproveTransactions(request,
+                                testUserDetails);
+
+                // Assert
+                assertEquals(0, response.getAppliedCount());
+                assertEquals(1, response.getRejectedCount());
+                assertNull(response.getResults().getFirst().getStatus());
+                assertEquals("Transaction could not be resolved; retry this transaction.",
+                                response.getResults().getFirst().getError());
+        }
+
         // ============== ListTransactions Tests ==============
 
         @Test
@@ -438,7 +582,7 @@ class TransactionServiceTest {
                 Transaction transaction2 = Transaction.builder()
                                 .id(UUID.randomUUID())
                                 .wallet(testWallet)
-                                .amount(300.0)
+                                .amount(30_000L)
                                 .type(TransactionType.WITHDRAW)
                                 .status(TransactionStatus.APPROVED)
                                 .oppositeParty("Account ABC")
@@ -449,18 +593,18 @@ class TransactionServiceTest {
                 when(walletRepository.existsById(walletId)).thenReturn(true);
                 when(walletRepository.findByCustomerId(testUserDetails.getCustomerId()))
                                 .thenReturn(List.of(testWallet));
-                when(transactionRepository.findByWalletId(walletId)).thenReturn(transactionList);
+                when(transactionRepository.findPage(walletId, listRequest, null, WalletConstants.DEFAULT_PAGE_SIZE + 1)).thenReturn(transactionList);
 
                 // Act
-                ListTransactionsResponse response = transactionService.ListTransactions(walletId, testUserDetails);
+                ListTransactionsResponse response = transactionService.ListTransactions(walletId, listRequest, testUserDetails);
 
                 // Assert
                 assertNotNull(response);
                 assertEquals(2, response.getTransactions().size());
-                assertEquals(500.0, response.getTransactions().get(0).getAmount());
-                assertEquals(300.0, response.getTransactions().get(1).getAmount());
+                assertEquals(50_000L, response.getTransactions().get(0).getAmount());
+                assertEquals(30_000L, response.getTransactions().get(1).getAmount());
                 verify(walletRepository, times(1)).existsById(walletId);
-                verify(transactionRepository, times(1)).findByWalletId(walletId);
+                verify(transactionRepository, times(1)).findPage(walletId, listRequest, null, WalletConstants.DEFAULT_PAGE_SIZE + 1);
         }
 
         @Test
@@ -470,15 +614,15 @@ class TransactionServiceTest {
                 when(walletRepository.existsById(walletId)).thenReturn(true);
                 when(walletRepository.findByCustomerId(testUserDetails.getCustomerId()))
                                 .thenReturn(List.of(testWallet));
-                when(transactionRepository.findByWalletId(walletId)).thenReturn(new ArrayList<>());
+                when(transactionRepository.findPage(walletId, listRequest, null, WalletConstants.DEFAULT_PAGE_SIZE + 1)).thenReturn(new ArrayList<>());
 
                 // Act
-                ListTransactionsResponse response = transactionService.ListTransactions(walletId, testUserDetails);
+                ListTransactionsResponse response = transactionService.ListTransactions(walletId, listRequest, testUserDetails);
 
                 // Assert
                 assertNotNull(response);
                 assertEquals(0, response.getTransactions().size());
-                verify(transactionRepository, times(1)).findByWalletId(walletId);
+                verify(transactionRepository, times(1)).findPage(walletId, listRequest, null, WalletConstants.DEFAULT_PAGE_SIZE + 1);
         }
 
         @Test
@@ -489,9 +633,76 @@ class TransactionServiceTest {
 
                 // Act & Assert
                 assertThrows(NotFoundException.class,
-                                () -> transactionService.ListTransactions(walletId, testUserDetails));
+                                () -> transactionService.ListTransactions(walletId, listRequest, testUserDetails));
                 verify(walletRepository, times(1)).existsById(walletId);
-                verify(transactionRepository, never()).findByWalletId(any());
+                verify(transactionRepository, never()).findPage(any(), any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should return next cursor when more transactions than the page limit exist")
+        void testListTransactions_MoreThanLimit_ReturnsPageAndNextCursor() {
+                // Arrange
+                listRequest.setLimit(2);
+                Instant now = Instant.now();
+                List<Transaction> transactionList = new ArrayList<>();
+                for (int i = 0; i < 3; i++) {
+                        transactionList.add(Transaction.builder()
+                                        .id(UUID.randomUUID())
+                                        .wallet(testWallet)
+                                        .amount(10_000L)
+                                        .type(TransactionType.DEPOSIT)
+                                        .status(TransactionStatus.APPROVED)
+                                        .createdAt(now.minusSeconds(i))
+                                        .build());
+                }
+
+                when(walletRepository.existsById(walletId)).thenReturn(true);
+                when(walletRepository.findByCustomerId(testUserDetails.getCustomerId()))
+                                .thenReturn(List.of(testWallet));
+                when(transactionRepository.findPage(walletId, listRequest, null, 3)).thenReturn(transactionList);
+
+                // Act
+                ListTransactionsResponse response = transactionService.ListTransactions(walletId, listRequest,
+                                testUserDetails);
+
+                // Assert
+                assertEquals(2, response.getTransactions().size());
+                assertEquals(TransactionCursor.of(transactionList.get(1)),
+                                TransactionCursor.decode(response.getNextCursor()));
+        }
+
+        @Test
+        @DisplayName("Should pass decoded cursor to the repository and return no cursor on the last page")
+        void testListTransactions_WithCursor_ContinuesAfterCursor() {
+                // Arrange
+                TransactionCursor cursor = new TransactionCursor(Instant.now(), UUID.randomUUID());
+                listRequest.setCursor(cursor.encode());
+
+                when(walletRepository.existsById(walletId)).thenReturn(true);
+                when(walletRepository.findByCustomerId(testUserDetails.getCustomerId()))
+                                .thenReturn(List.of(testWallet));
+                when(transactionRepository.findPage(walletId, listRequest, cursor, WalletConstants.DEFAULT_PAGE_SIZE + 1))
+                                .thenReturn(List.of(testTransaction));
+
+                // Act
+                ListTransactionsResponse response = transactionService.ListTransactions(walletId, listRequest,
+                                testUserDetails);
+
+                // Assert
+                assertEquals(1, response.getTransactions().size());
+                assertNull(response.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("Should throw BadRequestException when cursor is malformed")
+        void testListTransactions_MalformedCursor_ThrowsBadRequestException() {
+                // Arrange
+                listRequest.setCursor("not-a-cursor");
+
+                // Act & Assert
+                assertThrows(BadRequestException.class, () -> transactionService.ListTransactions(listRequest,
+                                testUserDetails));
+                verify(transactionRepository, never()).findPage(any(), any(), any(), anyInt());
         }
 
         // ============== Balance Operation Tests ==============
@@ -500,8 +711,8 @@ class TransactionServiceTest {
         @DisplayName("Should update usable balance for approved deposit")
         void testBalanceUpdate_ApprovedDeposit_UpdatesUsableBalance() {
                 // Arrange
-                double initialBalance = 5000.0;
-                double depositAmount = 500.0;
+                long initialBalance = 500_000L;
+                long depositAmount = 50_000L;
 
                 Wallet wallet = Wallet.builder()
                                 .id(walletId)
@@ -530,6 +741,7 @@ class TransactionServiceTest {
                                 .build();
 
                 when(transactionRepository.findById(transactionId)).thenReturn(Optional.of(pendingDeposit));
+
                 when(walletRepository.findById(walletId)).thenReturn(Optional.of(wallet));
 
                 ArgumentCaptor<Wallet> walletCaptor = ArgumentCaptor.forClass(Wallet.class);
@@ -555,6 +767,73 @@ class TransactionServiceTest {
                 assertEquals(initialBalance + depositAmount, savedWallet.getUsableBalance());
         }
 
+        @Test
+        @DisplayName("Should track pending delta without rescanning pending transactions")
+        void testBalanceUpdate_PendingDeposit_TracksPendingDelta() {
+                // Arrange
+                when(transactionRepository.save(testTransaction)).thenReturn(testTransaction);
+                when(walletRepository.save(any(Wallet.class))).thenReturn(testWallet);
+
+                // Act
+                transactionService.CreateTransaction(testTransaction);
+
+                // Assert
+                assertEquals(50_000L, testWallet.getPendingDelta());
+                assertEquals(500_000L, testWallet.getUsableBalance());
+                assertEquals(550_000L, testWallet.getBalance());
+                verify(transactionRepository, never()).findByWalletIdAndStatus(any(), any());
+                verify(outboxService).RecordTransactionStatusChanged(testTransaction, null);
+                verify(outboxService).RecordBalanceChanged(testTransaction, BalanceOperation.COMPLETE_PENDING_DEPOSIT,
+                                550_000L, 500_000L);
+        }
+
+        @Test
+        @DisplayName("Should settle pending delta when pending withdrawal is approved")
+        void testBalanceUpdate_ApprovedPendingWithdraw_SettlesPendingDelta() {
+                // Arrange
+                Wallet wallet = Wallet.builder()
+                                .id(walletId)
+                                .customer(testCustomer)
+                                .walletName("Main Wallet")
+                                .currency(Currency.TRY)
+                                .balance(380_000L)
+                                .usableBalance(500_000L)
+                                .pendingDelta(-120_000L)
+                                .isActiveShopping(true)
+                                .isActiveWithdraw(true)
+                                .build();
+
+                Transaction pendingWithdraw = Transaction.builder()
+                                .id(transactionId)
+                                .wallet(wallet)
+                                .amount(120_000L)
+                                .type(TransactionType.WITHDRAW)
+                                .status(TransactionStatus.PENDING)
+                                .oppositeParty("Account XYZ")
+                                .oppositePartyType(OppositePartyType.IBAN)
+                                .build();
+
+                ApproveTransactionRequest request = ApproveTransactionRequest.builder()
+                                .transactionId(transactionId)
+                                .status(TransactionStatus.APPROVED)
+                                .build();
+
+                when(transactionRepository.findById(transactionId)).thenReturn(Optional.of(pendingWithdraw));
+
+                when(walletRepository.findById(walletId)).thenReturn(Optional.of(wallet));
+                when(walletRepository.save(any(Wallet.class))).thenReturn(wallet);
+                when(transactionRepository.save(any(Transaction.class))).thenReturn(pendingWithdraw);
+
+                // Act
+                transactionService.ApproveTransaction(request, testUserDetails);
+
+                // Assert
+                assertEquals(0L, wallet.getPendingDelta());
+                assertEquals(380_000L, wallet.getUsableBalance());
+                assertEquals(380_000L, wallet.getBalance());
+                verify(transactionRepository, never()).findByWalletIdAndStatus(any(), any());
+        }
+
         // ============== Security Tests ==============
 
         @Test
@@ -593,7 +872,7 @@ class TransactionServiceTest {
                                 .build();
 
                 // Act & Assert
-                assertThrows(SecurityException.class, () -> transactionService.ListTransactions(nonEmployeeUser));
+                assertThrows(SecurityException.class, () -> transactionService.ListTransactions(listRequest, nonEmployeeUser));
         }
 
         @Test
@@ -616,7 +895,7 @@ class TransactionServiceTest {
 
                 // Act & Assert
                 assertThrows(SecurityException.class,
-                                () -> transactionService.ListTransactions(otherWalletId, nonEmployeeUser));
+                                () -> transactionService.ListTransactions(otherWalletId, listRequest, nonEmployeeUser));
         }
 
         @Test
@@ -629,15 +908,15 @@ class TransactionServiceTest {
                 when(walletRepository.existsById(walletId)).thenReturn(true);
                 when(walletRepository.findByCustomerId(testUserDetails.getCustomerId()))
                                 .thenReturn(List.of(testWallet));
-                when(transactionRepository.findByWalletId(walletId)).thenReturn(transactionList);
+                when(transactionRepository.findPage(walletId, listRequest, null, WalletConstants.DEFAULT_PAGE_SIZE + 1)).thenReturn(transactionList);
 
                 // Act
-                ListTransactionsResponse response = transactionService.ListTransactions(walletId, testUserDetails);
+                ListTransactionsResponse response = transactionService.ListTransactions(walletId, listRequest, testUserDetails);
 
                 // Assert
                 assertNotNull(response);
                 assertEquals(1, response.getTransactions().size());
-                verify(transactionRepository, times(1)).findByWalletId(walletId);
+                verify(transactionRepository, times(1)).findPage(walletId, listRequest, null, WalletConstants.DEFAULT_PAGE_SIZE + 1);
         }
 
         @Test
@@ -652,7 +931,7 @@ class TransactionServiceTest {
                 Transaction pendingTransaction = Transaction.builder()
                                 .id(transactionId)
                                 .wallet(testWallet)
-                                .amount(500.0)
+                                .amount(50_000L)
                                 .type(TransactionType.DEPOSIT)
                                 .status(TransactionStatus.PENDING)
                                 .oppositeParty("Bank Transfer")
@@ -662,7 +941,7 @@ class TransactionServiceTest {
                 Transaction approvedTransaction = Transaction.builder()
                                 .id(transactionId)
                                 .wallet(testWallet)
-                                .amount(500.0)
+                                .amount(50_000L)
                                 .type(TransactionType.DEPOSIT)
                                 .status(TransactionStatus.APPROVED)
                                 .oppositeParty("Bank Transfer")
@@ -670,6 +949,7 @@ class TransactionServiceTest {
                                 .build();
 
                 when(transactionRepository.findById(transactionId)).thenReturn(Optional.of(pendingTransaction));
+
                 when(walletRepository.findById(walletId)).thenReturn(Optional.of(testWallet));
                 when(walletRepository.save(any(Wallet.class))).thenReturn(testWallet);
                 when(transactionRepository.save(any(Transaction.class))).thenReturn(approvedTransaction);
@@ -690,15 +970,16 @@ class TransactionServiceTest {
                 List<Transaction> allTransactions = new ArrayList<>();
                 allTransactions.add(testTransaction);
 
-                when(transactionRepository.findAll()).thenReturn(allTransactions);
+                when(transactionRepository.findPage(null, listRequest, null, WalletConstants.DEFAULT_PAGE_SIZE + 1))
+                                .thenReturn(allTransactions);
 
                 // Act
-                ListTransactionsResponse response = transactionService.ListTransactions(testUserDetails);
+                ListTransactionsResponse response = transactionService.ListTransactions(listRequest, testUserDetails);
 
                 // Assert
                 assertNotNull(response);
                 assertFalse(response.getTransactions().isEmpty());
-                verify(transactionRepository, times(1)).findAll();
+                verify(transactionRepository, times(1)).findPage(null, listRequest, null, WalletConstants.DEFAULT_PAGE_SIZE + 1);
         }
 
         @Test
@@ -709,7 +990,7 @@ class TransactionServiceTest {
 
                 // Act & Assert
                 assertThrows(NotFoundException.class,
-                                () -> transactionService.ListTransactions(walletId, testUserDetails));
-                verify(transactionRepository, never()).findByWalletId(any());
+                                () -> transactionService.ListTransactions(walletId, listRequest, testUserDetails));
+                verify(transactionRepository, never()).findPage(any(), any(), any(), anyInt());
         }
 }
@@ -0,0 +1,97 @@
+package com.inghubs.digitalwallet.VelocityTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.inghubs.digitalwallet.utilities.velocity.SlidingWindowCounter;
+
+@DisplayName("Sliding Window Counter Tests")
+class SlidingWindowCounterTest {
+
+        private static final long START = 1_700_000_000_000L;
+
+        @Test
+        @DisplayName("Should drop amounts once they slide out of the window")
+        void testSum_AmountsAgeOut_OnlyCountsWindow() {
+                // Arrange
+                SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofMinutes(1), 60);
+
+                // Act
+                counter.add(100, START);
+                counter.add(200, START + 30_000);
+                counter.add(400, START + 59_000);
+
+                // Assert
+                assertEquals(700, counter.sum(START + 59_000));
+                assertEquals(600, counter.sum(START + 60_000));
+                assertEquals(400, counter.sum(START + 90_000));
+                assertEquals(0, counter.sum(START + 120_000));
+        }
+
+        @Test
+        @DisplayName("Should recycle a slot when the ring wraps and ignore amounts older than the slot")
+        void testAdd_RingWraps_RecyclesSlot() {
+                // Arrange
+                SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofMinutes(1), 60);
+                counter.add(100, START);
+
+                // Act
+                counter.add(50, START + 60_000);
+                counter.add(25, START);
+
+                // Assert
+                assertEquals(50, counter.sum(START + 60_000));
+        }
+
+        @Test
+        @DisplayName("Should cancel a record with a negative amount at the same timestamp")
+        void testAdd_NegativeAmountSameTime_CancelsRecord() {
+                // Arrange
+                SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofDays(1), 144);
+                counter.add(1_000, START);
+
+                // Act
+                counter.add(-1_000, START);
+
+                // Assert
+                assertEquals(0, counter.sum(START + 3_600_000));
+        }
+
+        @Test
+        @DisplayName("Should not lose concurrent additions")
+        void testAdd_ConcurrentThreads_CountsEveryAddition() throws Exception {
+                // Arrange
+                SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofMinutes(1), 60);
+                int threads = 8;
+                int additions = 10_000;
+                List<Callable<Void>> tasks = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                        tasks.add(() -> {
+                                for (int i = 0; i < additions; i++) {
+                                        counter.add(1, START + (i % 60) * 1_000L);
+                                }
+                                return null;
+                        });
+                }
+
+                // Act
+                try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+                        for (Future<Void> future : executor.invokeAll(tasks)) {
+                                future.get();
+                        }
+                }
+
+                // Assert
+                assertEquals((long) threads * additions, counter.sum(START + 59_000));
+        }
+}
@@ -0,0 +1,94 @@
+package com.inghubs.digitalwallet.VelocityTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.inghubs.digitalwallet.utilities.enums.Currency;
+import com.inghubs.digitalwallet.utilities.velocity.*;
+
+@DisplayName("Velocity Limiter Tests")
+class VelocityLimiterTest {
+
+        @Test
+        @DisplayName("Should reject a withdrawal that exceeds the tightest window and leave it unrecorded")
+        void testTryRecord_OverMinuteLimit_ReturnsWindow() {
+                // Arrange
+                VelocityLimiter limiter = new VelocityLimiter(1_000, 5_000, 0, null, null);
+                UUID walletId = UUID.randomUUID();
+
+                // Act
+                VelocityWindow first = limiter.tryRecord(walletId, Currency.TRY, 60_000L);
+                VelocityWindow second = limiter.tryRecord(walletId, Currency.TRY, 50_000L);
+                VelocityWindow third = limiter.tryRecord(walletId, Currency.TRY, 40_000L);
+
+                // Assert
+                assertNull(first);
+                assertEquals(VelocityWindow.MINUTE, second);
+                assertNull(third);
+                assertNull(limiter.tryRecord(UUID.randomUUID(), Currency.TRY, 100_000L));
+        }
+
+        @Test
+        @DisplayName("Should take a withdrawal back when its transaction rolls back")
+        void testTryRecord_TransactionRolledBack_ReleasesAmount() {
+                // Arrange
+                VelocityLimiter limiter = new VelocityLimiter(1_000, 0, 0, null, null);
+                UUID walletId = UUID.randomUUID();
+
+                // Act
+                TransactionSynchronizationManager.initSynchronization();
+                try {
+                        assertNull(limiter.tryRecord(walletId, Currency.TRY, 100_000L));
+                        TransactionSynchronizationManager.getSynchronizations()
+                                        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+                } finally {
+                        TransactionSynchronizationManager.clearSynchronization();
+                }
+
+                // Assert
+                assertNull(limiter.tryRecord(walletId, Currency.TRY, 100_000L));
+                assertEquals(VelocityWindow.MINUTE, limiter.tryRecord(walletId, Currency.TRY, 1L));
+        }
+
+        @Test
+        @DisplayName("Should take a denied pending withdrawal back once the denial commits")
+        void testRelease_DeniedWithdrawal_FreesWindowAfterCommit() {
+                // Arrange
+                VelocityLimiter limiter = new VelocityLimiter(1_000, 0, 0, null, null);
+                UUID walletId = UUID.randomUUID();
+                assertNull(limiter.tryRecord(walletId, Currency.TRY, 100_000L));
+
+                // Act
+                TransactionSynchronizationManager.initSynchronization();
+                VelocityWindow beforeCommit;
+                try {
+                        limiter.release(walletId, 100_000L, Instant.now());
+                        beforeCommit = limiter.tryRecord(walletId, Currency.TRY, 1L);
+                        TransactionSynchronizationManager.getSynchronizations()
+                                        .forEach(TransactionSynchronization::afterCommit);
+                } finally {
+                        TransactionSynchronizationManager.clearSynchronization();
+                }
+
+                // Assert
+                assertEquals(VelocityWindow.MINUTE, beforeCommit);
+                assertNull(limiter.tryRecord(walletId, Currency.TRY, 100_000L));
+        }
+
+        @Test
+        @DisplayName("Should allow everything when every window is disabled")
+        void testTryRecord_AllWindowsDisabled_AlwaysAllows() {
+                // Arrange
+                VelocityLimiter limiter = new VelocityLimiter(0, 0, 0, null, null);
+
+                // Act & Assert
+                assertNull(limiter.tryRecord(UUID.randomUUID(), Currency.TRY, Long.MAX_VALUE / 2));
+        }
+}
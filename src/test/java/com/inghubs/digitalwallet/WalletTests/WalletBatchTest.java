@@ -0,0 +1,153 @@
+package com.inghubs.digitalwallet.WalletTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.inghubs.digitalwallet.dtos.requests.*;
+import com.inghubs.digitalwallet.dtos.responses.*;
+import com.inghubs.digitalwallet.entities.*;
+import com.inghubs.digitalwallet.repositories.*;
+import com.inghubs.digitalwallet.services.WalletService;
+import com.inghubs.digitalwallet.utilities.constants.WalletConstants;
+import com.inghubs.digitalwallet.utilities.enums.*;
+import com.inghubs.digitalwallet.utilities.exceptions.BadRequestException;
+import com.inghubs.digitalwallet.utilities.security.CustomUserDetails;
+
+@SpringBootTest
+@DisplayName("Wallet Batch Tests")
+class WalletBatchTest {
+
+        private static final UUID SEEDED_CUSTOMER_ID = UUID.fromString("9ff06c7d-0790-4de5-b5a5-f0584aa4255f");
+
+        @Autowired
+        private WalletService walletService;
+
+        @Autowired
+        private WalletRepository walletRepository;
+
+        @Autowired
+        private CustomerRepository customerRepository;
+
+        private UUID payrollWalletId;
+        private UUID lockedWalletId;
+        private CustomUserDetails employee;
+
+        @BeforeEach
+        void setUp() {
+                Customer customer = customerRepository.findById(SEEDED_CUSTOMER_ID).orElseThrow();
+
+                payrollWalletId = walletRepository.save(Wallet.builder()
+                                .customer(customer)
+                                .walletName("Payroll Wallet")
+                                .currency(Currency.TRY)
+                                .isActiveShopping(true)
+                                .isActiveWithdraw(true)
+                                .balance(10_000L)
+                                .usableBalance(10_000L)
+                                .build()).getId();
+
+                lockedWalletId = walletRepository.save(Wallet.builder()
+                                .customer(customer)
+                                .walletName("Locked Wallet")
+                                .currency(Currency.TRY)
+                                .isActiveShopping(true)
+                                .isActiveWithdraw(false)
+                                .build()).getId();
+
+                employee = CustomUserDetails.builder()
+                                .id(UUID.randomUUID())
+                                .customerId(UUID.randomUUID())
+                                .username("payroll")
+                                .role(Role.EMPLOYEE)
+                                .build();
+        }
+
+        @Test
+        @DisplayName("Should apply valid operations in one batch and report rejected ones per item")
+        void testBatchWallet_MixedOperations_AppliesValidAndReportsRejected() {
+                // Arrange
+                List<DepositWalletRequest> deposits = new ArrayList<>();
+                for (int i = 0; i < 100; i++) {
+                        deposits.add(DepositWalletRequest.builder()
+                                        .walletId(payrollWalletId)
+                                        .amount(1_000L)
+                                        .source("Payroll")
+                                        .oppositePartyType(OppositePartyType.IBAN)
+                                        .build());
+                }
+                deposits.add(DepositWalletRequest.builder()
+                                .walletId(UUID.randomUUID())
+                                .amount(1_000L)
+                                .source("Payroll")
+                                .oppositePartyType(OppositePartyType.IBAN)
+                                .build());
+
+                List<WithdrawWalletRequest> withdrawals = List.of(
+                                WithdrawWalletRequest.builder()
+                                                .walletId(payrollWalletId)
+                                                .amount(5_000L)
+                                                .destination("Settlement")
+                                                .oppositePartyType(OppositePartyType.IBAN)
+                                                .build(),
+                                WithdrawWalletRequest.builder()
+                                                .walletId(lockedWalletId)
+                                                .amount(5_000L)
+                                                .destination("Settlement")
+                                                .oppositePartyType(OppositePartyType.IBAN)
+                                                .build());
+
+                // Act
+                BatchWalletResponse response = walletService.BatchWallet(BatchWalletRequest.builder()
+                                .deposits(deposits)
+                                .withdrawals(withdrawals)
+                                .build(), employee);
+
+                // Assert
+                assertEquals(101, response.getAppliedCount());
+                assertEquals(2, response.getRejectedCount());
+                assertEquals("Wallet not found.", response.getDeposits().get(100).getError());
+                assertNotNull(response.getDeposits().get(0).getTransaction().getId());
+                assertNull(response.getWithdrawals().get(0).getError());
+                assertNotNull(response.getWithdrawals().get(1).getError());
+
+                Wallet payrollWallet = walletRepository.findById(payrollWalletId).orElseThrow();
+                assertEquals(10_000L + 100 * 1_000L - 5_000L, payrollWallet.getUsableBalance());
+                assertEquals(payrollWallet.getUsableBalance(), payrollWallet.getBalance());
+                assertEquals(0L, walletRepository.findById(lockedWalletId).orElseThrow().getUsableBalance());
+        }
+
+        @Test
+        @DisplayName("Should reject a batch touching more distinct wallets than the cap without applying any of it")
+        void testBatchWallet_TooManyWallets_ThrowsBadRequestException() {
+                // Arrange
+                List<DepositWalletRequest> deposits = new ArrayList<>();
+                deposits.add(DepositWalletRequest.builder()
+                                .walletId(payrollWalletId)
+                                .amount(1_000L)
+                                .source("Payroll")
+                                .oppositePartyType(OppositePartyType.IBAN)
+                                .build());
+                for (int i = 0; i < WalletConstants.MAX_BATCH_WALLETS; i++) {
+                        deposits.add(DepositWalletRequest.builder()
+                                        .walletId(UUID.randomUUID())
+                                        .amount(1_000L)
+                                        .source("Payroll")
+                                        .oppositePartyType(OppositePartyType.IBAN)
+                                        .build());
+                }
+                BatchWalletRequest request = BatchWalletRequest.builder().deposits(deposits).build();
+
+                // Act & Assert
+                assertThrows(BadRequestException.class, () -> walletService.BatchWallet(request, employee));
+                assertEquals(10_000L, walletRepository.findById(payrollWalletId).orElseThrow().getBalance());
+        }
+}
@@ -0,0 +1,110 @@
+package com.inghubs.digitalwallet.WalletTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.inghubs.digitalwallet.dtos.requests.*;
+import com.inghubs.digitalwallet.entities.*;
+import com.inghubs.digitalwallet.repositories.*;
+import com.inghubs.digitalwallet.services.WalletService;
+import com.inghubs.digitalwallet.utilities.enums.*;
+import com.inghubs.digitalwallet.utilities.security.CustomUserDetails;
+
+@SpringBootTest
+@DisplayName("Wallet Concurrency Tests")
+class WalletConcurrencyTest {
+
+        private static final UUID SEEDED_CUSTOMER_ID = UUID.fromString("9ff06c7d-0790-4de5-b5a5-f0584aa4255f");
+
+        @Autowired
+        private WalletService walletService;
+
+        @Autowired
+        private WalletRepository walletRepository;
+
+        @Autowired
+        private CustomerRepository customerRepository;
+
+        private UUID walletId;
+        private CustomUserDetails employee;
+
+        @BeforeEach
+        void setUp() {
+                Customer customer = customerRepository.findById(SEEDED_CUSTOMER_ID).orElseThrow();
+
+                Wallet wallet = walletRepository.save(Wallet.builder()
+                                .customer(customer)
+                                .walletName("Hot Wallet")
+                                .currency(Currency.TRY)
+                                .isActiveShopping(true)
+                                .isActiveWithdraw(true)
+                                .build());
+                walletId = wallet.getId();
+
+                employee = CustomUserDetails.builder()
+                                .id(UUID.randomUUID())
+                                .customerId(SEEDED_CUSTOMER_ID)
+                                .username("stress")
+                                .role(Role.EMPLOYEE)
+                                .build();
+        }
+
+        @Test
+        @DisplayName("Should not lose balance updates when one wallet is hammered from many virtual threads")
+        void testConcurrentDepositsAndWithdrawals_SameWallet_KeepsBalancesConsistent() throws Exception {
+                // Arrange
+                int deposits = 400;
+                int withdrawals = 200;
+                int pendingDeposits = 20;
+                List<Future<?>> futures = new ArrayList<>();
+
+                // Act
+                try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                        for (int i = 0; i < deposits; i++) {
+                                futures.add(executor.submit(() -> walletService.DepositWallet(DepositWalletRequest.builder()
+                                                .walletId(walletId)
+                                                .amount(1_000L)
+                                                .source("Stress Source")
+                                                .oppositePartyType(OppositePartyType.IBAN)
+                                                .build())));
+                        }
+                        for (int i = 0; i < withdrawals; i++) {
+                                futures.add(executor.submit(() -> walletService.WithdrawWallet(WithdrawWalletRequest.builder()
+                                                .walletId(walletId)
+                                                .amount(400L)
+                                                .destination("Stress Destination")
+                                                .oppositePartyType(OppositePartyType.IBAN)
+                                                .build(), employee)));
+                        }
+                        for (int i = 0; i < pendingDeposits; i++) {
+                                futures.add(executor.submit(() -> walletService.DepositWallet(DepositWalletRequest.builder()
+                                                .walletId(walletId)
+                                                .amount(150_000L)
+                                                .source("Stress Large Source")
+                                                .oppositePartyType(OppositePartyType.IBAN)
+                                                .build())));
+                        }
+                        for (Future<?> future : futures) {
+                                future.get();
+                        }
+                }
+
+                // Assert
+                Wallet wallet = walletRepository.findById(walletId).orElseThrow();
+                assertEquals(deposits * 1_000L - withdrawals * 400L, wallet.getUsableBalance());
+                assertEquals(pendingDeposits * 150_000L, wallet.getPendingDelta());
+                assertEquals(deposits * 1_000L - withdrawals * 400L + pendingDeposits * 150_000L, wallet.getBalance());
+        }
+}
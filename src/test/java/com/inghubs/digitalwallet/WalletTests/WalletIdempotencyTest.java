@@ -0,0 +1,287 @@
+package com.inghubs.digitalwallet.WalletTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.reset;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import com.inghubs.digitalwallet.dtos.requests.*;
+import com.inghubs.digitalwallet.dtos.responses.*;
+import com.inghubs.digitalwallet.entities.*;
+import com.inghubs.digitalwallet.repositories.*;
+import com.inghubs.digitalwallet.services.*;
+import com.inghubs.digitalwallet.utilities.enums.*;
+import com.inghubs.digitalwallet.utilities.exceptions.*;
+import com.inghubs.digitalwallet.utilities.security.CustomUserDetails;
+
+@SpringBootTest
+@DisplayName("Wallet Idempotency Tests")
+class WalletIdempotencyTest {
+
+        private static final UUID SEEDED_CUSTOMER_ID = UUID.fromString("9ff06c7d-0790-4de5-b5a5-f0584aa4255f");
+
+        @Autowired
+        private IdempotencyService idempotencyService;
+
+        @Autowired
+        private WalletService walletService;
+
+        @Autowired
+        private WalletRepository walletRepository;
+
+        @Autowired
+        private CustomerRepository customerRepository;
+
+        @Autowired
+        private TransactionRepository transactionRepository;
+
+        @MockitoSpyBean
+        private IdempotencyRecordRepository idempotencyRecordRepository;
+
+        private UUID walletId;
+        private CustomUserDetails customer;
+
+        @BeforeEach
+        void setUp() {
+                Customer owner = customerRepository.findById(SEEDED_CUSTOMER_ID).orElseThrow();
+
+                walletId = walletRepository.save(Wallet.builder()
+                                .customer(owner)
+                                .walletName("Retry Wallet")
+                                .currency(Currency.TRY)
+                                .isActiveShopping(true)
+                                .isActiveWithdraw(true)
+                                .build()).getId();
+
+                customer = CustomUserDetails.builder()
+                                .id(UUID.randomUUID())
+                                .customerId(SEEDED_CUSTOMER_ID)
+                                .username("retrying-client")
+                                .role(Role.CUSTOMER)
+                                .build();
+        }
+
+        @Test
+        @DisplayName("Should replay the original deposit response for a retried idempotency key")
+        void testDeposit_RetriedIdempotencyKey_AppliesOnce() {
+                // Arrange
+                DepositWalletRequest request = depositRequest(1_000L);
+                String idempotencyKey = UUID.randomUUID().toString();
+                AtomicInteger executions = new AtomicInteger();
+
+                // Act
+                DepositWalletResponse first = idempotencyService.Execute(idempotencyKey, "DEPOSIT", request, customer,
+                                DepositWalletResponse.class, () -> {
+                                        executions.incrementAndGet();
+                                        return walletService.DepositWallet(request);
+                                });
+                DepositWalletResponse replay = idempotencyService.Execute(idempotencyKey, "DEPOSIT", request, customer,
+                                DepositWalletResponse.class, () -> {
+                                        executions.incrementAndGet();
+                                        return walletService.DepositWallet(request);
+                                });
+
+                // Assert
+                assertEquals(1, executions.get());
+                assertEquals(first.getTransaction().getId(), replay.getTransaction().getId());
+                assertEquals(1_000L, replay.getWallet().getBalance());
+                assertEquals(1_000L, walletRepository.findById(walletId).orElseThrow().getBalance());
+        }
+
+        @Test
+        @DisplayName("Should reject an idempotency key reused for a different request")
+        void testDeposit_KeyReusedWithDifferentBody_ThrowsBadRequest() {
+                // Arrange
+                String idempotencyKey = UUID.randomUUID().toString();
+                DepositWalletRequest original = depositRequest(1_000L);
+                idempotencyService.Execute(idempotencyKey, "DEPOSIT", original, customer,
+                                DepositWalletResponse.class, () -> walletService.DepositWallet(original));
+                DepositWalletRequest changed = depositRequest(2_000L);
+
+                // Act & Assert
+                assertThrows(BadRequestException.class,
+                                () -> idempotencyService.Execute(idempotencyKey, "DEPOSIT", changed, customer,
+                                                DepositWalletResponse.class, () -> walletService.DepositWallet(changed)));
+                assertEquals(1_000L, walletRepository.findById(walletId).orElseThrow().getBalance());
+        }
+
+        @Test
+        @DisplayName("Should replay a key of the maximum length")
+        void testDeposit_MaximumLengthKey_Replays() {
+                // Arrange
+                DepositWalletRequest request = depositRequest(1_000L);
+                String idempotencyKey = "k".repeat(IdempotencyServiceImpl.MAX_KEY_LENGTH);
+                DepositWalletResponse first = idempotencyService.Execute(idempotencyKey, "DEPOSIT", request, customer,
+                                DepositWalletResponse.class, () -> walletService.DepositWallet(request));
+
+                // Act
+                DepositWalletResponse replay = idempotencyService.Execute(idempotencyKey, "DEPOSIT", request, customer,
+                                DepositWalletResponse.class, () -> walletService.DepositWallet(request));
+
+                // Assert
+                assertEquals(first.getTransaction().getId(), replay.getTransaction().getId());
+                assertEquals(1_000L, walletRepository.findById(walletId).orElseThrow().getBalance());
+        }
+
+        @Test
+        @DisplayName("Should answer 409 while the same key is still being processed and replay once it completes")
+        void testDeposit_ConcurrentClaim_SecondRequestConflicts() throws Exception {
+                // Arrange
+                DepositWalletRequest request = depositRequest(1_000L);
+                String idempotencyKey = UUID.randomUUID().toString();
+                CountDownLatch claimed = new CountDownLatch(1);
+                CountDownLatch release = new CountDownLatch(1);
+                AtomicInteger executions = new AtomicInteger();
+
+                // Act
+                DepositWalletResponse first;
+                try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                        Future<DepositWalletResponse> inFlight = executor.submit(() -> idempotencyService.Execute(
+                                        idempotencyKey, "DEPOSIT", request, customer, DepositWalletResponse.class, () -> {
+                                                executions.incrementAndGet();
+                                                claimed.countDown();
+                                                awaitQuietly(release);
+                                                return walletService.DepositWallet(request);
+                                        }));
+                        assertTrue(claimed.await(10, TimeUnit.SECONDS));
+
+                        assertThrows(ConflictException.class,
+                                        () -> idempotencyService.Execute(idempotencyKey, "DEPOSIT", request, customer,
+                                                        DepositWalletResponse.class, () -> {
+                                                                executions.incrementAndGet();
+                                                                return walletService.DepositWallet(request);
+                                                        }));
+
+                        release.countDown();
+                        first = inFlight.get(10, TimeUnit.SECONDS);
+                }
+                DepositWalletResponse replay = idempotencyService.Execute(idempotencyKey, "DEPOSIT", request, customer,
+                                DepositWalletResponse.class, () -> walletService.DepositWallet(request));
+
+                // Assert
+                assertEquals(1, executions.get());
+                assertEquals(first.getTransaction().getId(), replay.getTransaction().getId());
+                assertEquals(1_000L, walletRepository.findById(walletId).orElseThrow().getBalance());
+        }
+
+        @Test
+        @DisplayName("Should release the key when the operation fails so a retry runs it again")
+        void testDeposit_ActionFails_ReleasesKey() {
+                // Arrange
+                DepositWalletRequest request = depositRequest(1_000L);
+                String idempotencyKey = UUID.randomUUID().toString();
+                assertThrows(IllegalStateException.class,
+                                () -> idempotencyService.Execute(idempotencyKey, "DEPOSIT", request, customer,
+                                                DepositWalletResponse.class, () -> {
+                                                        throw new IllegalStateException("Downstream failure");
+                                                }));
+
+                // Act
+                DepositWalletResponse retry = idempotencyService.Execute(idempotencyKey, "DEPOSIT", request, customer,
+                                DepositWalletResponse.class, () -> walletService.DepositWallet(request));
+
+                // Assert
+                assertNotNull(retry.getTransaction());
+                assertEquals(1_000L, walletRepository.findById(walletId).orElseThrow().getBalance());
+        }
+
+        @Test
+        @DisplayName("Should roll the operation back when its response cannot be stored so a retry runs it once")
+        void testDeposit_ResponseSaveFails_RollsBackAndReleasesKey() {
+                // Arrange
+                DepositWalletRequest request = depositRequest(1_000L);
+                String idempotencyKey = UUID.randomUUID().toString();
+                AtomicInteger executions = new AtomicInteger();
+                doThrow(new DataAccessResourceFailureException("Response store unavailable"))
+                                .when(idempotencyRecordRepository).complete(any(), any(), any());
+
+                // Act
+                assertThrows(DataAccessResourceFailureException.class,
+                                () -> idempotencyService.Execute(idempotencyKey, "DEPOSIT", request, customer,
+                                                DepositWalletResponse.class, () -> {
+                                                        executions.incrementAndGet();
+                                                        return walletService.DepositWallet(request);
+                                                }));
+                long balanceAfterFailure = walletRepository.findById(walletId).orElseThrow().getBalance();
+                reset(idempotencyRecordRepository);
+                DepositWalletResponse retry = idempotencyService.Execute(idempotencyKey, "DEPOSIT", request, customer,
+                                DepositWalletResponse.class, () -> {
+                                        executions.incrementAndGet();
+                                        return walletService.DepositWallet(request);
+                                });
+                DepositWalletResponse replay = idempotencyService.Execute(idempotencyKey, "DEPOSIT", request, customer,
+                                DepositWalletResponse.class, () -> {
+                                        executions.incrementAndGet();
+                                        return walletService.DepositWallet(request);
+                                });
+
+                // Assert
+                assertEquals(0L, balanceAfterFailure);
+                assertEquals(2, executions.get());
+                assertEquals(retry.getTransaction().getId(), replay.getTransaction().getId());
+                assertEquals(1, transactionRepository.findByWalletIdAndStatus(walletId, TransactionStatus.APPROVED).size());
+                assertEquals(1_000L, walletRepository.findById(walletId).orElseThrow().getBalance());
+        }
+
+        @Test
+        @DisplayName("Should take over a claim whose request stopped before committing once its lease has run out")
+        void testDeposit_AbandonedClaim_TakenOverAfterLease() {
+                // Arrange
+                DepositWalletRequest request = depositRequest(1_000L);
+                String idempotencyKey = UUID.randomUUID().toString();
+                Instant claimedAt = Instant.now().minus(Duration.ofHours(1)).truncatedTo(ChronoUnit.MILLIS);
+                idempotencyRecordRepository.save(IdempotencyRecord.builder()
+                                .id(customer.getId() + ":DEPOSIT:" + idempotencyKey)
+                                .requestHash("claim-of-a-stopped-request")
+                                .claimedAt(claimedAt)
+                                .expiresAt(claimedAt.plus(Duration.ofDays(1)))
+                                .build());
+                ((IdempotencyServiceImpl) idempotencyService).rebuildBloomFilter();
+
+                // Act
+                DepositWalletResponse first = idempotencyService.Execute(idempotencyKey, "DEPOSIT", request, customer,
+                                DepositWalletResponse.class, () -> walletService.DepositWallet(request));
+                DepositWalletResponse replay = idempotencyService.Execute(idempotencyKey, "DEPOSIT", request, customer,
+                                DepositWalletResponse.class, () -> walletService.DepositWallet(request));
+
+                // Assert
+                assertEquals(first.getTransaction().getId(), replay.getTransaction().getId());
+                assertEquals(1_000L, walletRepository.findById(walletId).orElseThrow().getBalance());
+        }
+
+        private DepositWalletRequest depositRequest(long amount) {
+                return DepositWalletRequest.builder()
+                                .walletId(walletId)
+                                .amount(amount)
+                                .source("Retry Source")
+                                .oppositePartyType(OppositePartyType.IBAN)
+                                .build();
+        }
+
+        private static void awaitQuietly(CountDownLatch latch) {
+                try {
+                        latch.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                }
+        }
+}
@@ -0,0 +1,78 @@
+package com.inghubs.digitalwallet.WalletTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.inghubs.digitalwallet.utilities.security.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("Wallet Request Body Tests")
+class WalletRequestBodyTest {
+
+        private static final String SEEDED_WALLET_ID = "8d79b020-1d69-481a-8ffe-3895f67a2d54";
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private JwtUtility jwtUtility;
+
+        @Autowired
+        private CustomUserDetailsService userDetailsService;
+
+        private final HttpClient httpClient = HttpClient.newHttpClient();
+
+        private String employeeToken;
+
+        @BeforeEach
+        void setUp() {
+                employeeToken = jwtUtility.generateToken(
+                                (CustomUserDetails) userDetailsService.loadUserByUsername("Employee1User"));
+        }
+
+        @Test
+        @DisplayName("Should reject a fractional amount instead of truncating it")
+        void testDepositWallet_FractionalAmount_ReturnsBadRequest() throws Exception {
+                // Arrange
+                String body = """
+                                {"walletId": "%s", "amount": 10.5, "oppositePartyType": "IBAN", "source": "Bank"}
+                                """.formatted(SEEDED_WALLET_ID);
+
+                // Act
+                HttpResponse<String> response = this.post("/api/wallet/deposit", body);
+
+                // Assert
+                assertEquals(400, response.statusCode());
+                assertEquals("Malformed request body.", response.body());
+        }
+
+        @Test
+        @DisplayName("Should answer malformed JSON with 400 rather than 500")
+        void testDepositWallet_MalformedJson_ReturnsBadRequest() throws Exception {
+                // Act
+                HttpResponse<String> response = this.post("/api/wallet/deposit", "{\"walletId\": ");
+
+                // Assert
+                assertEquals(400, response.statusCode());
+        }
+
+        private HttpResponse<String> post(String path, String body) throws Exception {
+                HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                                .header("Authorization", "Bearer " + employeeToken)
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString(body))
+                                .build();
+                return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        }
+}
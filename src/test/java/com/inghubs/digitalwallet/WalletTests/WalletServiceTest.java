@@ -15,16 +15,23 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.inghubs.digitalwallet.dtos.requests.*;
 import com.inghubs.digitalwallet.dtos.responses.*;
 import com.inghubs.digitalwallet.entities.*;
 import com.inghubs.digitalwallet.repositories.*;
 import com.inghubs.digitalwallet.services.*;
+import com.inghubs.digitalwallet.utilities.concurrency.*;
 import com.inghubs.digitalwallet.utilities.constants.*;
 import com.inghubs.digitalwallet.utilities.enums.*;
 import com.inghubs.digitalwallet.utilities.exceptions.*;
+import com.inghubs.digitalwallet.utilities.metrics.WalletMetrics;
 import com.inghubs.digitalwallet.utilities.security.CustomUserDetails;
+import com.inghubs.digitalwallet.utilities.velocity.VelocityLimiter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Wallet Service Tests")
@@ -39,6 +46,32 @@ class WalletServiceTest {
         @Mock
         private TransactionServiceImpl transactionService;
 
+        @Mock
+        private PlatformTransactionManager transactionManager;
+
+        private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        @Spy
+        private WalletLocks walletLocks = new WalletLocks(16);
+
+        @Spy
+        private OptimisticRetryPolicy optimisticRetryPolicy = new OptimisticRetryPolicy(meterRegistry, 3, 0, 0);
+
+        @Spy
+        private WalletMetrics walletMetrics = new WalletMetrics(meterRegistry);
+
+        // Never reloaded, so it serves the default AMOUNT_LIMIT_MAJOR_UNITS threshold for every currency.
+        @Spy
+        private ThresholdServiceImpl thresholdService = new ThresholdServiceImpl(null, null);
+
+        // All windows disabled, so withdrawals are never limited by velocity here.
+        @Spy
+        private VelocityLimiter velocityLimiter = new VelocityLimiter(0, 0, 0, null, null);
+
+        // No key is claimed on the test thread, so responses pass through without being recorded.
+        @Spy
+        private IdempotencyServiceImpl idempotencyService = new IdempotencyServiceImpl(null, null, null, 1, 1, 1, 0.01);
+
         @InjectMocks
         private WalletServiceImpl walletService;
 
@@ -65,8 +98,8 @@ class WalletServiceTest {
                                 .customer(testCustomer)
                                 .walletName("Wallet")
                                 .currency(Currency.TRY)
-                                .balance(5000.0)
-                                .usableBalance(5000.0)
+                                .balance(500_000L)
+                                .usableBalance(500_000L)
                                 .isActiveShopping(true)
                                 .isActiveWithdraw(true)
                                 .build();
@@ -185,7 +218,7 @@ class WalletServiceTest {
         @DisplayName("Should deposit successfully when amount is below limit")
         void testDepositWallet_AmountBelowLimit_DepositsSuccessfully() {
                 // Arrange
-                double depositAmount = 500.0;
+                long depositAmount = 50_000L;
                 DepositWalletRequest request = DepositWalletRequest.builder()
                                 .walletId(walletId)
                                 .amount(depositAmount)
@@ -205,7 +238,6 @@ class WalletServiceTest {
 
                 when(walletRepository.findById(walletId)).thenReturn(Optional.of(testWallet));
                 when(transactionService.CreateTransaction(any(Transaction.class))).thenReturn(expectedTransaction);
-                when(walletRepository.findById(walletId)).thenReturn(Optional.of(testWallet));
 
                 // Act
                 DepositWalletResponse response = walletService.DepositWallet(request);
@@ -215,7 +247,7 @@ class WalletServiceTest {
                 assertFalse(response.getIsPendingTransaction());
                 assertEquals(TransactionStatus.APPROVED, response.getTransaction().getStatus());
                 assertEquals(depositAmount, response.getTransaction().getAmount());
-                verify(walletRepository, atLeast(2)).findById(walletId);
+                verify(walletRepository, times(1)).findById(walletId);
                 verify(transactionService, times(1)).CreateTransaction(any(Transaction.class));
         }
 
@@ -223,7 +255,7 @@ class WalletServiceTest {
         @DisplayName("Should create pending transaction when amount exceeds limit")
         void testDepositWallet_AmountExceedsLimit_CreatesPendingTransaction() {
                 // Arrange
-                double depositAmount = WalletConstants.AMOUNT_LIMIT + 500.0;
+                long depositAmount = Currency.TRY.toMinorUnits(WalletConstants.AMOUNT_LIMIT_MAJOR_UNITS) + 50_000L;
                 DepositWalletRequest request = DepositWalletRequest.builder()
                                 .walletId(walletId)
                                 .amount(depositAmount)
@@ -243,7 +275,6 @@ class WalletServiceTest {
 
                 when(walletRepository.findById(walletId)).thenReturn(Optional.of(testWallet));
                 when(transactionService.CreateTransaction(any(Transaction.class))).thenReturn(expectedTransaction);
-                when(walletRepository.findById(walletId)).thenReturn(Optional.of(testWallet));
 
                 // Act
                 DepositWalletResponse response = walletService.DepositWallet(request);
@@ -261,7 +292,7 @@ class WalletServiceTest {
                 // Arrange
                 DepositWalletRequest request = DepositWalletRequest.builder()
                                 .walletId(walletId)
-                                .amount(500.0)
+                                .amount(50_000L)
                                 .source("Bank Transfer")
                                 .oppositePartyType(OppositePartyType.IBAN)
                                 .build();
@@ -274,13 +305,67 @@ class WalletServiceTest {
                 verify(transactionService, never()).CreateTransaction(any());
         }
 
+        @Test
+        @DisplayName("Should retry the whole deposit with a fresh read after an optimistic locking conflict")
+        void testDepositWallet_OptimisticConflict_RetriesAndRecordsMetrics() {
+                // Arrange
+                DepositWalletRequest request = DepositWalletRequest.builder()
+                                .walletId(walletId)
+                                .amount(50_000L)
+                                .source("Bank Transfer")
+                                .oppositePartyType(OppositePartyType.IBAN)
+                                .build();
+
+                when(walletRepository.findById(walletId)).thenReturn(Optional.of(testWallet));
+                when(transactionService.CreateTransaction(any(Transaction.class)))
+                                .thenAnswer(invocation -> invocation.getArgument(0));
+                doThrow(new ObjectOptimisticLockingFailureException(Wallet.class, walletId))
+                                .doNothing()
+                                .when(transactionManager).commit(any());
+
+                // Act
+                walletService.DepositWallet(request);
+
+                // Assert
+                verify(walletRepository, times(2)).findById(walletId);
+                verify(transactionService, times(2)).CreateTransaction(any(Transaction.class));
+                assertEquals(1.0, meterRegistry.counter("wallet.update.retries", "operation",
+                                TransactionType.DEPOSIT.name()).count());
+                assertEquals(1.0, meterRegistry.counter("wallet.update.conflicts", "operation",
+                                TransactionType.DEPOSIT.name()).count());
+        }
+
+        @Test
+        @DisplayName("Should give up on a deposit after the configured number of conflicting attempts")
+        void testDepositWallet_PersistentConflict_ThrowsAfterMaxAttempts() {
+                // Arrange
+                DepositWalletRequest request = DepositWalletRequest.builder()
+                                .walletId(walletId)
+                                .amount(50_000L)
+                                .source("Bank Transfer")
+                                .oppositePartyType(OppositePartyType.IBAN)
+                                .build();
+
+                when(walletRepository.findById(walletId)).thenReturn(Optional.of(testWallet));
+                when(transactionService.CreateTransaction(any(Transaction.class)))
+                                .thenAnswer(invocation -> invocation.getArgument(0));
+                doThrow(new ObjectOptimisticLockingFailureException(Wallet.class, walletId))
+                                .when(transactionManager).commit(any());
+
+                // Act & Assert
+                assertThrows(ObjectOptimisticLockingFailureException.class, () -> walletService.DepositWallet(request));
+                verify(walletRepository, times(3)).findById(walletId);
+                assertEquals(1.0, meterRegistry.counter("wallet.update.retries.exhausted", "operation",
+                                TransactionType.DEPOSIT.name()).count());
+        }
+
         // ============== WithdrawWallet Tests ==============
 
         @Test
         @DisplayName("Should withdraw successfully when amount is below limit and withdrawal is active")
         void testWithdrawWallet_ValidAmount_WithdrawsSuccessfully() {
                 // Arrange
-                double withdrawAmount = 500.0;
+                long withdrawAmount = 50_000L;
                 WithdrawWalletRequest request = WithdrawWalletRequest.builder()
                                 .walletId(walletId)
                                 .amount(withdrawAmount)
@@ -300,7 +385,6 @@ class WalletServiceTest {
 
                 when(walletRepository.findById(walletId)).thenReturn(Optional.of(testWallet));
                 when(transactionService.CreateTransaction(any(Transaction.class))).thenReturn(expectedTransaction);
-                when(walletRepository.findById(walletId)).thenReturn(Optional.of(testWallet));
 
                 // Act
                 WithdrawWalletResponse response = walletService.WithdrawWallet(request, testUserDetails);
@@ -316,7 +400,7 @@ class WalletServiceTest {
         @DisplayName("Should create pending withdrawal when amount exceeds limit")
         void testWithdrawWallet_AmountExceedsLimit_CreatesPendingTransaction() {
                 // Arrange
-                double withdrawAmount = WalletConstants.AMOUNT_LIMIT + 500.0;
+                long withdrawAmount = Currency.TRY.toMinorUnits(WalletConstants.AMOUNT_LIMIT_MAJOR_UNITS) + 50_000L;
                 WithdrawWalletRequest request = WithdrawWalletRequest.builder()
                                 .walletId(walletId)
                                 .amount(withdrawAmount)
@@ -336,7 +420,6 @@ class WalletServiceTest {
 
                 when(walletRepository.findById(walletId)).thenReturn(Optional.of(testWallet));
                 when(transactionService.CreateTransaction(any(Transaction.class))).thenReturn(expectedTransaction);
-                when(walletRepository.findById(walletId)).thenReturn(Optional.of(testWallet));
 
                 // Act
                 WithdrawWalletResponse response = walletService.WithdrawWallet(request, testUserDetails);
@@ -356,15 +439,15 @@ class WalletServiceTest {
                                 .customer(testCustomer)
                                 .walletName("Main Wallet")
                                 .currency(Currency.TRY)
-                                .balance(5000.0)
-                                .usableBalance(5000.0)
+                                .balance(500_000L)
+                                .usableBalance(500_000L)
                                 .isActiveShopping(true)
                                 .isActiveWithdraw(false)
                                 .build();
 
                 WithdrawWalletRequest request = WithdrawWalletRequest.builder()
                                 .walletId(walletId)
-                                .amount(500.0)
+                                .amount(50_000L)
                                 .destination("Account XYZ")
                                 .oppositePartyType(OppositePartyType.IBAN)
                                 .build();
@@ -375,6 +458,7 @@ class WalletServiceTest {
                 assertThrows(WithdrawalDeniedException.class,
                                 () -> walletService.WithdrawWallet(request, testUserDetails));
                 verify(transactionService, never()).CreateTransaction(any());
+                verify(walletMetrics).withdrawalDenied("withdraw_disabled");
         }
 
         @Test
@@ -386,15 +470,15 @@ class WalletServiceTest {
                                 .customer(testCustomer)
                                 .walletName("Main Wallet")
                                 .currency(Currency.TRY)
-                                .balance(5000.0)
-                                .usableBalance(5000.0)
+                                .balance(500_000L)
+                                .usableBalance(500_000L)
                                 .isActiveShopping(false)
                                 .isActiveWithdraw(true)
                                 .build();
 
                 WithdrawWalletRequest request = WithdrawWalletRequest.builder()
                                 .walletId(walletId)
-                                .amount(500.0)
+                                .amount(50_000L)
                                 .destination("Merchant ABC")
                                 .oppositePartyType(OppositePartyType.PAYMENT)
                                 .build();
@@ -413,7 +497,7 @@ class WalletServiceTest {
                 // Arrange
                 WithdrawWalletRequest request = WithdrawWalletRequest.builder()
                                 .walletId(walletId)
-                                .amount(500.0)
+                                .amount(50_000L)
                                 .destination("Account XYZ")
                                 .oppositePartyType(OppositePartyType.IBAN)
                                 .build();
@@ -429,7 +513,7 @@ class WalletServiceTest {
         @DisplayName("Should allow shopping payment when wallet is active for shopping")
         void testWithdrawWallet_ShoppingPaymentActiveWallet_Succeeds() {
                 // Arrange
-                double paymentAmount = 250.0;
+                long paymentAmount = 25_000L;
                 WithdrawWalletRequest request = WithdrawWalletRequest.builder()
                                 .walletId(walletId)
                                 .amount(paymentAmount)
@@ -449,7 +533,6 @@ class WalletServiceTest {
 
                 when(walletRepository.findById(walletId)).thenReturn(Optional.of(testWallet));
                 when(transactionService.CreateTransaction(any(Transaction.class))).thenReturn(expectedTransaction);
-                when(walletRepository.findById(walletId)).thenReturn(Optional.of(testWallet));
 
                 // Act
                 WithdrawWalletResponse response = walletService.WithdrawWallet(request, testUserDetails);
@@ -476,7 +559,7 @@ class WalletServiceTest {
 
                 WithdrawWalletRequest request = WithdrawWalletRequest.builder()
                                 .walletId(walletId)
-                                .amount(500.0)
+                                .amount(50_000L)
                                 .destination("Account XYZ")
                                 .oppositePartyType(OppositePartyType.IBAN)
                                 .build();
@@ -484,7 +567,7 @@ class WalletServiceTest {
                 Transaction expectedTransaction = Transaction.builder()
                                 .id(UUID.randomUUID())
                                 .wallet(testWallet)
-                                .amount(500.0)
+                                .amount(50_000L)
                                 .type(TransactionType.WITHDRAW)
                                 .status(TransactionStatus.APPROVED)
                                 .oppositeParty("Account XYZ")
@@ -493,7 +576,6 @@ class WalletServiceTest {
 
                 when(walletRepository.findById(walletId)).thenReturn(Optional.of(testWallet));
                 when(transactionService.CreateTransaction(any(Transaction.class))).thenReturn(expectedTransaction);
-                when(walletRepository.findById(walletId)).thenReturn(Optional.of(testWallet));
 
                 // Act
                 WithdrawWalletResponse response = walletService.WithdrawWallet(request, walletOwner);
@@ -520,7 +602,7 @@ class WalletServiceTest {
 
                 WithdrawWalletRequest request = WithdrawWalletRequest.builder()
                                 .walletId(walletId)
-                                .amount(500.0)
+                                .amount(50_000L)
                                 .destination("Account XYZ")
                                 .oppositePartyType(OppositePartyType.IBAN)
                                 .build();
@@ -582,7 +664,7 @@ class WalletServiceTest {
                 // Arrange
                 WithdrawWalletRequest request = WithdrawWalletRequest.builder()
                                 .walletId(walletId)
-                                .amount(500.0)
+                                .amount(50_000L)
                                 .destination("Account XYZ")
                                 .oppositePartyType(OppositePartyType.IBAN)
                                 .build();
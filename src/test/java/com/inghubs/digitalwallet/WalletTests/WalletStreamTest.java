@@ -0,0 +1,142 @@
+package com.inghubs.digitalwallet.WalletTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.inghubs.digitalwallet.dtos.requests.DepositWalletRequest;
+import com.inghubs.digitalwallet.entities.*;
+import com.inghubs.digitalwallet.outbox.OutboxRelay;
+import com.inghubs.digitalwallet.repositories.*;
+import com.inghubs.digitalwallet.services.WalletService;
+import com.inghubs.digitalwallet.utilities.enums.*;
+import com.inghubs.digitalwallet.utilities.security.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:wallet-stream;DB_CLOSE_DELAY=-1",
+        "wallet.outbox.relay-interval=86400000"
+})
+@DisplayName("Wallet Stream Tests")
+class WalletStreamTest {
+
+        private static final UUID SEEDED_CUSTOMER_ID = UUID.fromString("9ff06c7d-0790-4de5-b5a5-f0584aa4255f");
+        private static final UUID SEEDED_EMPLOYEE_CUSTOMER_ID = UUID.fromString("0cce49ae-bba0-49aa-a138-59afdeeba061");
+
+        @Value("${local.server.port}")
+        private int port;
+
+        @Autowired
+        private WalletService walletService;
+
+        @Autowired
+        private OutboxRelay outboxRelay;
+
+        @Autowired
+        private WalletRepository walletRepository;
+
+        @Autowired
+        private CustomerRepository customerRepository;
+
+        @Autowired
+        private CustomUserDetailsService userDetailsService;
+
+        @Autowired
+        private JwtUtility jwtUtility;
+
+        private final HttpClient httpClient = HttpClient.newHttpClient();
+        private UUID walletId;
+        private String customerToken;
+
+        @BeforeEach
+        void setUp() {
+                outboxRelay.relay();
+
+                Customer customer = customerRepository.findById(SEEDED_CUSTOMER_ID).orElseThrow();
+                walletId = walletRepository.save(Wallet.builder()
+                                .customer(customer)
+                                .walletName("Streamed Wallet")
+                                .currency(Currency.TRY)
+                                .isActiveShopping(true)
+                                .isActiveWithdraw(true)
+                                .build()).getId();
+
+                customerToken = jwtUtility.generateToken(
+                                (CustomUserDetails) userDetailsService.loadUserByUsername("Customer1User"));
+        }
+
+        @Test
+        @DisplayName("Should push a snapshot and then committed balance changes")
+        void testStreamWallets_Deposit_PushesBalanceChanged() throws Exception {
+                // Arrange
+                BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+                HttpResponse<Stream<String>> response = httpClient.send(this.streamRequest(SEEDED_CUSTOMER_ID, customerToken),
+                                HttpResponse.BodyHandlers.ofLines());
+                assertEquals(200, response.statusCode());
+                Thread.ofVirtual().start(() -> response.body().forEach(lines::add));
+                this.awaitLine(lines, "event:snapshot");
+
+                // Act
+                walletService.DepositWallet(DepositWalletRequest.builder()
+                                .walletId(walletId)
+                                .amount(1_000L)
+                                .source("Payroll")
+                                .oppositePartyType(OppositePartyType.IBAN)
+                                .build());
+                outboxRelay.relay();
+
+                // Assert
+                this.awaitLine(lines, "event:" + OutboxEventType.TRANSACTION_STATUS_CHANGED.name());
+                this.awaitLine(lines, "event:" + OutboxEventType.BALANCE_CHANGED.name());
+                String data = this.awaitLine(lines, "data:");
+                assertTrue(data.contains(walletId.toString()));
+                assertTrue(data.contains("\"usableBalance\":1000"));
+                response.body().close();
+        }
+
+        @Test
+        @DisplayName("Should refuse to stream another customer's wallets")
+        void testStreamWallets_OtherCustomer_ReturnsForbidden() throws Exception {
+                // Act
+                HttpResponse<String> response = httpClient.send(
+                                this.streamRequest(SEEDED_EMPLOYEE_CUSTOMER_ID, customerToken),
+                                HttpResponse.BodyHandlers.ofString());
+
+                // Assert
+                assertEquals(403, response.statusCode());
+        }
+
+        private HttpRequest streamRequest(UUID customerId, String token) {
+                return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/wallet/" + customerId + "/stream"))
+                                .header("Authorization", "Bearer " + token)
+                                .header("Accept", "text/event-stream")
+                                .GET()
+                                .build();
+        }
+
+        private String awaitLine(BlockingQueue<String> lines, String prefix) throws InterruptedException {
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                while (System.nanoTime() < deadline) {
+                        String line = lines.poll(100, TimeUnit.MILLISECONDS);
+                        if (line != null && line.startsWith(prefix)) {
+                                return line;
+                        }
+                }
+                fail("No line starting with '" + prefix + "' within 10 seconds");
+                return null;
+        }
+}
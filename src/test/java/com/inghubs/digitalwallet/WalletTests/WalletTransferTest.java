@@ -0,0 +1,200 @@
+package com.inghubs.digitalwallet.WalletTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.inghubs.digitalwallet.dtos.requests.*;
+import com.inghubs.digitalwallet.dtos.responses.*;
+import com.inghubs.digitalwallet.entities.*;
+import com.inghubs.digitalwallet.repositories.*;
+import com.inghubs.digitalwallet.services.WalletService;
+import com.inghubs.digitalwallet.utilities.enums.*;
+import com.inghubs.digitalwallet.utilities.exceptions.*;
+import com.inghubs.digitalwallet.utilities.security.CustomUserDetails;
+
+@SpringBootTest
+@DisplayName("Wallet Transfer Tests")
+class WalletTransferTest {
+
+        private static final UUID SEEDED_CUSTOMER_ID = UUID.fromString("9ff06c7d-0790-4de5-b5a5-f0584aa4255f");
+
+        @Autowired
+        private WalletService walletService;
+
+        @Autowired
+        private WalletRepository walletRepository;
+
+        @Autowired
+        private CustomerRepository customerRepository;
+
+        @Autowired
+        private TransactionRepository transactionRepository;
+
+        private Customer customer;
+        private UUID firstWalletId;
+        private UUID secondWalletId;
+        private CustomUserDetails owner;
+
+        @BeforeEach
+        void setUp() {
+                customer = customerRepository.findById(SEEDED_CUSTOMER_ID).orElseThrow();
+                firstWalletId = this.createWallet(Currency.TRY, true, 50_000L).getId();
+                secondWalletId = this.createWallet(Currency.TRY, true, 50_000L).getId();
+
+                owner = CustomUserDetails.builder()
+                                .id(UUID.randomUUID())
+                                .customerId(SEEDED_CUSTOMER_ID)
+                                .username("transfer")
+                                .role(Role.CUSTOMER)
+                                .build();
+        }
+
+        @Test
+        @DisplayName("Should debit the source, credit the destination and link both transactions")
+        void testTransferWallet_ValidRequest_MovesFundsAndLinksTransactions() {
+                // Arrange
+                TransferWalletRequest request = TransferWalletRequest.builder()
+                                .sourceWalletId(firstWalletId)
+                                .destinationWalletId(secondWalletId)
+                                .amount(12_500L)
+                                .build();
+
+                // Act
+                TransferWalletResponse response = walletService.TransferWallet(request, owner);
+
+                // Assert
+                assertNotNull(response.getTransferId());
+                assertEquals(TransactionType.WITHDRAW, response.getWithdrawal().getType());
+                assertEquals(TransactionStatus.APPROVED, response.getWithdrawal().getStatus());
+                assertEquals(response.getTransferId(), response.getWithdrawal().getTransferId());
+                assertEquals(OppositePartyType.WALLET, response.getWithdrawal().getOppositePartyType());
+                assertEquals(secondWalletId.toString(), response.getWithdrawal().getOppositeParty());
+                assertEquals(firstWalletId, response.getSourceWallet().getId());
+                assertEquals(37_500L, response.getSourceWallet().getUsableBalance());
+
+                assertEquals(TransactionType.DEPOSIT, response.getDeposit().getType());
+                assertEquals(TransactionStatus.APPROVED, response.getDeposit().getStatus());
+                assertEquals(response.getTransferId(), response.getDeposit().getTransferId());
+                assertEquals(firstWalletId.toString(), response.getDeposit().getOppositeParty());
+
+                Transaction deposit = transactionRepository.findByTransferId(response.getTransferId()).stream()
+                                .filter(transaction -> transaction.getType() == TransactionType.DEPOSIT)
+                                .findFirst()
+                                .orElseThrow();
+                assertEquals(response.getDeposit().getId(), deposit.getId());
+                assertEquals(TransactionStatus.APPROVED, deposit.getStatus());
+
+                Wallet source = walletRepository.findById(firstWalletId).orElseThrow();
+                Wallet destination = walletRepository.findById(secondWalletId).orElseThrow();
+                assertEquals(37_500L, source.getBalance());
+                assertEquals(37_500L, source.getUsableBalance());
+                assertEquals(62_500L, destination.getBalance());
+                assertEquals(62_500L, destination.getUsableBalance());
+        }
+
+        @Test
+        @DisplayName("Should reject a transfer between wallets of different currencies without touching either")
+        void testTransferWallet_CurrencyMismatch_ThrowsBadRequestException() {
+                // Arrange
+                UUID euroWalletId = this.createWallet(Currency.EUR, true, 0L).getId();
+                TransferWalletRequest request = TransferWalletRequest.builder()
+                                .sourceWalletId(firstWalletId)
+                                .destinationWalletId(euroWalletId)
+                                .amount(1_000L)
+                                .build();
+
+                // Act & Assert
+                assertThrows(BadRequestException.class, () -> walletService.TransferWallet(request, owner));
+                assertEquals(50_000L, walletRepository.findById(firstWalletId).orElseThrow().getBalance());
+                assertEquals(0L, walletRepository.findById(euroWalletId).orElseThrow().getBalance());
+        }
+
+        @Test
+        @DisplayName("Should reject a transfer from a wallet with withdrawals disabled")
+        void testTransferWallet_WithdrawDisabled_ThrowsWithdrawalDeniedException() {
+                // Arrange
+                UUID lockedWalletId = this.createWallet(Currency.TRY, false, 50_000L).getId();
+                TransferWalletRequest request = TransferWalletRequest.builder()
+                                .sourceWalletId(lockedWalletId)
+                                .destinationWalletId(secondWalletId)
+                                .amount(1_000L)
+                                .build();
+
+                // Act & Assert
+                assertThrows(WithdrawalDeniedException.class, () -> walletService.TransferWallet(request, owner));
+                assertEquals(50_000L, walletRepository.findById(secondWalletId).orElseThrow().getBalance());
+        }
+
+        @Test
+        @DisplayName("Should reject a transfer to the same wallet")
+        void testTransferWallet_SameWallet_ThrowsBadRequestException() {
+                // Arrange
+                TransferWalletRequest request = TransferWalletRequest.builder()
+                                .sourceWalletId(firstWalletId)
+                                .destinationWalletId(firstWalletId)
+                                .amount(1_000L)
+                                .build();
+
+                // Act & Assert
+                assertThrows(BadRequestException.class, () -> walletService.TransferWallet(request, owner));
+        }
+
+        @Test
+        @DisplayName("Should complete opposing transfers from many virtual threads without deadlock or lost updates")
+        void testTransferWallet_ConcurrentOpposingTransfers_ConservesTotal() throws Exception {
+                // Arrange
+                int transfersEachWay = 200;
+                List<Future<?>> futures = new ArrayList<>();
+
+                // Act
+                try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                        for (int i = 0; i < transfersEachWay; i++) {
+                                futures.add(executor.submit(() -> walletService.TransferWallet(TransferWalletRequest.builder()
+                                                .sourceWalletId(firstWalletId)
+                                                .destinationWalletId(secondWalletId)
+                                                .amount(100L)
+                                                .build(), owner)));
+                                futures.add(executor.submit(() -> walletService.TransferWallet(TransferWalletRequest.builder()
+                                                .sourceWalletId(secondWalletId)
+                                                .destinationWalletId(firstWalletId)
+                                                .amount(30L)
+                                                .build(), owner)));
+                        }
+                        for (Future<?> future : futures) {
+                                future.get(30, TimeUnit.SECONDS);
+                        }
+                }
+
+                // Assert
+                Wallet first = walletRepository.findById(firstWalletId).orElseThrow();
+                Wallet second = walletRepository.findById(secondWalletId).orElseThrow();
+                assertEquals(50_000L - transfersEachWay * 70L, first.getUsableBalance());
+                assertEquals(50_000L + transfersEachWay * 70L, second.getUsableBalance());
+                assertEquals(100_000L, first.getBalance() + second.getBalance());
+        }
+
+        private Wallet createWallet(Currency currency, boolean isActiveWithdraw, long balance) {
+                return walletRepository.save(Wallet.builder()
+                                .customer(customer)
+                                .walletName("Transfer Wallet")
+                                .currency(currency)
+                                .isActiveShopping(true)
+                                .isActiveWithdraw(isActiveWithdraw)
+                                .balance(balance)
+                                .usableBalance(balance)
+                                .build());
+        }
+}